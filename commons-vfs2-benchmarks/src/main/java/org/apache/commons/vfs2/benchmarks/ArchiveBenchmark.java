@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks opening and looking up entries of zip and tar archives with 10 folders of 100 entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArchiveBenchmark {
+
+    @Param({"zip", "tar", "tgz"})
+    public String scheme;
+
+    private BenchmarkFixture fixture;
+
+    private FileObject root;
+
+    private String uri;
+
+    /**
+     * Opens the archive, which reads its index, and lists its root.
+     */
+    @Benchmark
+    public FileObject[] openArchive() throws FileSystemException {
+        fixture.getManager().closeFileSystem(root.getFileSystem());
+        root = fixture.getManager().resolveFile(uri);
+        return root.getChildren();
+    }
+
+    @Benchmark
+    public boolean resolveEntry() throws FileSystemException {
+        return root.resolveFile(BenchmarkFixture.FILE).exists();
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(scheme, null, 10, 100, 1024);
+        root = fixture.getRoot();
+        uri = root.getName().getURI();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.FilesCache;
+import org.apache.commons.vfs2.Selectors;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
+import org.apache.commons.vfs2.provider.ftp.FtpFileSystemConfigBuilder;
+import org.apache.commons.vfs2.provider.sftp.SftpFileSystemConfigBuilder;
+import org.apache.commons.vfs2.provider.sftp.TrustEveryoneUserInfo;
+import org.apache.ftpserver.FtpServer;
+import org.apache.ftpserver.FtpServerFactory;
+import org.apache.ftpserver.ftplet.FtpException;
+import org.apache.ftpserver.ftplet.UserManager;
+import org.apache.ftpserver.impl.DefaultFtpServer;
+import org.apache.ftpserver.listener.ListenerFactory;
+import org.apache.ftpserver.usermanager.PropertiesUserManagerFactory;
+import org.apache.ftpserver.usermanager.impl.BaseUser;
+import org.apache.ftpserver.usermanager.impl.ConcurrentLoginPermission;
+import org.apache.ftpserver.usermanager.impl.WritePermission;
+import org.apache.sshd.SshServer;
+import org.apache.sshd.server.filesystem.NativeFileSystemFactory;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.server.sftp.SftpSubsystem;
+import org.apache.sshd.server.shell.ProcessShellFactory;
+
+/**
+ * A file tree exposed through one scheme, with the file system manager and embedded server it needs.
+ * <p>
+ * The tree is written to a temporary directory with {@code folders} folders of {@code files} files of {@code size}
+ * bytes each, the file {@code dir0/file0.bin} is the one benchmarks read. Supported schemes are {@code file},
+ * {@code ram}, {@code zip}, {@code tar}, {@code tgz}, {@code ftp} and {@code sftp}; FTP and SFTP use an embedded Apache
+ * FtpServer and Apache SSHD server listening on a free local port.
+ * </p>
+ */
+public final class BenchmarkFixture implements AutoCloseable {
+
+    /** The file every benchmark reads, relative to the root of the tree. */
+    public static final String FILE = "dir0/file0.bin";
+
+    private static final String USER = "bench";
+
+    private static void createTar(final Path tree, final OutputStream out) throws IOException {
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(out)) {
+            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            for (final Path path : list(tree)) {
+                final TarArchiveEntry entry = new TarArchiveEntry(path.toFile(), tree.relativize(path).toString().replace('\\', '/'));
+                tar.putArchiveEntry(entry);
+                if (Files.isRegularFile(path)) {
+                    Files.copy(path, tar);
+                }
+                tar.closeArchiveEntry();
+            }
+        }
+    }
+
+    private static void createTree(final Path tree, final int folders, final int files, final int size) throws IOException {
+        final byte[] content = new byte[size];
+        Arrays.fill(content, (byte) 'x');
+        for (int d = 0; d < folders; d++) {
+            final Path folder = Files.createDirectories(tree.resolve("dir" + d));
+            for (int f = 0; f < files; f++) {
+                Files.write(folder.resolve("file" + f + ".bin"), content);
+            }
+        }
+    }
+
+    private static void createZip(final Path tree, final Path zipFile) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(zipFile))) {
+            for (final Path path : list(tree)) {
+                final String name = tree.relativize(path).toString().replace('\\', '/');
+                if (Files.isDirectory(path)) {
+                    zip.putNextEntry(new ZipEntry(name + "/"));
+                } else {
+                    zip.putNextEntry(new ZipEntry(name));
+                    Files.copy(path, zip);
+                }
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private static void delete(final Path path) throws IOException {
+        try (Stream<Path> stream = Files.walk(path)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private static Path[] list(final Path tree) throws IOException {
+        try (Stream<Path> stream = Files.walk(tree)) {
+            return stream.filter(p -> !p.equals(tree)).sorted().toArray(Path[]::new);
+        }
+    }
+
+    private final Path directory;
+
+    private final StandardFileSystemManager manager;
+
+    private final FileObject root;
+
+    private FtpServer ftpServer;
+
+    private SshServer sshServer;
+
+    /**
+     * Creates the tree and resolves its root with a new {@link StandardFileSystemManager}.
+     *
+     * @param scheme the scheme to expose the tree through.
+     * @param filesCache the files cache of the manager, {@code null} for the default.
+     * @param folders the number of folders.
+     * @param files the number of files in each folder.
+     * @param size the size of each file.
+     * @throws Exception if the tree or the server cannot be created.
+     */
+    public BenchmarkFixture(final String scheme, final FilesCache filesCache, final int folders, final int files, final int size)
+        throws Exception {
+        directory = Files.createTempDirectory("vfs-benchmark");
+        final Path tree = Files.createDirectories(directory.resolve("tree"));
+        createTree(tree, folders, files, size);
+        manager = new StandardFileSystemManager();
+        if (filesCache != null) {
+            manager.setFilesCache(filesCache);
+        }
+        manager.init();
+        root = resolveRoot(scheme, tree);
+    }
+
+    /**
+     * Closes the manager and the server, and deletes the tree.
+     */
+    @Override
+    public void close() throws Exception {
+        manager.close();
+        if (ftpServer != null) {
+            ftpServer.stop();
+        }
+        if (sshServer != null) {
+            sshServer.stop(true);
+        }
+        delete(directory);
+    }
+
+    private FileSystemOptions ftpOptions() {
+        final FileSystemOptions options = new FileSystemOptions();
+        final FtpFileSystemConfigBuilder builder = FtpFileSystemConfigBuilder.getInstance();
+        builder.setPassiveMode(options, true);
+        builder.setUserDirIsRoot(options, true);
+        return options;
+    }
+
+    /**
+     * Gets the file system manager.
+     *
+     * @return the file system manager.
+     */
+    public StandardFileSystemManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Gets the root of the tree.
+     *
+     * @return the root of the tree.
+     */
+    public FileObject getRoot() {
+        return root;
+    }
+
+    private FileObject resolveRoot(final String scheme, final Path tree) throws Exception {
+        final String treeUri = tree.toUri().toString();
+        switch (scheme.toLowerCase(Locale.ROOT)) {
+        case "file":
+            return manager.resolveFile(treeUri);
+        case "ram":
+            final FileObject ram = manager.resolveFile("ram:///tree");
+            ram.copyFrom(manager.resolveFile(treeUri), Selectors.EXCLUDE_SELF);
+            return ram;
+        case "zip":
+            final Path zipFile = directory.resolve("tree.zip");
+            createZip(tree, zipFile);
+            return manager.resolveFile("zip:" + zipFile.toUri() + "!/");
+        case "tar":
+            final Path tarFile = directory.resolve("tree.tar");
+            createTar(tree, Files.newOutputStream(tarFile));
+            return manager.resolveFile("tar:" + tarFile.toUri() + "!/");
+        case "tgz":
+            final Path tgzFile = directory.resolve("tree.tgz");
+            createTar(tree, new GZIPOutputStream(Files.newOutputStream(tgzFile)));
+            return manager.resolveFile("tgz:" + tgzFile.toUri() + "!/");
+        case "ftp":
+            return manager.resolveFile(startFtpServer(tree), ftpOptions());
+        case "sftp":
+            return manager.resolveFile(startSshServer(tree), sftpOptions());
+        default:
+            throw new IllegalArgumentException("Unsupported scheme " + scheme);
+        }
+    }
+
+    private FileSystemOptions sftpOptions() throws FileSystemException {
+        final FileSystemOptions options = new FileSystemOptions();
+        final SftpFileSystemConfigBuilder builder = SftpFileSystemConfigBuilder.getInstance();
+        builder.setStrictHostKeyChecking(options, "no");
+        builder.setUserInfo(options, new TrustEveryoneUserInfo());
+        builder.setUserDirIsRoot(options, false);
+        return options;
+    }
+
+    private String startFtpServer(final Path tree) throws FtpException {
+        final UserManager userManager = new PropertiesUserManagerFactory().createUserManager();
+        final BaseUser user = new BaseUser();
+        user.setName(USER);
+        user.setPassword(USER);
+        user.setHomeDirectory(tree.toString());
+        user.setAuthorities(Arrays.asList(new WritePermission(), new ConcurrentLoginPermission(0, 0)));
+        userManager.save(user);
+        final FtpServerFactory serverFactory = new FtpServerFactory();
+        serverFactory.setUserManager(userManager);
+        final ListenerFactory listenerFactory = new ListenerFactory();
+        listenerFactory.setPort(0);
+        serverFactory.addListener("default", listenerFactory.createListener());
+        ftpServer = serverFactory.createServer();
+        ftpServer.start();
+        final int port = ((DefaultFtpServer) ftpServer).getListener("default").getPort();
+        return String.format("ftp://%s:%s@localhost:%d/", USER, USER, port);
+    }
+
+    private String startSshServer(final Path tree) throws IOException {
+        sshServer = SshServer.setUpDefaultServer();
+        sshServer.setPort(0);
+        sshServer.setKeyPairProvider(new SimpleGeneratorHostKeyProvider(directory.resolve("key.ser").toString()));
+        sshServer.setSubsystemFactories(Collections.singletonList(new SftpSubsystem.Factory()));
+        sshServer.setPasswordAuthenticator((username, password, session) -> username.equals(password));
+        sshServer.setFileSystemFactory(new NativeFileSystemFactory());
+        // The SFTP provider runs "id -u" and "id -G" over an exec channel
+        sshServer.setCommandFactory(command -> new ProcessShellFactory(command.split(" ")).create());
+        sshServer.start();
+        final String path = tree.toAbsolutePath().toString().replace('\\', '/');
+        return String.format("sftp://%s:%s@localhost:%d%s%s", USER, USER, sshServer.getPort(), path.startsWith("/") ? "" : "/", path);
+    }
+
+}
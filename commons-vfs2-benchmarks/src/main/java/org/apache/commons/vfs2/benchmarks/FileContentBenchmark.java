@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.vfs2.FileContent;
+import org.apache.commons.vfs2.FileObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading and writing {@link FileContent} streams.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FileContentBenchmark {
+
+    /**
+     * A local file to copy to another local file.
+     */
+    @State(Scope.Benchmark)
+    public static class CopyState {
+
+        @Param({"1048576", "67108864"})
+        public int size;
+
+        private FileObject copy;
+
+        private BenchmarkFixture fixture;
+
+        private FileObject file;
+
+        @Setup
+        public void setUp() throws Exception {
+            fixture = new BenchmarkFixture("file", null, 1, 1, size);
+            file = fixture.getRoot().resolveFile(BenchmarkFixture.FILE);
+            copy = fixture.getRoot().resolveFile("copy.bin");
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            fixture.close();
+        }
+    }
+
+    /**
+     * A file to read, archives are read-only.
+     */
+    @State(Scope.Benchmark)
+    public static class ReadState {
+
+        @Param({"file", "ram", "zip", "tar", "ftp", "sftp"})
+        public String scheme;
+
+        @Param({"1024", "1048576"})
+        public int size;
+
+        private BenchmarkFixture fixture;
+
+        private FileObject file;
+
+        @Setup
+        public void setUp() throws Exception {
+            fixture = new BenchmarkFixture(scheme, null, 1, 1, size);
+            file = fixture.getRoot().resolveFile(BenchmarkFixture.FILE);
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            fixture.close();
+        }
+    }
+
+    /**
+     * A file to write.
+     */
+    @State(Scope.Benchmark)
+    public static class WriteState {
+
+        @Param({"file", "ram", "ftp", "sftp"})
+        public String scheme;
+
+        @Param({"1024", "1048576"})
+        public int size;
+
+        private byte[] content;
+
+        private BenchmarkFixture fixture;
+
+        private FileObject file;
+
+        @Setup
+        public void setUp() throws Exception {
+            fixture = new BenchmarkFixture(scheme, null, 1, 1, 1);
+            file = fixture.getRoot().resolveFile("written.bin");
+            content = new byte[size];
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            fixture.close();
+        }
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Copies with {@link FileContent#write(FileObject)}, which transfers local content through file channels.
+     */
+    @Benchmark
+    public long copy(final CopyState state) throws IOException {
+        return state.file.getContent().write(state.copy);
+    }
+
+    /**
+     * Copies through the content streams with a 4 KiB buffer, as {@link FileContent#write(FileObject)} did before.
+     */
+    @Benchmark
+    public long copyStreams(final CopyState state) throws IOException {
+        final byte[] buffer = new byte[4096];
+        long count = 0;
+        try (InputStream in = state.file.getContent().getInputStream();
+                OutputStream out = state.copy.getContent().getOutputStream()) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+                count += n;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long read(final ReadState state) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long count = 0;
+        try (InputStream in = state.file.getContent().getInputStream()) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                count += n;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public FileObject write(final WriteState state) throws IOException {
+        try (OutputStream out = state.file.getContent().getOutputStream()) {
+            out.write(state.content);
+        }
+        return state.file;
+    }
+
+}
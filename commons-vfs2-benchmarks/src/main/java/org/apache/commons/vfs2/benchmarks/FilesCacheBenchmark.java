@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FilesCache;
+import org.apache.commons.vfs2.cache.ConcurrentSoftRefFilesCache;
+import org.apache.commons.vfs2.cache.ConcurrentWeakRefFilesCache;
+import org.apache.commons.vfs2.cache.DefaultFilesCache;
+import org.apache.commons.vfs2.cache.LRUFilesCache;
+import org.apache.commons.vfs2.cache.NullFilesCache;
+import org.apache.commons.vfs2.cache.SoftRefFilesCache;
+import org.apache.commons.vfs2.cache.TinyLfuFilesCache;
+import org.apache.commons.vfs2.cache.WeakRefFilesCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks each {@link FilesCache} with several threads resolving the same files.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FilesCacheBenchmark {
+
+    /**
+     * The position of each thread in the list of names.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        String next(final String[] names) {
+            index = (index + 1) % names.length;
+            return names[index];
+        }
+    }
+
+    private static final int FILES = 64;
+
+    private static final int FOLDERS = 8;
+
+    @Param({"default", "lru", "softref", "weakref", "concurrent-softref", "concurrent-weakref", "tinylfu", "null"})
+    public String cache;
+
+    @Param({"file", "ram"})
+    public String scheme;
+
+    private BenchmarkFixture fixture;
+
+    private String[] names;
+
+    private FileObject root;
+
+    private FilesCache createFilesCache() {
+        switch (cache) {
+        case "default":
+            return new DefaultFilesCache();
+        case "lru":
+            return new LRUFilesCache(FOLDERS * FILES * 2);
+        case "softref":
+            return new SoftRefFilesCache();
+        case "weakref":
+            return new WeakRefFilesCache();
+        case "concurrent-softref":
+            return new ConcurrentSoftRefFilesCache();
+        case "concurrent-weakref":
+            return new ConcurrentWeakRefFilesCache();
+        case "tinylfu":
+            return new TinyLfuFilesCache(FOLDERS * FILES * 2);
+        case "null":
+            return new NullFilesCache();
+        default:
+            throw new IllegalArgumentException("Unsupported cache " + cache);
+        }
+    }
+
+    @Benchmark
+    public FileObject resolveFile(final Cursor cursor) throws FileSystemException {
+        return root.resolveFile(cursor.next(names));
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(scheme, createFilesCache(), FOLDERS, FILES / FOLDERS, 1);
+        root = fixture.getRoot();
+        names = new String[FILES];
+        for (int i = 0; i < FILES; i++) {
+            names[i] = "dir" + i % FOLDERS + "/file" + i / FOLDERS + ".bin";
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+}
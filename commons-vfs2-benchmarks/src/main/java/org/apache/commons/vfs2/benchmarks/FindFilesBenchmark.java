@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.Selectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link FileObject#findFiles(org.apache.commons.vfs2.FileSelector)} over a tree of 10 folders of 100
+ * files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FindFilesBenchmark {
+
+    @Param({"file", "ram", "zip", "tar", "ftp", "sftp"})
+    public String scheme;
+
+    private BenchmarkFixture fixture;
+
+    private ForkJoinPool pool;
+
+    private FileObject root;
+
+    /**
+     * Traverses the tree after dropping the cached file objects, so folders are listed again. Archive file systems
+     * keep their own index, for them this is the same as {@link #findFilesWarm()}.
+     */
+    @Benchmark
+    public FileObject[] findFilesCold() throws FileSystemException {
+        fixture.getManager().getFilesCache().clear(root.getFileSystem());
+        return fixture.getManager().resolveFile(root.getName().getURI(), root.getFileSystem().getFileSystemOptions())
+            .findFiles(Selectors.SELECT_ALL);
+    }
+
+    /**
+     * Like {@link #findFilesCold()}, but lists sibling folders concurrently on four threads.
+     */
+    @Benchmark
+    public List<FileObject> findFilesColdParallel() throws FileSystemException {
+        fixture.getManager().getFilesCache().clear(root.getFileSystem());
+        final List<FileObject> selected = new ArrayList<>();
+        fixture.getManager().resolveFile(root.getName().getURI(), root.getFileSystem().getFileSystemOptions())
+            .findFiles(Selectors.SELECT_ALL, true, selected, pool, true);
+        return selected;
+    }
+
+    /**
+     * Traverses the tree with cached file objects.
+     */
+    @Benchmark
+    public FileObject[] findFilesWarm() throws FileSystemException {
+        return root.findFiles(Selectors.SELECT_ALL);
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(scheme, null, 10, 100, 1);
+        root = fixture.getRoot();
+        pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * Like {@link #findFilesWarm()}, but streams the tree instead of collecting it.
+     */
+    @Benchmark
+    public long walkWarm() throws FileSystemException {
+        return root.walk(Selectors.SELECT_ALL, true).count();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        pool.shutdown();
+        fixture.close();
+    }
+
+}
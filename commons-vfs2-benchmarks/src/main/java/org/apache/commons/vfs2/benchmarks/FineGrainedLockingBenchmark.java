@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.impl.DefaultFileSystemConfigBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks several threads working on the files of one file system, with the file system monitor and with
+ * {@link DefaultFileSystemConfigBuilder#setFineGrainedLocking fine-grained locking}.
+ * <p>
+ * Each thread works on its own folder and files, so the only contention is the locking itself. The file objects are
+ * refreshed before each call so that the call reaches the provider.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FineGrainedLockingBenchmark {
+
+    /**
+     * The folder and file of each thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadFiles {
+
+        private static int nextFolder;
+
+        private FileObject file;
+
+        private FileObject folder;
+
+        private String name;
+
+        @Setup
+        public void setUp(final FineGrainedLockingBenchmark benchmark) throws FileSystemException {
+            final int index;
+            synchronized (ThreadFiles.class) {
+                index = nextFolder++ % FOLDERS;
+            }
+            name = "dir" + index + "/file0.bin";
+            folder = benchmark.root.resolveFile("dir" + index);
+            file = benchmark.root.resolveFile(name);
+        }
+    }
+
+    private static final int FILES = 32;
+
+    private static final int FOLDERS = 8;
+
+    private static final String PROPERTY = "vfs.fineGrainedLocking";
+
+    private BenchmarkFixture fixture;
+
+    @Param({"monitor", "fine-grained"})
+    public String locking;
+
+    private FileObject root;
+
+    @Param({"file", "ram"})
+    public String scheme;
+
+    @Benchmark
+    public FileObject[] getChildren(final ThreadFiles files) throws FileSystemException {
+        files.folder.refresh();
+        return files.folder.getChildren();
+    }
+
+    @Benchmark
+    public long getContentSize(final ThreadFiles files) throws FileSystemException {
+        files.file.refresh();
+        return files.file.getContent().getSize();
+    }
+
+    @Benchmark
+    public FileObject resolveFile(final ThreadFiles files) throws FileSystemException {
+        return root.resolveFile(files.name);
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        // The fixture resolves the root without options, the system property applies to every file system.
+        System.setProperty(PROPERTY, Boolean.toString("fine-grained".equals(locking)));
+        fixture = new BenchmarkFixture(scheme, null, FOLDERS, FILES, 1024);
+        root = fixture.getRoot();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        fixture.close();
+        System.clearProperty(PROPERTY);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.impl.DefaultFileSystemManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link DefaultFileSystemManager#resolveName(FileName, String)} and
+ * {@link DefaultFileSystemManager#resolveFile(String)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NameResolutionBenchmark {
+
+    private static final String ABSOLUTE_PATH = "/many/path/elements/../with%25esc/./any%25where/to/file.txt";
+
+    private static final String PLAIN_RELATIVE_PATH = "many/path/elements/to/file.txt";
+
+    private static final String RELATIVE_PATH = "many/path/elements/with%25esc/any%25where/to/file.txt";
+
+    @Param({"file", "ram", "ftp", "sftp"})
+    public String scheme;
+
+    private BenchmarkFixture fixture;
+
+    private DefaultFileSystemManager manager;
+
+    private FileObject root;
+
+    private FileName rootName;
+
+    private String uri;
+
+    @Benchmark
+    public FileObject resolveChildFile() throws FileSystemException {
+        return root.resolveFile(RELATIVE_PATH);
+    }
+
+    @Benchmark
+    public FileName resolveNameAbsolute() throws FileSystemException {
+        return manager.resolveName(rootName, ABSOLUTE_PATH);
+    }
+
+    @Benchmark
+    public FileName resolveNamePlainRelative() throws FileSystemException {
+        return manager.resolveName(rootName, PLAIN_RELATIVE_PATH);
+    }
+
+    @Benchmark
+    public FileName resolveNameRelative() throws FileSystemException {
+        return manager.resolveName(rootName, RELATIVE_PATH);
+    }
+
+    @Benchmark
+    public FileObject resolveUri() throws FileSystemException {
+        return manager.resolveFile(uri);
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(scheme, null, 1, 1, 1);
+        manager = fixture.getManager();
+        root = fixture.getRoot();
+        rootName = root.getName();
+        uri = root.resolveFile(RELATIVE_PATH).getName().getURI();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+}
@@ -224,6 +224,11 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
 
     private final WebdavFileSystem fileSystem;
 
+    /**
+     * The properties from the listing of the parent folder, until this file changes or is detached.
+     */
+    private volatile DavPropertySet listedProperties;
+
     protected WebdavFileObject(final AbstractFileName name, final WebdavFileSystem fileSystem) {
         super(name, fileSystem, WebdavFileSystemConfigBuilder.getInstance());
         this.fileSystem = fileSystem;
@@ -258,6 +263,15 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
         execute(method);
     }
 
+    /**
+     * Detaches this file object from its file resource.
+     */
+    @Override
+    protected void doDetach() throws Exception {
+        super.doDetach();
+        listedProperties = null;
+    }
+
     /**
      * Returns the properties of the Webdav resource.
      */
@@ -301,7 +315,7 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
      */
     @Override
     protected long doGetContentSize() throws Exception {
-        final DavProperty property = getProperty((URLFileName) getName(), DavConstants.PROPERTY_GETCONTENTLENGTH);
+        final DavProperty property = getListedProperty(DavConstants.PROPERTY_GETCONTENTLENGTH);
         if (property != null) {
             final String value = (String) property.getValue();
             return Long.parseLong(value);
@@ -315,7 +329,7 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
      */
     @Override
     protected long doGetLastModifiedTime() throws Exception {
-        final DavProperty property = getProperty((URLFileName) getName(), DavConstants.PROPERTY_GETLASTMODIFIED);
+        final DavProperty property = getListedProperty(DavConstants.PROPERTY_GETLASTMODIFIED);
         if (property != null) {
             final String value = (String) property.getValue();
             return DateUtil.parseDate(value).getTime();
@@ -334,6 +348,11 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
      */
     @Override
     protected FileType doGetType() throws Exception {
+        final DavPropertySet properties = listedProperties;
+        if (properties != null) {
+            return isCollection(properties.get(DavPropertyName.create(DavConstants.PROPERTY_RESOURCETYPE)))
+                    ? FileType.FOLDER : FileType.FILE;
+        }
         try {
             return isDirectory((URLFileName) getName()) ? FileType.FOLDER : FileType.FILE;
         } catch (final FileNotFolderException | FileNotFoundException fnfe) {
@@ -376,6 +395,11 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
             if (isDirectory(name)) {
                 final DavPropertyNameSet nameSet = new DavPropertyNameSet();
                 nameSet.add(DavPropertyName.create(DavConstants.PROPERTY_DISPLAYNAME));
+                // Fetch what the children need for getType(), getSize() and getLastModifiedTime() too,
+                // so that they do not each send a PROPFIND.
+                nameSet.add(DavPropertyName.create(DavConstants.PROPERTY_RESOURCETYPE));
+                nameSet.add(DavPropertyName.create(DavConstants.PROPERTY_GETCONTENTLENGTH));
+                nameSet.add(DavPropertyName.create(DavConstants.PROPERTY_GETLASTMODIFIED));
 
                 method = new PropFindMethod(toUrlString(name), nameSet, DavConstants.DEPTH_1);
 
@@ -393,6 +417,7 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
                             final WebdavFileObject fo = (WebdavFileObject) FileObjectUtils.getAbstractFileObject(
                                     getFileSystem().resolveFile(getFileSystem().getFileSystemManager()
                                             .resolveName(getName(), resourceName, NameScope.CHILD)));
+                            fo.listedProperties = response.getProperties(HttpStatus.SC_OK);
                             vfs.add(fo);
                         }
                     }
@@ -484,6 +509,21 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
         return new WebdavFileContentInfoFactory();
     }
 
+    /**
+     * Gets a property of this file, from the listing of the parent folder if this file was listed.
+     *
+     * @param property The name of a property fetched by the listing.
+     * @return The property, or null if the file does not have it.
+     * @throws FileSystemException if an error occurs.
+     */
+    private DavProperty getListedProperty(final String property) throws FileSystemException {
+        final DavPropertySet properties = listedProperties;
+        if (properties != null) {
+            return properties.get(DavPropertyName.create(property));
+        }
+        return getProperty((URLFileName) getName(), property);
+    }
+
     DavPropertySet getProperties(final URLFileName name) throws FileSystemException {
         return getProperties(name, DavConstants.PROPFIND_ALL_PROP, new DavPropertyNameSet(), false);
     }
@@ -550,6 +590,14 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
         }
     }
 
+    private static boolean isCollection(final DavProperty resourceType) {
+        final Node node;
+        if (resourceType != null && (node = (Node) resourceType.getValue()) != null) {
+            return node.getLocalName().equals(DavConstants.XML_COLLECTION);
+        }
+        return false;
+    }
+
     private boolean isCurrentFile(final String href, final URLFileName fileName) {
         String name = hrefString(fileName);
         if (href.endsWith("/") && !name.endsWith("/")) {
@@ -560,12 +608,7 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
 
     private boolean isDirectory(final URLFileName name) throws IOException {
         try {
-            final DavProperty property = getProperty(name, DavConstants.PROPERTY_RESOURCETYPE);
-            final Node node;
-            if (property != null && (node = (Node) property.getValue()) != null) {
-                return node.getLocalName().equals(DavConstants.XML_COLLECTION);
-            }
-            return false;
+            return isCollection(getProperty(name, DavConstants.PROPERTY_RESOURCETYPE));
         } catch (final FileNotFoundException fse) {
             throw new FileNotFolderException(name);
         }
@@ -575,6 +618,14 @@ public class WebdavFileObject extends HttpFileObject<WebdavFileSystem> {
         // TODO Consider logging.
     }
 
+    /**
+     * Called when the type or content of this file changes.
+     */
+    @Override
+    protected void onChange() throws Exception {
+        listedProperties = null;
+    }
+
     /**
      * Returns the resource name from the path.
      *
@@ -55,6 +55,7 @@ import org.apache.jackrabbit.webdav.MultiStatusResponse;
 import org.apache.jackrabbit.webdav.client.methods.BaseDavRequest;
 import org.apache.jackrabbit.webdav.client.methods.HttpCheckin;
 import org.apache.jackrabbit.webdav.client.methods.HttpCheckout;
+import org.apache.jackrabbit.webdav.client.methods.HttpCopy;
 import org.apache.jackrabbit.webdav.client.methods.HttpDelete;
 import org.apache.jackrabbit.webdav.client.methods.HttpMkcol;
 import org.apache.jackrabbit.webdav.client.methods.HttpMove;
@@ -221,6 +222,11 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
     /** The FileSystemConfigBuilder */
     private final Webdav4FileSystemConfigBuilder builder;
 
+    /**
+     * The properties from the listing of the parent folder, until this file changes or is detached.
+     */
+    private volatile DavPropertySet listedProperties;
+
 
     protected Webdav4FileObject(final AbstractFileName name, final Webdav4FileSystem fileSystem)
             throws FileSystemException {
@@ -233,6 +239,26 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
         this.builder = builder;
     }
 
+    /**
+     * Copies a file on the same server with a WebDAV COPY request, so the content is not downloaded and uploaded again.
+     */
+    @Override
+    protected boolean doCopyFrom(final FileObject srcFile) throws Exception {
+        if (!FileObjectUtils.isInstanceOf(srcFile, Webdav4FileObject.class)) {
+            return false;
+        }
+        final Webdav4FileObject source = (Webdav4FileObject) FileObjectUtils.getAbstractFileObject(srcFile);
+        if (source.getFileSystem() != getFileSystem()) {
+            return false;
+        }
+        final String url = URIUtils.encodePath(toUrlString((GenericURLFileName) source.getName()));
+        final String dest = toUrlString((GenericURLFileName) getName(), false);
+        final HttpCopy request = new HttpCopy(url, dest, true, false);
+        setupRequest(request);
+        executeRequest(request);
+        return true;
+    }
+
     /**
      * Creates this file as a folder.
      */
@@ -257,6 +283,15 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
         executeRequest(request);
     }
 
+    /**
+     * Detaches this file object from its file resource.
+     */
+    @Override
+    protected void doDetach() throws Exception {
+        super.doDetach();
+        listedProperties = null;
+    }
+
     /**
      * Returns the properties of the Webdav resource.
      */
@@ -294,7 +329,7 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
      */
     @Override
     protected long doGetContentSize() throws Exception {
-        final DavProperty<?> property = getProperty((GenericURLFileName) getName(), DavConstants.PROPERTY_GETCONTENTLENGTH);
+        final DavProperty<?> property = getListedProperty(DavConstants.PROPERTY_GETCONTENTLENGTH);
         if (property != null) {
             final String value = (String) property.getValue();
             return Long.parseLong(value);
@@ -308,7 +343,7 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
      */
     @Override
     protected long doGetLastModifiedTime() throws Exception {
-        final DavProperty<?> property = getProperty((GenericURLFileName) getName(), DavConstants.PROPERTY_GETLASTMODIFIED);
+        final DavProperty<?> property = getListedProperty(DavConstants.PROPERTY_GETLASTMODIFIED);
         if (property != null) {
             final String value = (String) property.getValue();
             return DateUtils.parseDate(value).getTime();
@@ -327,6 +362,11 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
      */
     @Override
     protected FileType doGetType() throws Exception {
+        final DavPropertySet properties = listedProperties;
+        if (properties != null) {
+            return isCollection(properties.get(DavPropertyName.create(DavConstants.PROPERTY_RESOURCETYPE)))
+                    ? FileType.FOLDER : FileType.FILE;
+        }
         try {
             return isDirectory((GenericURLFileName) getName()) ? FileType.FOLDER : FileType.FILE;
         } catch (final FileNotFolderException | FileNotFoundException fnfe) {
@@ -369,6 +409,11 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
             if (isDirectory(name)) {
                 final DavPropertyNameSet nameSet = new DavPropertyNameSet();
                 nameSet.add(DavPropertyName.create(DavConstants.PROPERTY_DISPLAYNAME));
+                // Fetch what the children need for getType(), getSize() and getLastModifiedTime() too,
+                // so that they do not each send a PROPFIND.
+                nameSet.add(DavPropertyName.create(DavConstants.PROPERTY_RESOURCETYPE));
+                nameSet.add(DavPropertyName.create(DavConstants.PROPERTY_GETCONTENTLENGTH));
+                nameSet.add(DavPropertyName.create(DavConstants.PROPERTY_GETLASTMODIFIED));
 
                 request = new HttpPropfind(toUrlString(name), nameSet, DavConstants.DEPTH_1);
 
@@ -386,6 +431,7 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
                             final Webdav4FileObject fo = (Webdav4FileObject) FileObjectUtils.getAbstractFileObject(
                                     getFileSystem().resolveFile(getFileSystem().getFileSystemManager()
                                             .resolveName(getName(), resourceName, NameScope.CHILD)));
+                            fo.listedProperties = response.getProperties(HttpStatus.SC_OK);
                             vfs.add(fo);
                         }
                     }
@@ -479,6 +525,21 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
         return new Webdav4FileContentInfoFactory();
     }
 
+    /**
+     * Gets a property of this file, from the listing of the parent folder if this file was listed.
+     *
+     * @param property The name of a property fetched by the listing.
+     * @return The property, or null if the file does not have it.
+     * @throws FileSystemException if an error occurs.
+     */
+    private DavProperty<?> getListedProperty(final String property) throws FileSystemException {
+        final DavPropertySet properties = listedProperties;
+        if (properties != null) {
+            return properties.get(DavPropertyName.create(property));
+        }
+        return getProperty((GenericURLFileName) getName(), property);
+    }
+
     DavPropertySet getProperties(final GenericURLFileName name) throws FileSystemException {
         return getProperties(name, DavConstants.PROPFIND_ALL_PROP, new DavPropertyNameSet(), false);
     }
@@ -547,6 +608,14 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
         }
     }
 
+    private static boolean isCollection(final DavProperty<?> resourceType) {
+        final Node node;
+        if (resourceType != null && (node = (Node) resourceType.getValue()) != null) {
+            return node.getLocalName().equals(DavConstants.XML_COLLECTION);
+        }
+        return false;
+    }
+
     private boolean isCurrentFile(final String href, final GenericURLFileName fileName) {
         String name = hrefString(fileName);
         if (href.endsWith("/") && !name.endsWith("/")) {
@@ -557,12 +626,7 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
 
     private boolean isDirectory(final GenericURLFileName name) throws IOException {
         try {
-            final DavProperty<?> property = getProperty(name, DavConstants.PROPERTY_RESOURCETYPE);
-            final Node node;
-            if (property != null && (node = (Node) property.getValue()) != null) {
-                return node.getLocalName().equals(DavConstants.XML_COLLECTION);
-            }
-            return false;
+            return isCollection(getProperty(name, DavConstants.PROPERTY_RESOURCETYPE));
         } catch (final FileNotFoundException fse) {
             throw new FileNotFolderException(name);
         }
@@ -572,6 +636,14 @@ public class Webdav4FileObject extends Http4FileObject<Webdav4FileSystem> {
         // TODO Consider logging
     }
 
+    /**
+     * Called when the type or content of this file changes.
+     */
+    @Override
+    protected void onChange() throws Exception {
+        listedProperties = null;
+    }
+
     /**
      * Returns the resource name from the path.
      *
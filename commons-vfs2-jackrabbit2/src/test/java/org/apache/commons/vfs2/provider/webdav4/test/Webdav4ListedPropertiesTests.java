@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.webdav4.test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.vfs2.AbstractProviderTestCase;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.DefaultFileSystemManager;
+import org.apache.commons.vfs2.provider.GenericFileName;
+import org.apache.commons.vfs2.provider.http4.Http4FileSystemConfigBuilder;
+import org.apache.commons.vfs2.provider.webdav4.Webdav4FileProvider;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.Test;
+
+/**
+ * Tests that the children of a listing answer their type, size and last modified time from the properties fetched by
+ * the listing.
+ */
+public class Webdav4ListedPropertiesTests extends AbstractProviderTestCase {
+
+    /**
+     * Counts the PROPFIND requests sent by the file systems it creates.
+     */
+    private static final class CountingWebdav4FileProvider extends Webdav4FileProvider {
+
+        private final AtomicInteger propfindCount = new AtomicInteger();
+
+        @Override
+        protected HttpClientBuilder createHttpClientBuilder(final Http4FileSystemConfigBuilder builder,
+                final GenericFileName rootName, final FileSystemOptions fileSystemOptions) throws FileSystemException {
+            return super.createHttpClientBuilder(builder, rootName, fileSystemOptions)
+                    .addInterceptorFirst((HttpRequestInterceptor) (request, context) -> {
+                        if ("PROPFIND".equals(request.getRequestLine().getMethod())) {
+                            propfindCount.incrementAndGet();
+                        }
+                    });
+        }
+    }
+
+    private CountingWebdav4FileProvider provider;
+
+    private DefaultFileSystemManager countingManager;
+
+    /**
+     * Resolves the read folder through a manager whose provider counts PROPFIND requests.
+     */
+    private FileObject resolveCountingReadFolder() throws Exception {
+        provider = new CountingWebdav4FileProvider();
+        countingManager = new DefaultFileSystemManager();
+        countingManager.addProvider("webdav4", provider);
+        countingManager.init();
+        final FileObject readFolder = getReadFolder();
+        return countingManager.resolveFile(readFolder.getName().getURI(),
+                readFolder.getFileSystem().getFileSystemOptions());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        if (countingManager != null) {
+            countingManager.close();
+            countingManager = null;
+        }
+        super.tearDown();
+    }
+
+    @Test
+    public void testChildrenUseListedProperties() throws Exception {
+        final FileObject folder = resolveCountingReadFolder();
+        final FileObject[] children = folder.getChildren();
+        assertTrue(children.length > 0);
+        final int afterListing = provider.propfindCount.get();
+
+        for (final FileObject child : children) {
+            if (child.getType().hasContent()) {
+                child.getContent().getSize();
+                child.getContent().getLastModifiedTime();
+            }
+        }
+        assertEquals(afterListing, provider.propfindCount.get());
+    }
+
+    @Test
+    public void testRefreshDropsListedProperties() throws Exception {
+        final FileObject folder = resolveCountingReadFolder();
+        final FileObject child = folder.getChild("file1.txt");
+        assertNotNull(child);
+        assertTrue(child.isFile());
+        final int afterListing = provider.propfindCount.get();
+
+        child.refresh();
+        assertTrue(child.isFile());
+        assertTrue(provider.propfindCount.get() > afterListing);
+    }
+}
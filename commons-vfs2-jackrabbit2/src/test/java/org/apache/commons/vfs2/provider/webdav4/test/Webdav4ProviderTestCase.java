@@ -237,6 +237,12 @@ public class Webdav4ProviderTestCase extends AbstractProviderTestConfig {
 
     public static Test suite() throws Exception {
         return new ProviderTestSuite(new Webdav4ProviderTestCase()) {
+            @Override
+            protected void addBaseTests() throws Exception {
+                super.addBaseTests();
+                addTests(Webdav4ListedPropertiesTests.class);
+            }
+
             @Override
             protected void setUp() throws Exception {
                 if (getSystemTestUriOverride() == null) {
@@ -35,7 +35,17 @@ public enum CacheStrategy {
      * Refresh the data every time you call a method on the fileObject. You'll use this only if you really need the
      * latest info as this setting is a major performance loss.
      */
-    ON_CALL("oncall");
+    ON_CALL("oncall"),
+
+    /**
+     * Refresh the data when you call a method on the fileObject after its time to live expired. This bounds how stale
+     * the data can get without a round trip on every call.
+     *
+     * @see org.apache.commons.vfs2.impl.DefaultFileSystemConfigBuilder#setCacheTimeToLive(FileSystemOptions,
+     *      java.time.Duration)
+     * @since 2.10.0
+     */
+    TTL("ttl");
 
     /**
      * Cache strategy name
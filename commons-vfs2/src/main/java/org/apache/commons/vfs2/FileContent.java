@@ -20,12 +20,17 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.security.cert.Certificate;
 import java.util.Arrays;
 import java.util.Map;
 
 import org.apache.commons.vfs2.provider.AbstractFileObject;
+import org.apache.commons.vfs2.util.RandomAccessContentChannel;
 import org.apache.commons.vfs2.util.RandomAccessMode;
 
 /**
@@ -265,6 +270,36 @@ public interface FileContent extends Closeable {
      */
     RandomAccessContent getRandomAccessContent(RandomAccessMode mode) throws FileSystemException;
 
+    /**
+     * Gets a channel for reading the content of the file sequentially.
+     * <p>
+     * The default implementation returns a channel on {@link #getInputStream()}.
+     * </p>
+     *
+     * @return the channel for reading the file's content.
+     * @throws FileSystemException If the file does not exist, or is being written, or on error opening the channel.
+     * @since 2.10.0
+     */
+    default ReadableByteChannel getReadableByteChannel() throws FileSystemException {
+        return Channels.newChannel(getInputStream());
+    }
+
+    /**
+     * Gets a channel for reading and writing the content of the file at any position.
+     * <p>
+     * The default implementation returns a channel on {@link #getRandomAccessContent(RandomAccessMode)}.
+     * </p>
+     *
+     * @param mode The mode to use to access the file.
+     * @return the channel for reading and writing the file's content.
+     * @throws FileSystemException If the file is read-only, or is being read, or is being written, or on error opening
+     *         the channel.
+     * @since 2.10.0
+     */
+    default SeekableByteChannel getSeekableByteChannel(final RandomAccessMode mode) throws FileSystemException {
+        return new RandomAccessContentChannel(getRandomAccessContent(mode), mode);
+    }
+
     /**
      * Gets the size of the file, in bytes.
      *
@@ -393,4 +428,19 @@ public interface FileContent extends Closeable {
      */
     long write(OutputStream output, int bufferSize) throws IOException;
 
+    /**
+     * Writes this content to a channel.
+     * <p>
+     * The default implementation writes through {@link Channels#newOutputStream(WritableByteChannel)}.
+     * </p>
+     *
+     * @param output The target channel, which must be in blocking mode.
+     * @return the total number of bytes written
+     * @throws IOException if an error occurs writing the content.
+     * @since 2.10.0
+     */
+    default long write(final WritableByteChannel output) throws IOException {
+        return write(Channels.newOutputStream(output));
+    }
+
 }
@@ -23,8 +23,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.vfs2.operations.FileOperations;
+import org.apache.commons.vfs2.provider.FileTreeIterator;
 
 /**
  * Represents a file, and is used to access the content and structure of the file.
@@ -223,6 +230,56 @@ public interface FileObject extends Comparable<FileObject>, Iterable<FileObject>
      */
     void findFiles(FileSelector selector, boolean depthwise, List<FileObject> selected) throws FileSystemException;
 
+    /**
+     * Finds the set of matching descendants of this file, listing sibling folders concurrently.
+     * <p>
+     * Each folder is listed by a task submitted to the given executor, for example a {@link ForkJoinPool} or, on Java
+     * 21 and above, a virtual thread per task executor. The selector sees the same {@link FileSelectInfo} base folder
+     * and depth as with {@link #findFiles(FileSelector, boolean, List)}, and folders it does not traverse are not
+     * listed, but it may be called from several threads at once and must be thread-safe.
+     * </p>
+     * <p>
+     * The default implementation traverses sequentially in the calling thread.
+     * </p>
+     *
+     * @param selector the selector used to determine if the file should be selected.
+     * @param depthwise controls the ordering in the list. e.g. deepest first.
+     * @param selected container for selected files. list needs not to be empty.
+     * @param executor runs the listing tasks.
+     * @param ordered if true, files are added in the same order as {@link #findFiles(FileSelector, boolean, List)};
+     *        otherwise in the order they are selected, which varies from run to run.
+     * @throws FileSystemException if an error occurs.
+     * @since 2.10.0
+     */
+    default void findFiles(final FileSelector selector, final boolean depthwise, final List<FileObject> selected,
+            final Executor executor, final boolean ordered) throws FileSystemException {
+        findFiles(selector, depthwise, selected);
+    }
+
+    /**
+     * Finds the set of matching descendants of this file, listing sibling folders concurrently on a new
+     * {@link ForkJoinPool} with the given parallelism, which is shut down before returning.
+     *
+     * @param selector the selector used to determine if the file should be selected.
+     * @param depthwise controls the ordering in the list. e.g. deepest first.
+     * @param selected container for selected files. list needs not to be empty.
+     * @param parallelism the maximum number of folders listed at once.
+     * @param ordered if true, files are added in the same order as {@link #findFiles(FileSelector, boolean, List)};
+     *        otherwise in the order they are selected, which varies from run to run.
+     * @throws FileSystemException if an error occurs.
+     * @see #findFiles(FileSelector, boolean, List, Executor, boolean)
+     * @since 2.10.0
+     */
+    default void findFiles(final FileSelector selector, final boolean depthwise, final List<FileObject> selected,
+            final int parallelism, final boolean ordered) throws FileSystemException {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            findFiles(selector, depthwise, selected, pool, ordered);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     /**
      * Returns a child of this file. Note that this method returns {@code null} when the child does not exist. This
      * differs from {@link #resolveFile(String, NameScope)} which never returns null.
@@ -482,4 +539,44 @@ public interface FileObject extends Comparable<FileObject>, Iterable<FileObject>
      * @since 2.1
      */
     boolean setWritable(boolean writable, boolean ownerOnly) throws FileSystemException;
+
+    /**
+     * Returns a lazily populated stream of the matching descendants of this file.
+     *
+     * @param selector the selector used to determine if the file should be selected.
+     * @param depthwise if true files are returned after their descendants, before otherwise.
+     * @return the matching files, or an empty stream if this file does not exist.
+     * @throws FileSystemException if an error occurs.
+     * @see #walk(FileSelector, boolean, int)
+     * @since 2.10.0
+     */
+    default Stream<FileObject> walk(final FileSelector selector, final boolean depthwise) throws FileSystemException {
+        return walk(selector, depthwise, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a lazily populated stream of the matching descendants of this file, down to the given depth.
+     * <p>
+     * Unlike {@link #findFiles(FileSelector, boolean, List)}, folders are listed as the stream is consumed, so an
+     * operation such as {@link Stream#findFirst()} stops the traversal early. Errors listing a folder are thrown as an
+     * {@link java.io.UncheckedIOException} wrapping a {@link FileSystemException} by the operation that reaches it.
+     * </p>
+     *
+     * @param selector the selector used to determine if the file should be selected.
+     * @param depthwise if true files are returned after their descendants, before otherwise.
+     * @param maxDepth the maximum depth to visit, where this file is at depth 0.
+     * @return the matching files, or an empty stream if this file does not exist.
+     * @throws FileSystemException if an error occurs.
+     * @see FileTreeIterator
+     * @since 2.10.0
+     */
+    default Stream<FileObject> walk(final FileSelector selector, final boolean depthwise, final int maxDepth)
+            throws FileSystemException {
+        if (!exists()) {
+            return Stream.empty();
+        }
+        final FileTreeIterator iterator = new FileTreeIterator(this, selector, depthwise, maxDepth);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.ORDERED), false);
+    }
 }
@@ -17,8 +17,10 @@
 package org.apache.commons.vfs2;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -108,6 +110,12 @@ public final class FileSystemOptions implements Cloneable, Comparable<FileSystem
     /** The options */
     private final Map<FileSystemOptionKey, Object> options;
 
+    /** Whether the options can no longer change, see {@link #freeze()}. */
+    private final boolean frozen;
+
+    /** The cached hash code, zero if not computed since the last change. */
+    private volatile int hash;
+
     /**
      * Constructs a new instance.
      */
@@ -122,7 +130,12 @@ public final class FileSystemOptions implements Cloneable, Comparable<FileSystem
      * @since 2.10.0
      */
     public FileSystemOptions(final Map<FileSystemOptionKey, Object> options) {
+        this(options, false);
+    }
+
+    private FileSystemOptions(final Map<FileSystemOptionKey, Object> options, final boolean frozen) {
         this.options = options;
+        this.frozen = frozen;
     }
 
     /**
@@ -190,7 +203,37 @@ public final class FileSystemOptions implements Cloneable, Comparable<FileSystem
             return false;
         }
         final FileSystemOptions other = (FileSystemOptions) obj;
-        return compareTo(other) == 0;
+        if (options.size() != other.options.size() || hashCode() != other.hashCode()) {
+            return false;
+        }
+        for (final Map.Entry<FileSystemOptionKey, Object> entry : options.entrySet()) {
+            final Object otherValue = other.options.get(entry.getKey());
+            if (otherValue == null && !other.options.containsKey(entry.getKey())
+                    || !Objects.deepEquals(entry.getValue(), otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns frozen options equal to these options.
+     * <p>
+     * Frozen options cannot change: setting an option on them throws {@link UnsupportedOperationException}, and their
+     * hash code is computed once. This makes them safe and cheap to use as part of a cache key, for example to find
+     * the file system created for some options.
+     * </p>
+     *
+     * @return these options if they are frozen, or else a frozen copy of them.
+     * @since 2.10.0
+     */
+    public FileSystemOptions freeze() {
+        if (frozen) {
+            return this;
+        }
+        final FileSystemOptions frozenOptions = new FileSystemOptions(Collections.unmodifiableMap(new TreeMap<>(options)), true);
+        frozenOptions.hashCode();
+        return frozenOptions;
     }
 
     <T> T getOption(final Class<? extends FileSystem> fileSystemClass, final String name) {
@@ -199,16 +242,13 @@ public final class FileSystemOptions implements Cloneable, Comparable<FileSystem
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        if (options == null) {
-            result = prime * result;
-        } else {
-            final SortedMap<FileSystemOptionKey, Object> myOptions = options instanceof SortedMap
-                    ? (SortedMap<FileSystemOptionKey, Object>) options
-                    : new TreeMap<>(options);
-            result = prime * result + myOptions.keySet().hashCode();
-            result = prime * result + Arrays.deepHashCode(myOptions.values().toArray());
+        int result = hash;
+        if (result == 0) {
+            // Independent of the order of the options, like Map.hashCode(), and deep for array values
+            for (final Map.Entry<FileSystemOptionKey, Object> entry : options.entrySet()) {
+                result += entry.getKey().hashCode() ^ Arrays.deepHashCode(new Object[] { entry.getValue() });
+            }
+            hash = result;
         }
         return result;
     }
@@ -217,8 +257,20 @@ public final class FileSystemOptions implements Cloneable, Comparable<FileSystem
         return options.containsKey(new FileSystemOptionKey(fileSystemClass, name));
     }
 
+    /**
+     * Tests whether these options are frozen.
+     *
+     * @return whether these options can no longer change.
+     * @see #freeze()
+     * @since 2.10.0
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     void setOption(final Class<? extends FileSystem> fileSystemClass, final String name, final Object value) {
         options.put(new FileSystemOptionKey(fileSystemClass, name), value);
+        hash = 0;
     }
 
     int size() {
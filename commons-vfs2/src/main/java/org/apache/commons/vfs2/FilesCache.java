@@ -16,6 +16,8 @@
  */
 package org.apache.commons.vfs2;
 
+import org.apache.commons.lang3.function.FailableFunction;
+
 /**
  * The fileCache interface. Implementations of this interface are expected to be thread safe.
  */
@@ -33,6 +35,37 @@ public interface FilesCache {
      */
     void close();
 
+    /**
+     * Retrieves a FileObject from the cache by name, or creates and adds it if it isn't already present.
+     * <p>
+     * When several threads race on a name that is not cached, all threads get the same file object. The default
+     * implementation runs the {@code creator} without holding a lock, so that creating a file does not wait for the
+     * files of other names; a racing thread may create a file that is then dropped in favor of the one that was added
+     * first. Implementations that can create each file only once without a global lock should override it.
+     * </p>
+     *
+     * @param fileSystem The FileSystem.
+     * @param fileName the name
+     * @param creator creates the file object if it is not cached.
+     * @return the cached or created file object.
+     * @throws FileSystemException if the creator fails.
+     * @since 2.10.0
+     */
+    default FileObject computeFileIfAbsent(final FileSystem fileSystem, final FileName fileName,
+        final FailableFunction<FileName, FileObject, FileSystemException> creator) throws FileSystemException {
+        final FileObject cached = getFile(fileSystem, fileName);
+        if (cached != null) {
+            return cached;
+        }
+        final FileObject file = creator.apply(fileName);
+        if (putFileIfAbsent(file)) {
+            return file;
+        }
+        // Another thread added the file first
+        final FileObject winner = getFile(fileSystem, fileName);
+        return winner != null ? winner : file;
+    }
+
     /**
      * Retrieves a FileObject from the cache by name.
      *
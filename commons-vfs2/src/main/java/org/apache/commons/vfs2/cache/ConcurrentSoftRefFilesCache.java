@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.cache;
+
+import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.io.function.Uncheck;
+import org.apache.commons.lang3.function.FailableFunction;
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystem;
+import org.apache.commons.vfs2.FileSystemException;
+
+/**
+ * This implementation caches every file as long as it is strongly reachable by the JVM. As soon as the JVM needs
+ * memory - every softly reachable file will be discarded.
+ * <p>
+ * Unlike {@link SoftRefFilesCache}, this implementation doesn't lock: the files are kept in a
+ * {@linkplain ConcurrentHashMap ConcurrentHashMap} per file system, and the entries of discarded files are removed by
+ * the threads adding files instead of by a dedicated thread.
+ * </p>
+ *
+ * @see SoftReference
+ * @since 2.10.0
+ */
+public class ConcurrentSoftRefFilesCache extends AbstractFilesCache {
+
+    private final ConcurrentMap<FileSystem, ConcurrentMap<FileName, Reference<FileObject>>> fileSystemCache =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<Reference<FileObject>, FileSystemAndNameKey> refReverseMap = new ConcurrentHashMap<>();
+    private final ReferenceQueue<FileObject> refQueue = new ReferenceQueue<>();
+
+    /**
+     * Constructs a new instance.
+     */
+    public ConcurrentSoftRefFilesCache() {
+        // empty
+    }
+
+    @Override
+    public void clear(final FileSystem fileSystem) {
+        final ConcurrentMap<FileName, Reference<FileObject>> files = fileSystemCache.remove(fileSystem);
+        if (files != null) {
+            files.values().forEach(refReverseMap::remove);
+            files.clear(); // help GC
+        }
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        fileSystemCache.clear();
+        refReverseMap.clear();
+        while (refQueue.poll() != null) {
+            // discard
+        }
+    }
+
+    @Override
+    public FileObject computeFileIfAbsent(final FileSystem fileSystem, final FileName fileName,
+        final FailableFunction<FileName, FileObject, FileSystemException> creator) throws FileSystemException {
+        final FileObject cached = getFile(fileSystem, fileName);
+        if (cached != null) {
+            return cached;
+        }
+        removeReleasedFiles();
+        // Keeps the file strongly reachable until it is returned
+        final FileObject[] file = new FileObject[1];
+        try {
+            getOrCreateFilesystemCache(fileSystem).compute(fileName, (name, ref) -> {
+                file[0] = ref != null ? ref.get() : null;
+                if (file[0] != null) {
+                    return ref;
+                }
+                file[0] = Uncheck.apply(creator::apply, name);
+                return replaceReference(ref, file[0]);
+            });
+        } catch (final UncheckedIOException e) {
+            throw (FileSystemException) e.getCause();
+        }
+        return file[0];
+    }
+
+    /**
+     * Creates the reference to a cached file.
+     *
+     * @param file The file.
+     * @param refQueue The queue the reference must be registered with.
+     * @return A reference to the file.
+     */
+    protected Reference<FileObject> createReference(final FileObject file, final ReferenceQueue<FileObject> refQueue) {
+        return new SoftReference<>(file, refQueue);
+    }
+
+    @Override
+    public FileObject getFile(final FileSystem fileSystem, final FileName fileName) {
+        final ConcurrentMap<FileName, Reference<FileObject>> files = fileSystemCache.get(fileSystem);
+        if (files == null) {
+            return null;
+        }
+        final Reference<FileObject> ref = files.get(fileName);
+        if (ref == null) {
+            return null;
+        }
+        final FileObject file = ref.get();
+        if (file == null && files.remove(fileName, ref)) {
+            refReverseMap.remove(ref);
+        }
+        return file;
+    }
+
+    private ConcurrentMap<FileName, Reference<FileObject>> getOrCreateFilesystemCache(final FileSystem fileSystem) {
+        return fileSystemCache.computeIfAbsent(fileSystem, k -> new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void putFile(final FileObject file) {
+        removeReleasedFiles();
+        getOrCreateFilesystemCache(file.getFileSystem()).compute(file.getName(),
+                (name, ref) -> replaceReference(ref, file));
+    }
+
+    @Override
+    public boolean putFileIfAbsent(final FileObject file) {
+        removeReleasedFiles();
+        final boolean[] stored = new boolean[1];
+        getOrCreateFilesystemCache(file.getFileSystem()).compute(file.getName(), (name, ref) -> {
+            if (ref != null && ref.get() != null) {
+                return ref;
+            }
+            stored[0] = true;
+            return replaceReference(ref, file);
+        });
+        return stored[0];
+    }
+
+    /**
+     * Removes the entries of the files the JVM discarded.
+     */
+    private void removeReleasedFiles() {
+        Reference<? extends FileObject> ref;
+        while ((ref = refQueue.poll()) != null) {
+            final FileSystemAndNameKey key = refReverseMap.remove(ref);
+            if (key != null) {
+                final ConcurrentMap<FileName, Reference<FileObject>> files = fileSystemCache.get(key.getFileSystem());
+                if (files != null) {
+                    files.remove(key.getFileName(), ref);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeFile(final FileSystem fileSystem, final FileName fileName) {
+        final ConcurrentMap<FileName, Reference<FileObject>> files = fileSystemCache.get(fileSystem);
+        if (files != null) {
+            final Reference<FileObject> ref = files.remove(fileName);
+            if (ref != null) {
+                refReverseMap.remove(ref);
+            }
+        }
+    }
+
+    /**
+     * Creates the reference to a file replacing an old one, called while the entry is locked.
+     */
+    private Reference<FileObject> replaceReference(final Reference<FileObject> old, final FileObject file) {
+        if (old != null) {
+            refReverseMap.remove(old);
+        }
+        final Reference<FileObject> ref = createReference(file, refQueue);
+        refReverseMap.put(ref, new FileSystemAndNameKey(file.getFileSystem(), file.getName()));
+        return ref;
+    }
+}
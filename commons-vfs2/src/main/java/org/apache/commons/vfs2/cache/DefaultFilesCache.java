@@ -16,13 +16,17 @@
  */
 package org.apache.commons.vfs2.cache;
 
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.apache.commons.io.function.Uncheck;
+import org.apache.commons.lang3.function.FailableFunction;
 import org.apache.commons.vfs2.FileName;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystem;
+import org.apache.commons.vfs2.FileSystemException;
 
 /**
  * A simple {@link org.apache.commons.vfs2.FilesCache FilesCache} implementation.
@@ -65,6 +69,21 @@ public class DefaultFilesCache extends AbstractFilesCache {
         fileSystemCache.clear();
     }
 
+    @Override
+    public FileObject computeFileIfAbsent(final FileSystem filesystem, final FileName name,
+        final FailableFunction<FileName, FileObject, FileSystemException> creator) throws FileSystemException {
+        final ConcurrentMap<FileName, FileObject> files = getOrCreateFilesystemCache(filesystem);
+        final FileObject file = files.get(name);
+        if (file != null) {
+            return file;
+        }
+        try {
+            return files.computeIfAbsent(name, k -> Uncheck.apply(creator::apply, k));
+        } catch (final UncheckedIOException e) {
+            throw (FileSystemException) e.getCause();
+        }
+    }
+
     @Override
     public FileObject getFile(final FileSystem filesystem, final FileName name) {
         // avoid creating filesystem entry for empty filesystem cache:
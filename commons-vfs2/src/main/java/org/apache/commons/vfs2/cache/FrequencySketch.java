@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.cache;
+
+/**
+ * A Count-Min sketch of 4-bit counters estimating how often keys were used, which halves all counters after a number
+ * of increments so the estimates follow recent use.
+ * <p>
+ * Not thread safe, callers must guard it.
+ * </p>
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+        0xcbf29ce484222325L};
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 20;
+
+    private static int spread(final int hash) {
+        int x = (hash >>> 16 ^ hash) * 0x45d9f3b;
+        x = (x >>> 16 ^ x) * 0x45d9f3b;
+        return x >>> 16 ^ x;
+    }
+
+    private final long[] table;
+
+    private final int sampleSize;
+
+    private int size;
+
+    /**
+     * Constructs a new instance sized for the given number of keys.
+     *
+     * @param expectedSize The number of keys expected to be tracked.
+     */
+    FrequencySketch(final long expectedSize) {
+        final int keys = (int) Math.min(Math.max(expectedSize, 16), MAXIMUM_TABLE_SIZE);
+        final int length = Integer.highestOneBit(keys * 2 - 1);
+        this.table = new long[length];
+        this.sampleSize = 10 * length;
+    }
+
+    /**
+     * Estimates how often a key was used, from 0 to 15.
+     *
+     * @param hashCode The key hash code.
+     * @return The estimated frequency.
+     */
+    int frequency(final int hashCode) {
+        final int hash = spread(hashCode);
+        final int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            final long count = table[indexOf(hash, i)] >>> (start + i << 2) & 0xfL;
+            frequency = Math.min(frequency, (int) count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the estimated frequency of a key, aging all counters once enough keys were counted.
+     *
+     * @param hashCode The key hash code.
+     */
+    void increment(final int hashCode) {
+        final int hash = spread(hashCode);
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(final int index, final int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private int indexOf(final int hash, final int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & table.length - 1;
+    }
+
+    /**
+     * Halves every counter.
+     */
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = table[i] >>> 1 & RESET_MASK;
+        }
+        size = (size >>> 1) - (odd >>> 2);
+    }
+}
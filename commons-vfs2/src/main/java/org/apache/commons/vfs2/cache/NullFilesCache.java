@@ -16,9 +16,11 @@
  */
 package org.apache.commons.vfs2.cache;
 
+import org.apache.commons.lang3.function.FailableFunction;
 import org.apache.commons.vfs2.FileName;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystem;
+import org.apache.commons.vfs2.FileSystemException;
 
 /**
  * A {@link org.apache.commons.vfs2.FilesCache} implementation.
@@ -37,6 +39,12 @@ public class NullFilesCache extends AbstractFilesCache {
         // empty
     }
 
+    @Override
+    public FileObject computeFileIfAbsent(final FileSystem filesystem, final FileName name,
+        final FailableFunction<FileName, FileObject, FileSystemException> creator) throws FileSystemException {
+        return creator.apply(name);
+    }
+
     @Override
     public FileObject getFile(final FileSystem filesystem, final FileName name) {
         return null;
@@ -0,0 +1,577 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.commons.lang3.function.FailableFunction;
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystem;
+import org.apache.commons.vfs2.FileSystemException;
+
+/**
+ * This implementation caches a bounded number of files per file system, using the W-TinyLFU eviction policy.
+ * <p>
+ * New files enter a small LRU window. Files leaving the window compete with the least recently used files of the main
+ * space, and the one used less often according to a frequency sketch is evicted. Unlike {@link LRUFilesCache}, a scan
+ * of many files used once doesn't flush the frequently used ones.
+ * </p>
+ * <p>
+ * Each file system has its own maximum weight. Files weigh 1 unless a weigher is given, for example to account for
+ * files holding large attributes or child lists. Files can also expire when they weren't used for a while. Evicted
+ * files are only dropped from the cache, not closed, so callers holding them can still use them.
+ * </p>
+ * <p>
+ * Lookups don't lock: they record the use in a lossy buffer which is replayed on the policy when full, or when a file
+ * is added. The cache counts hits, misses, evictions and the time spent creating files, to help size it.
+ * </p>
+ *
+ * @since 2.10.0
+ */
+public class TinyLfuFilesCache extends AbstractFilesCache {
+
+    /**
+     * A cached file and its position in the policy queues, which are guarded by the segment lock.
+     */
+    private static final class Node {
+
+        private final FileName name;
+        private final FileObject file;
+        private final int weight;
+        private volatile long accessNanos;
+        private Queue queue;
+        private Node prev;
+        private Node next;
+        private boolean removed;
+
+        Node(final FileName name, final FileObject file, final int weight) {
+            this.name = name;
+            this.file = file;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * An access ordered queue of nodes.
+     */
+    private static final class Queue {
+
+        private Node head;
+        private Node tail;
+        private long weight;
+
+        void add(final Node node) {
+            node.queue = this;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            weight += node.weight;
+        }
+
+        void moveToTail(final Node node) {
+            if (node != tail) {
+                remove(node);
+                add(node);
+            }
+        }
+
+        void remove(final Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.queue = null;
+            weight -= node.weight;
+        }
+    }
+
+    /**
+     * The files of one file system and their eviction policy.
+     */
+    private final class Segment {
+
+        private final ConcurrentMap<FileName, Node> files = new ConcurrentHashMap<>();
+        private final ConcurrentMap<FileName, CompletableFuture<FileObject>> loading = new ConcurrentHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicReferenceArray<Node> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong readCount = new AtomicLong();
+        private final FrequencySketch sketch;
+        private final long maximumWeight;
+        private final long windowMaximum;
+        private final long protectedMaximum;
+        private final Queue window = new Queue();
+        private final Queue probation = new Queue();
+        private final Queue protectedQueue = new Queue();
+
+        Segment(final long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+            this.windowMaximum = Math.max(1, maximumWeight / 100);
+            this.protectedMaximum = (maximumWeight - windowMaximum) * 4 / 5;
+            this.sketch = new FrequencySketch(maximumWeight);
+        }
+
+        /**
+         * Links a new node, must be called with the lock held.
+         */
+        private void add(final Node node) {
+            if (node.removed) {
+                return;
+            }
+            sketch.increment(node.name.hashCode());
+            window.add(node);
+            evict();
+        }
+
+        /**
+         * Applies a recorded use to the policy, must be called with the lock held.
+         */
+        private void access(final Node node) {
+            if (node.queue == null) {
+                return;
+            }
+            sketch.increment(node.name.hashCode());
+            if (node.queue == probation) {
+                // Promote, and demote the least recently used protected files if it overflows
+                probation.remove(node);
+                protectedQueue.add(node);
+                while (protectedQueue.weight > protectedMaximum && protectedQueue.head != node) {
+                    final Node demoted = protectedQueue.head;
+                    protectedQueue.remove(demoted);
+                    probation.add(demoted);
+                }
+            } else {
+                node.queue.moveToTail(node);
+            }
+        }
+
+        void afterWrite(final Node node, final Node replaced) {
+            lock.lock();
+            try {
+                drainReadBuffer();
+                if (replaced != null) {
+                    unlink(replaced);
+                }
+                add(node);
+                expire();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drainReadBuffer() {
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                final Node node = readBuffer.getAndSet(i, null);
+                if (node != null) {
+                    access(node);
+                }
+            }
+        }
+
+        /**
+         * Evicts until the segment fits, must be called with the lock held.
+         */
+        private void evict() {
+            // Files leaving the window become candidates at the tail of the probation queue
+            while (window.weight > windowMaximum && window.head != null) {
+                final Node node = window.head;
+                window.remove(node);
+                probation.add(node);
+            }
+            while (window.weight + probation.weight + protectedQueue.weight > maximumWeight) {
+                final Node victim = probation.head != null ? probation.head
+                        : protectedQueue.head != null ? protectedQueue.head : window.head;
+                final Node candidate = victim.queue == probation ? probation.tail : victim;
+                if (candidate != victim
+                        && sketch.frequency(candidate.name.hashCode()) > sketch.frequency(victim.name.hashCode())) {
+                    evict(victim);
+                } else {
+                    evict(candidate);
+                }
+            }
+        }
+
+        private void evict(final Node node) {
+            unlink(node);
+            files.remove(node.name, node);
+            evictionCount.increment();
+        }
+
+        /**
+         * Evicts the files not used for longer than the expiry, must be called with the lock held.
+         */
+        private void expire() {
+            if (expireAfterAccessNanos <= 0) {
+                return;
+            }
+            final long now = System.nanoTime();
+            for (final Queue queue : new Queue[] {window, probation, protectedQueue}) {
+                while (queue.head != null && isExpired(queue.head, now)) {
+                    evict(queue.head);
+                }
+            }
+        }
+
+        void recordRead(final Node node) {
+            final long count = readCount.getAndIncrement();
+            readBuffer.lazySet((int) count & READ_BUFFER_SIZE - 1, node);
+            if ((count & READ_BUFFER_SIZE - 1) == READ_BUFFER_SIZE - 1 && lock.tryLock()) {
+                try {
+                    drainReadBuffer();
+                    expire();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        void remove(final Node node) {
+            lock.lock();
+            try {
+                unlink(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Unlinks a node from its queue, must be called with the lock held.
+         */
+        private void unlink(final Node node) {
+            node.removed = true;
+            if (node.queue != null) {
+                node.queue.remove(node);
+            }
+        }
+    }
+
+    /** The default maximum weight per file system. */
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 1000;
+
+    /** The number of recorded uses replayed on the policy at once, a power of 2. */
+    private static final int READ_BUFFER_SIZE = 32;
+
+    private final ConcurrentMap<FileSystem, Segment> fileSystemCache = new ConcurrentHashMap<>();
+
+    private final ToLongFunction<FileSystem> maximumWeight;
+
+    private final ToIntFunction<FileObject> weigher;
+
+    private final long expireAfterAccessNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * Constructs a new instance caching up to 1000 files per file system.
+     */
+    public TinyLfuFilesCache() {
+        this(DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * Constructs a new instance caching up to the given number of files per file system.
+     *
+     * @param maximumSize The maximum number of files per file system.
+     */
+    public TinyLfuFilesCache(final long maximumSize) {
+        this(fileSystem -> maximumSize, file -> 1, Duration.ZERO);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maximumWeight Computes the maximum weight of the files of each file system.
+     * @param weigher Computes the weight of a file when it is added, which must not be negative.
+     * @param expireAfterAccess How long a file stays cached after its last use, {@link Duration#ZERO} for no expiry.
+     */
+    public TinyLfuFilesCache(final ToLongFunction<FileSystem> maximumWeight, final ToIntFunction<FileObject> weigher,
+        final Duration expireAfterAccess) {
+        this.maximumWeight = Objects.requireNonNull(maximumWeight, "maximumWeight");
+        this.weigher = Objects.requireNonNull(weigher, "weigher");
+        this.expireAfterAccessNanos = expireAfterAccess.toNanos();
+    }
+
+    /**
+     * Waits for a file created by another thread, and rethrows its failure.
+     */
+    private static FileObject await(final CompletableFuture<FileObject> loader) throws FileSystemException {
+        try {
+            return loader.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof FileSystemException) {
+                throw (FileSystemException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void clear(final FileSystem fileSystem) {
+        fileSystemCache.remove(fileSystem);
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        fileSystemCache.clear();
+    }
+
+    @Override
+    public FileObject computeFileIfAbsent(final FileSystem fileSystem, final FileName fileName,
+        final FailableFunction<FileName, FileObject, FileSystemException> creator) throws FileSystemException {
+        final Segment segment = getOrCreateSegment(fileSystem);
+        final Node cached = segment.files.get(fileName);
+        if (cached != null && !isExpired(cached, System.nanoTime())) {
+            segment.recordRead(cached);
+            return cached.file;
+        }
+        // Create without holding the policy lock; threads racing on the same name wait for the first one's file
+        final CompletableFuture<FileObject> loader = new CompletableFuture<>();
+        final CompletableFuture<FileObject> other = segment.loading.putIfAbsent(fileName, loader);
+        if (other != null) {
+            return await(other);
+        }
+        try {
+            // The previous loader may have cached the file after our lookup
+            final Node current = segment.files.get(fileName);
+            if (current != null && !isExpired(current, System.nanoTime())) {
+                loader.complete(current.file);
+                return current.file;
+            }
+            final long start = System.nanoTime();
+            final FileObject file;
+            try {
+                file = creator.apply(fileName);
+            } finally {
+                loadCount.increment();
+                loadNanos.add(System.nanoTime() - start);
+            }
+            final Node node = newNode(file);
+            segment.afterWrite(node, segment.files.put(fileName, node));
+            loader.complete(file);
+            return file;
+        } catch (final Throwable e) {
+            loader.completeExceptionally(e);
+            throw e;
+        } finally {
+            segment.loading.remove(fileName, loader);
+        }
+    }
+
+    /**
+     * Gets the number of files evicted because the cache was full or they expired.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public FileObject getFile(final FileSystem fileSystem, final FileName fileName) {
+        final Segment segment = fileSystemCache.get(fileSystem);
+        final Node node = segment != null ? segment.files.get(fileName) : null;
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        if (expireAfterAccessNanos > 0) {
+            final long now = System.nanoTime();
+            if (isExpired(node, now)) {
+                if (segment.files.remove(fileName, node)) {
+                    segment.remove(node);
+                    evictionCount.increment();
+                }
+                missCount.increment();
+                return null;
+            }
+            node.accessNanos = now;
+        }
+        hitCount.increment();
+        segment.recordRead(node);
+        return node.file;
+    }
+
+    /**
+     * Gets the number of lookups which found a cached file.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the ratio of lookups which found a cached file.
+     *
+     * @return The hit rate, 1 if there was no lookup.
+     */
+    public double getHitRate() {
+        final long hits = hitCount.sum();
+        final long requests = hits + missCount.sum();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * Gets the number of files created through {@link #computeFileIfAbsent}.
+     *
+     * @return The load count.
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * Gets the total time spent creating files through {@link #computeFileIfAbsent}.
+     *
+     * @return The load time.
+     */
+    public Duration getLoadTime() {
+        return Duration.ofNanos(loadNanos.sum());
+    }
+
+    /**
+     * Gets the number of lookups which didn't find a cached file.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private Segment getOrCreateSegment(final FileSystem fileSystem) {
+        final Segment segment = fileSystemCache.get(fileSystem);
+        if (segment != null) {
+            return segment;
+        }
+        return fileSystemCache.computeIfAbsent(fileSystem, k -> new Segment(Math.max(1, maximumWeight.applyAsLong(k))));
+    }
+
+    /**
+     * Gets the number of cached files.
+     *
+     * @return The number of cached files.
+     */
+    public long getSize() {
+        return fileSystemCache.values().stream().mapToLong(segment -> segment.files.size()).sum();
+    }
+
+    private boolean isExpired(final Node node, final long now) {
+        return expireAfterAccessNanos > 0 && now - node.accessNanos >= expireAfterAccessNanos;
+    }
+
+    private Node newNode(final FileObject file) {
+        final int weight = weigher.applyAsInt(file);
+        if (weight < 0) {
+            throw new IllegalArgumentException(String.format("weight(%d) < 0", weight));
+        }
+        final Node node = new Node(file.getName(), file, weight);
+        node.accessNanos = System.nanoTime();
+        return node;
+    }
+
+    @Override
+    public void putFile(final FileObject file) {
+        final Segment segment = getOrCreateSegment(file.getFileSystem());
+        final Node node = newNode(file);
+        segment.afterWrite(node, segment.files.put(node.name, node));
+    }
+
+    @Override
+    public boolean putFileIfAbsent(final FileObject file) {
+        final Segment segment = getOrCreateSegment(file.getFileSystem());
+        final Node node = newNode(file);
+        final Node existing = segment.files.putIfAbsent(node.name, node);
+        if (existing == null) {
+            segment.afterWrite(node, null);
+            return true;
+        }
+        if (isExpired(existing, node.accessNanos) && segment.files.replace(node.name, existing, node)) {
+            segment.afterWrite(node, existing);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void removeFile(final FileSystem fileSystem, final FileName fileName) {
+        final Segment segment = fileSystemCache.get(fileSystem);
+        if (segment != null) {
+            final Node node = segment.files.remove(fileName);
+            if (node != null) {
+                segment.remove(node);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + " [size=" + getSize() + ", hitRate=" + getHitRate() + ", evictionCount="
+            + getEvictionCount() + "]";
+    }
+
+    @Override
+    public void touchFile(final FileObject file) {
+        final Segment segment = fileSystemCache.get(file.getFileSystem());
+        final Node node = segment != null ? segment.files.get(file.getName()) : null;
+        if (node != null) {
+            if (expireAfterAccessNanos > 0) {
+                node.accessNanos = System.nanoTime();
+            }
+            segment.recordRead(node);
+        }
+    }
+}
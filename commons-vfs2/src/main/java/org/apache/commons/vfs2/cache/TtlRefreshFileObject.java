@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.commons.vfs2.FileContent;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSelector;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileType;
+import org.apache.commons.vfs2.NameScope;
+import org.apache.commons.vfs2.impl.DecoratedFileObject;
+
+/**
+ * This decorator refreshes the fileObject data on a call after its time to live expired.
+ * <p>
+ * Refreshing only drops the cached data, which the file object fetches again when it needs it.
+ * </p>
+ *
+ * @see org.apache.commons.vfs2.CacheStrategy#TTL
+ * @since 2.10.0
+ */
+public class TtlRefreshFileObject extends DecoratedFileObject {
+
+    private final long timeToLiveNanos;
+
+    private volatile long expiryNanos;
+
+    /**
+     * Constructs a new instance to decorate the given file object.
+     *
+     * @param fileObject The decorated.
+     * @param timeToLive How long the data of the file object is kept.
+     */
+    public TtlRefreshFileObject(final FileObject fileObject, final Duration timeToLive) {
+        super(fileObject);
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.expiryNanos = System.nanoTime() + timeToLiveNanos;
+    }
+
+    @Override
+    public void copyFrom(final FileObject srcFile, final FileSelector selector) throws FileSystemException {
+        refreshIfExpired();
+        super.copyFrom(srcFile, selector);
+    }
+
+    @Override
+    public void createFile() throws FileSystemException {
+        refreshIfExpired();
+        super.createFile();
+    }
+
+    @Override
+    public void createFolder() throws FileSystemException {
+        refreshIfExpired();
+        super.createFolder();
+    }
+
+    @Override
+    public boolean delete() throws FileSystemException {
+        refreshIfExpired();
+        return super.delete();
+    }
+
+    @Override
+    public int delete(final FileSelector selector) throws FileSystemException {
+        refreshIfExpired();
+        return super.delete(selector);
+    }
+
+    @Override
+    public boolean exists() throws FileSystemException {
+        refreshIfExpired();
+        return super.exists();
+    }
+
+    @Override
+    public FileObject[] findFiles(final FileSelector selector) throws FileSystemException {
+        refreshIfExpired();
+        return super.findFiles(selector);
+    }
+
+    @Override
+    public void findFiles(final FileSelector selector, final boolean depthwise, final List<FileObject> selected)
+            throws FileSystemException {
+        refreshIfExpired();
+        super.findFiles(selector, depthwise, selected);
+    }
+
+    @Override
+    public FileObject getChild(final String name) throws FileSystemException {
+        refreshIfExpired();
+        return super.getChild(name);
+    }
+
+    @Override
+    public FileObject[] getChildren() throws FileSystemException {
+        refreshIfExpired();
+        return super.getChildren();
+    }
+
+    @Override
+    public FileContent getContent() throws FileSystemException {
+        refreshIfExpired();
+        return super.getContent();
+    }
+
+    @Override
+    public FileType getType() throws FileSystemException {
+        refreshIfExpired();
+        return super.getType();
+    }
+
+    @Override
+    public boolean isExecutable() throws FileSystemException {
+        refreshIfExpired();
+        return super.isExecutable();
+    }
+
+    @Override
+    public boolean isFile() throws FileSystemException {
+        refreshIfExpired();
+        return super.isFile();
+    }
+
+    @Override
+    public boolean isFolder() throws FileSystemException {
+        refreshIfExpired();
+        return super.isFolder();
+    }
+
+    @Override
+    public boolean isHidden() throws FileSystemException {
+        refreshIfExpired();
+        return super.isHidden();
+    }
+
+    @Override
+    public boolean isReadable() throws FileSystemException {
+        refreshIfExpired();
+        return super.isReadable();
+    }
+
+    @Override
+    public boolean isWriteable() throws FileSystemException {
+        refreshIfExpired();
+        return super.isWriteable();
+    }
+
+    @Override
+    public void moveTo(final FileObject destFile) throws FileSystemException {
+        refreshIfExpired();
+        super.moveTo(destFile);
+    }
+
+    @Override
+    public void refresh() throws FileSystemException {
+        expiryNanos = System.nanoTime() + timeToLiveNanos;
+        super.refresh();
+    }
+
+    /**
+     * Refreshes the file object if its time to live expired.
+     *
+     * @throws FileSystemException if an error occurs.
+     */
+    private void refreshIfExpired() throws FileSystemException {
+        if (System.nanoTime() - expiryNanos >= 0) {
+            refresh();
+        }
+    }
+
+    @Override
+    public FileObject resolveFile(final String path) throws FileSystemException {
+        refreshIfExpired();
+        return super.resolveFile(path);
+    }
+
+    @Override
+    public FileObject resolveFile(final String name, final NameScope scope) throws FileSystemException {
+        refreshIfExpired();
+        return super.resolveFile(name, scope);
+    }
+
+    @Override
+    public boolean setExecutable(final boolean executable, final boolean ownerOnly) throws FileSystemException {
+        refreshIfExpired();
+        return super.setExecutable(executable, ownerOnly);
+    }
+
+    @Override
+    public boolean setReadable(final boolean readable, final boolean ownerOnly) throws FileSystemException {
+        refreshIfExpired();
+        return super.setReadable(readable, ownerOnly);
+    }
+
+    @Override
+    public boolean setWritable(final boolean writable, final boolean ownerOnly) throws FileSystemException {
+        refreshIfExpired();
+        return super.setWritable(writable, ownerOnly);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.commons.vfs2.impl;
 import java.net.URL;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.vfs2.FileContent;
 import org.apache.commons.vfs2.FileName;
@@ -107,6 +108,12 @@ public class DecoratedFileObject implements FileObject {
         fileObject.findFiles(selector, depthwise, selected);
     }
 
+    @Override
+    public void findFiles(final FileSelector selector, final boolean depthwise, final List<FileObject> selected,
+            final Executor executor, final boolean ordered) throws FileSystemException {
+        fileObject.findFiles(selector, depthwise, selected, executor, ordered);
+    }
+
     @Override
     public FileObject getChild(final String name) throws FileSystemException {
         return fileObject.getChild(name);
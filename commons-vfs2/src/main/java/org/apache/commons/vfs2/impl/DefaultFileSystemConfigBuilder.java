@@ -16,6 +16,9 @@
  */
 package org.apache.commons.vfs2.impl;
 
+import java.time.Duration;
+
+import org.apache.commons.vfs2.CacheStrategy;
 import org.apache.commons.vfs2.FileSystem;
 import org.apache.commons.vfs2.FileSystemConfigBuilder;
 import org.apache.commons.vfs2.FileSystemOptions;
@@ -34,6 +37,14 @@ public class DefaultFileSystemConfigBuilder extends FileSystemConfigBuilder {
     /** The default FileSystemConfigBuilder */
     private static final DefaultFileSystemConfigBuilder BUILDER = new DefaultFileSystemConfigBuilder();
 
+    private static final String CACHE_STRATEGY = "cacheStrategy";
+
+    private static final String CACHE_TIME_TO_LIVE = "cacheTimeToLive";
+
+    private static final Duration DEFAULT_CACHE_TIME_TO_LIVE = Duration.ofSeconds(5);
+
+    private static final String FINE_GRAINED_LOCKING = "fineGrainedLocking";
+
     /**
      * Gets the singleton builder.
      *
@@ -43,6 +54,33 @@ public class DefaultFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return BUILDER;
     }
 
+    /**
+     * Gets the cache strategy of the file system, which overrides the one of the file system manager.
+     *
+     * @param opts The FileSystemOptions.
+     * @return The cache strategy, or null to use the one of the file system manager.
+     * @see #setCacheStrategy(FileSystemOptions, CacheStrategy)
+     * @since 2.10.0
+     */
+    public CacheStrategy getCacheStrategy(final FileSystemOptions opts) {
+        return getEnum(CacheStrategy.class, opts, CACHE_STRATEGY);
+    }
+
+    /**
+     * Gets how long file objects keep their data with the {@link CacheStrategy#TTL} cache strategy.
+     * <p>
+     * Defaults to 5 seconds.
+     * </p>
+     *
+     * @param opts The FileSystemOptions.
+     * @return The time to live of the data of file objects.
+     * @see #setCacheTimeToLive(FileSystemOptions, Duration)
+     * @since 2.10.0
+     */
+    public Duration getCacheTimeToLive(final FileSystemOptions opts) {
+        return getDuration(opts, CACHE_TIME_TO_LIVE, DEFAULT_CACHE_TIME_TO_LIVE);
+    }
+
     @Override
     protected Class<? extends FileSystem> getConfigClass() {
         return DefaultFileSystem.class;
@@ -57,6 +95,67 @@ public class DefaultFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return getParam(opts, "userAuthenticator");
     }
 
+    /**
+     * Tests whether file objects guard their state with their own locks instead of the file system monitor.
+     * <p>
+     * Defaults to the system property {@code vfs.fineGrainedLocking}, or {@code false}.
+     * </p>
+     *
+     * @param opts The FileSystemOptions.
+     * @return whether fine-grained locking is enabled.
+     * @see #setFineGrainedLocking(FileSystemOptions, boolean)
+     * @since 2.10.0
+     */
+    public boolean isFineGrainedLocking(final FileSystemOptions opts) {
+        return getBoolean(opts, FINE_GRAINED_LOCKING, false);
+    }
+
+    /**
+     * Sets the cache strategy of the file system, which overrides the one of the file system manager.
+     * <p>
+     * Since the options are given when resolving a file, this sets the cache strategy per scheme or per server, for
+     * example {@link CacheStrategy#TTL} for remote file systems and {@link CacheStrategy#ON_RESOLVE} for local ones.
+     * </p>
+     *
+     * @param opts The FileSystemOptions.
+     * @param cacheStrategy The cache strategy, or null to use the one of the file system manager.
+     * @since 2.10.0
+     */
+    public void setCacheStrategy(final FileSystemOptions opts, final CacheStrategy cacheStrategy) {
+        setParam(opts, CACHE_STRATEGY, cacheStrategy);
+    }
+
+    /**
+     * Sets how long file objects keep their data with the {@link CacheStrategy#TTL} cache strategy.
+     * <p>
+     * A file object keeps its type, children, content size, last modified time and attributes until its time to live
+     * expires. The next call then refreshes it, and the data is fetched again lazily when needed.
+     * </p>
+     *
+     * @param opts The FileSystemOptions.
+     * @param timeToLive The time to live of the data of file objects.
+     * @since 2.10.0
+     */
+    public void setCacheTimeToLive(final FileSystemOptions opts, final Duration timeToLive) {
+        setParam(opts, CACHE_TIME_TO_LIVE, timeToLive);
+    }
+
+    /**
+     * Sets whether file objects guard their state with their own locks instead of the file system monitor.
+     * <p>
+     * By default, every state-changing operation on a file object synchronizes on its file system, so one slow remote
+     * call blocks all other threads working with that file system. When enabled, each file object guards its cached
+     * state with its own lock, and creating or deleting files synchronizes on a lock striped by file name.
+     * </p>
+     *
+     * @param opts The FileSystemOptions.
+     * @param fineGrainedLocking whether to enable fine-grained locking.
+     * @since 2.10.0
+     */
+    public void setFineGrainedLocking(final FileSystemOptions opts, final boolean fineGrainedLocking) {
+        setParam(opts, FINE_GRAINED_LOCKING, fineGrainedLocking);
+    }
+
     /**
      * Sets the user authenticator to get authentication information.
      *
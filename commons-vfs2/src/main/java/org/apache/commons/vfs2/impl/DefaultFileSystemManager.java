@@ -52,8 +52,10 @@ import org.apache.commons.vfs2.operations.FileOperationProvider;
 import org.apache.commons.vfs2.provider.AbstractFileName;
 import org.apache.commons.vfs2.provider.AbstractFileProvider;
 import org.apache.commons.vfs2.provider.DefaultURLStreamHandler;
+import org.apache.commons.vfs2.provider.FileNameCache;
 import org.apache.commons.vfs2.provider.FileProvider;
 import org.apache.commons.vfs2.provider.FileReplicator;
+import org.apache.commons.vfs2.provider.GenericURLFileName;
 import org.apache.commons.vfs2.provider.LocalFileProvider;
 import org.apache.commons.vfs2.provider.TemporaryFileStore;
 import org.apache.commons.vfs2.provider.UriParser;
@@ -90,6 +92,11 @@ public class DefaultFileSystemManager implements FileSystemManager {
      */
     private final List<String> virtualFileSystemSchemes = new ArrayList<>();
 
+    /**
+     * The schemes of {@link #providers} and {@link #virtualFileSystemSchemes}, or null to build them on next use.
+     */
+    private volatile String[] schemes;
+
     /**
      * All components used by this manager.
      */
@@ -135,6 +142,11 @@ public class DefaultFileSystemManager implements FileSystemManager {
      */
     private FilesCache filesCache;
 
+    /**
+     * The optional cache of canonical file names.
+     */
+    private volatile FileNameCache fileNameCache;
+
     /**
      * The cache strategy
      */
@@ -289,6 +301,7 @@ public class DefaultFileSystemManager implements FileSystemManager {
 
         // Add to map
         Arrays.stream(urlSchemes).forEach(scheme -> providers.put(scheme, provider));
+        schemes = null;
 
         if (provider instanceof LocalFileProvider && localFileProvider == null) {
             localFileProvider = (LocalFileProvider) provider;
@@ -300,6 +313,7 @@ public class DefaultFileSystemManager implements FileSystemManager {
             rootUri = rootUri.substring(0, rootUri.indexOf(':'));
         }
         virtualFileSystemSchemes.add(rootUri);
+        schemes = null;
     }
 
     /**
@@ -346,6 +360,7 @@ public class DefaultFileSystemManager implements FileSystemManager {
         // unregister all providers here, so if any components have local file references
         // they can still resolve against the supported schemes
         providers.clear();
+        schemes = null;
 
         // FileOperations are components, too
         operationProviders.values().forEach(opProviders -> opProviders.forEach(this::closeComponent));
@@ -370,8 +385,13 @@ public class DefaultFileSystemManager implements FileSystemManager {
 
         // virtual schemas
         virtualFileSystemSchemes.clear();
+        schemes = null;
 
         // setters and derived state
+        if (fileNameCache != null) {
+            fileNameCache.clear();
+            fileNameCache = null;
+        }
         defaultProvider = null;
         baseFile = null;
         fileObjectDecorator = null;
@@ -523,6 +543,16 @@ public class DefaultFileSystemManager implements FileSystemManager {
         return fileContentInfoFactory;
     }
 
+    /**
+     * Gets the cache of canonical file names.
+     *
+     * @return The FileNameCache, or null if names are not interned.
+     * @since 2.10.0
+     */
+    public FileNameCache getFileNameCache() {
+        return fileNameCache;
+    }
+
     /**
      * Gets the file object decorator used.
      *
@@ -639,10 +669,24 @@ public class DefaultFileSystemManager implements FileSystemManager {
      */
     @Override
     public String[] getSchemes() {
-        final List<String> schemes = new ArrayList<>(providers.size() + virtualFileSystemSchemes.size());
-        schemes.addAll(providers.keySet());
-        schemes.addAll(virtualFileSystemSchemes);
-        return schemes.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+        return getSchemesArray().clone();
+    }
+
+    /**
+     * Gets the schemes currently available, without copying them.
+     *
+     * @return The array of scheme names, not to be modified.
+     */
+    private String[] getSchemesArray() {
+        String[] result = schemes;
+        if (result == null) {
+            final List<String> list = new ArrayList<>(providers.size() + virtualFileSystemSchemes.size());
+            list.addAll(providers.keySet());
+            list.addAll(virtualFileSystemSchemes);
+            result = list.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+            schemes = result;
+        }
+        return result;
     }
 
     /**
@@ -676,6 +720,21 @@ public class DefaultFileSystemManager implements FileSystemManager {
         return providers.containsKey(scheme);
     }
 
+    /**
+     * Tests whether a file name has a query string, which {@link AbstractFileName#createName(String, FileType)} would
+     * carry over to the names it creates.
+     */
+    @SuppressWarnings("deprecation")
+    private static boolean hasQueryString(final FileName name) {
+        if (name instanceof org.apache.commons.vfs2.provider.URLFileName) {
+            return ((org.apache.commons.vfs2.provider.URLFileName) name).getQueryString() != null;
+        }
+        if (name instanceof GenericURLFileName) {
+            return ((GenericURLFileName) name).getQueryString() != null;
+        }
+        return false;
+    }
+
     /**
      * Initializes this manager.
      * <p>
@@ -708,6 +767,53 @@ public class DefaultFileSystemManager implements FileSystemManager {
         init = true;
     }
 
+    private FileName intern(final FileName name) {
+        final FileNameCache cache = fileNameCache;
+        return cache != null ? cache.intern(name) : name;
+    }
+
+    private static boolean isPlainChar(final char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_' || c == '.';
+    }
+
+    /**
+     * Tests whether a name is a relative path of plain elements, which resolves by appending it to the base path.
+     * <p>
+     * Plain elements are made of ASCII letters, digits, {@code '-'}, {@code '_'} and {@code '.'}, and are not
+     * {@code "."} or {@code ".."}.
+     * </p>
+     *
+     * @param name The name to test.
+     * @param scope The scope the name must resolve in.
+     * @return whether the name is a plain relative path in the scope.
+     */
+    private static boolean isPlainRelativePath(final String name, final NameScope scope) {
+        final int length = name.length();
+        if (length == 0) {
+            return false;
+        }
+        int elementStart = 0;
+        for (int i = 0; i <= length; i++) {
+            final char c = i < length ? name.charAt(i) : FileName.SEPARATOR_CHAR;
+            if (c == FileName.SEPARATOR_CHAR) {
+                final int elementLength = i - elementStart;
+                if (elementLength == 0 || i < length && scope == NameScope.CHILD) {
+                    // empty element, or more than one element for a child
+                    return false;
+                }
+                if (name.charAt(elementStart) == '.'
+                        && (elementLength == 1 || elementLength == 2 && name.charAt(elementStart + 1) == '.')) {
+                    // "." or ".."
+                    return false;
+                }
+                elementStart = i + 1;
+            } else if (!isPlainChar(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Unregisters a file system provider.
      *
@@ -716,6 +822,7 @@ public class DefaultFileSystemManager implements FileSystemManager {
      */
     public void removeProvider(final String urlScheme) {
         final FileProvider provider = providers.remove(urlScheme);
+        schemes = null;
         // check whether the same instance is not used somewhere else
         if (provider != null && !providers.containsValue(provider)) {
             closeComponent(provider);
@@ -777,7 +884,7 @@ public class DefaultFileSystemManager implements FileSystemManager {
         }
 
         // Extract the scheme
-        final String scheme = UriParser.extractScheme(getSchemes(), uri);
+        final String scheme = UriParser.extractScheme(getSchemesArray(), uri);
         if (scheme != null) {
             // An absolute URI - locate the provider
             final FileProvider provider = providers.get(scheme);
@@ -900,11 +1007,19 @@ public class DefaultFileSystemManager implements FileSystemManager {
             realBase = base;
         }
 
+        if (isPlainRelativePath(name, scope) && realBase instanceof AbstractFileName && !VFS.isUriStyle()
+                && !hasQueryString(realBase)) {
+            // Fast path: the base is already parsed, and the name needs no decoding, encoding or normalization
+            final String basePath = realBase.getPath();
+            final String path = basePath.length() == 1 ? basePath + name : basePath + FileName.SEPARATOR_CHAR + name;
+            return intern(((AbstractFileName) realBase).createName(path, FileType.FILE));
+        }
+
         final StringBuilder buffer = new StringBuilder(name);
 
         // Adjust separators
         UriParser.fixSeparators(buffer);
-        String scheme = UriParser.extractScheme(getSchemes(), buffer.toString());
+        String scheme = UriParser.extractScheme(getSchemesArray(), buffer.toString());
 
         // Determine whether to prepend the base path
         if (name.isEmpty() || scheme == null && buffer.charAt(0) != FileName.SEPARATOR_CHAR) {
@@ -940,17 +1055,17 @@ public class DefaultFileSystemManager implements FileSystemManager {
             // // String fullPath = base.getRootURI() +
             // resolvedPath.substring(1);
 
-            return provider.parseUri(realBase, fullPath);
+            return intern(provider.parseUri(realBase, fullPath));
         }
 
         // An unknown scheme - hand it to the default provider - if possible
         if (scheme != null && defaultProvider != null) {
-            return defaultProvider.parseUri(realBase, fullPath);
+            return intern(defaultProvider.parseUri(realBase, fullPath));
         }
 
         // TODO: avoid fallback to this point
         // this happens if we have a virtual filesystem (no provider for scheme)
-        return ((AbstractFileName) realBase).createName(resolvedPath, fileType);
+        return intern(((AbstractFileName) realBase).createName(resolvedPath, fileType));
     }
 
     /**
@@ -969,12 +1084,12 @@ public class DefaultFileSystemManager implements FileSystemManager {
         }
 
         // Extract the scheme
-        final String scheme = UriParser.extractScheme(getSchemes(), uri);
+        final String scheme = UriParser.extractScheme(getSchemesArray(), uri);
         if (scheme != null) {
             // An absolute URI - locate the provider
             final FileProvider provider = providers.get(scheme);
             if (provider != null) {
-                return provider.parseUri(null, uri);
+                return intern(provider.parseUri(null, uri));
             }
 
             // Otherwise, assume a local file
@@ -982,13 +1097,13 @@ public class DefaultFileSystemManager implements FileSystemManager {
 
         // Handle absolute file names
         if (localFileProvider != null && localFileProvider.isAbsoluteLocalName(uri)) {
-            return localFileProvider.parseUri(null, uri);
+            return intern(localFileProvider.parseUri(null, uri));
         }
 
         if (scheme != null) {
             // An unknown scheme - hand it to the default provider
             FileSystemException.requireNonNull(defaultProvider, "vfs.impl/unknown-scheme.error", scheme, uri);
-            return defaultProvider.parseUri(null, uri);
+            return intern(defaultProvider.parseUri(null, uri));
         }
 
         // Assume a relative name - use the supplied base file
@@ -1066,6 +1181,19 @@ public class DefaultFileSystemManager implements FileSystemManager {
         this.fileContentInfoFactory = fileContentInfoFactory;
     }
 
+    /**
+     * Sets the cache of canonical file names.
+     * <p>
+     * When set, the names this manager resolves are interned, so equal names resolved again return the same instance.
+     * </p>
+     *
+     * @param fileNameCache The FileNameCache, or null to not intern names.
+     * @since 2.10.0
+     */
+    public void setFileNameCache(final FileNameCache fileNameCache) {
+        this.fileNameCache = fileNameCache;
+    }
+
     /**
      * Sets a fileObject decorator to be used for ALL returned file objects.
      * <p>
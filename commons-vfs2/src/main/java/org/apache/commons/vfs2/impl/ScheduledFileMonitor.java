@@ -0,0 +1,714 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.impl;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.vfs2.FileListener;
+import org.apache.commons.vfs2.FileMonitor;
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystem;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.provider.AbstractFileSystem;
+
+/**
+ * A polling {@link FileMonitor} implementation that checks each file on its own schedule.
+ * <p>
+ * Unlike the {@link DefaultFileMonitor}, which checks every file in turn on a single thread, each monitored file has an
+ * agent scheduled on a {@link ScheduledExecutorService}, so checks run in parallel and a slow file system does not hold
+ * up the others.
+ * </p>
+ * <ul>
+ * <li>Each agent is rescheduled after its check with a random jitter, so that agents added together spread out.</li>
+ * <li>An agent whose file and listing did not change doubles its delay, up to a maximum. A change resets the delay, so
+ * large unchanged trees cost little while active folders are still checked often.</li>
+ * <li>The number of checks running at the same time on one file system is bounded, so a large tree cannot flood a
+ * remote server with requests. A check that finds no permit available waits in line, and runs as soon as a check on
+ * that file system finishes.</li>
+ * <li>A folder's listing is compared with the previous one as a set, firing create events for new children and delete
+ * events for children that are gone.</li>
+ * </ul>
+ * <p>
+ * Events are delivered like the {@link DefaultFileMonitor} does, through the file system's
+ * {@link AbstractFileSystem#fireFileCreated(FileObject)}, {@link AbstractFileSystem#fireFileDeleted(FileObject)} and
+ * {@link AbstractFileSystem#fireFileChanged(FileObject)}. A file whose folder is monitored is reported by the folder's
+ * listing, change events are fired for monitored files only, never for folders.
+ * </p>
+ * <h2>Example usage:</h2>
+ *
+ * <pre>
+ * FileSystemManager fsManager = VFS.getManager();
+ * FileObject listendir = fsManager.resolveFile("sftp://host/home/username/monitored/");
+ *
+ * ScheduledFileMonitor fm = new ScheduledFileMonitor(new CustomFileListener());
+ * fm.setRecursive(true);
+ * fm.setMaxConcurrentChecks(2);
+ * fm.addFile(listendir);
+ * fm.start();
+ * </pre>
+ *
+ * @since 2.10.0
+ */
+public class ScheduledFileMonitor implements FileMonitor, AutoCloseable {
+
+    /**
+     * File monitor agent, checked on its own schedule.
+     */
+    private final class FileMonitorAgent {
+
+        private Set<FileName> children;
+        private long delayMillis;
+        private boolean exists;
+        private final FileObject fileObject;
+        private ScheduledFuture<?> future;
+        private final boolean recursiveDescent;
+        private long timestamp;
+
+        private FileMonitorAgent(final FileObject fileObject, final boolean recursiveDescent) {
+            this.fileObject = fileObject;
+            this.recursiveDescent = recursiveDescent;
+            this.delayMillis = delay.toMillis();
+            refresh();
+            try {
+                this.exists = fileObject.exists();
+                this.timestamp = exists ? fileObject.getContent().getLastModifiedTime() : -1;
+            } catch (final FileSystemException fse) {
+                this.exists = false;
+                this.timestamp = -1;
+            }
+            this.children = listChildren();
+        }
+
+        /**
+         * Checks the file and its listing.
+         *
+         * @return whether anything changed.
+         */
+        private boolean check() throws FileSystemException {
+            refresh();
+            // A file inside a monitored folder is reported by the folder's listing.
+            final boolean reportSelf = !isChildOfAgent(fileObject);
+            boolean changed = false;
+            final boolean nowExists = fileObject.exists();
+            if (exists && !nowExists) {
+                exists = false;
+                timestamp = -1;
+                changed = true;
+                if (reportSelf) {
+                    fire(fileObject, EventType.DELETED);
+                }
+            } else if (exists) {
+                final long lastModified = fileObject.getContent().getLastModifiedTime();
+                if (timestamp != lastModified) {
+                    timestamp = lastModified;
+                    changed = true;
+                    // Folder changes are reported as create and delete events for their children.
+                    if (!fileObject.isFolder()) {
+                        fire(fileObject, EventType.CHANGED);
+                    }
+                }
+            } else if (nowExists) {
+                exists = true;
+                timestamp = fileObject.getContent().getLastModifiedTime();
+                changed = true;
+                if (reportSelf && !fileObject.isFolder()) {
+                    fire(fileObject, EventType.CREATED);
+                }
+            }
+            return checkChildren() || changed;
+        }
+
+        /**
+         * Compares the current listing with the previous one.
+         *
+         * @return whether the listing changed.
+         */
+        private boolean checkChildren() {
+            final Set<FileName> current = listChildren();
+            if (current.equals(children)) {
+                return false;
+            }
+            final Set<FileName> previous = children;
+            children = current;
+            for (final FileName name : current) {
+                if (!previous.contains(name)) {
+                    childCreated(name);
+                }
+            }
+            for (final FileName name : previous) {
+                if (!current.contains(name)) {
+                    childDeleted(name);
+                }
+            }
+            return true;
+        }
+
+        private void childCreated(final FileName name) {
+            final FileObject child = resolve(name);
+            if (child == null) {
+                return;
+            }
+            fire(child, EventType.CREATED);
+            if (recursiveDescent) {
+                addAgents(child, true, true);
+            }
+        }
+
+        private void childDeleted(final FileName name) {
+            final FileMonitorAgent agent = agentMap.get(name);
+            if (agent != null) {
+                removeAgents(agent, true);
+            }
+            final FileObject child = resolve(name);
+            if (child != null) {
+                fire(child, EventType.DELETED);
+            }
+        }
+
+        private boolean isCurrent(final long scheduledGeneration) {
+            return scheduledGeneration == generation && agentMap.get(fileObject.getName()) == this;
+        }
+
+        private Set<FileName> listChildren() {
+            try {
+                if (exists && fileObject.getType().hasChildren()) {
+                    final FileObject[] fileObjects = fileObject.getChildren();
+                    final Set<FileName> names = new HashSet<>(Math.max(16, fileObjects.length * 4 / 3 + 1));
+                    for (final FileObject child : fileObjects) {
+                        names.add(child.getName());
+                    }
+                    return names;
+                }
+            } catch (final FileSystemException fse) {
+                LOG.error(fse.getLocalizedMessage(), fse);
+                // Keep the previous listing, an unreadable folder is not an empty one.
+                if (children != null) {
+                    return children;
+                }
+            }
+            return Collections.emptySet();
+        }
+
+        private void refresh() {
+            try {
+                fileObject.refresh();
+            } catch (final FileSystemException fse) {
+                LOG.error(fse.getLocalizedMessage(), fse);
+            }
+        }
+
+        private FileObject resolve(final FileName name) {
+            try {
+                return fileObject.getFileSystem().resolveFile(name);
+            } catch (final FileSystemException fse) {
+                LOG.error(fse.getLocalizedMessage(), fse);
+                return null;
+            }
+        }
+
+        /**
+         * Runs the check on the executor with a permit handed over by another agent.
+         *
+         * @return false if this agent no longer needs the permit.
+         */
+        private boolean resume(final Permits permits, final long scheduledGeneration) {
+            final ScheduledExecutorService service = executorService;
+            if (service == null || !isCurrent(scheduledGeneration)) {
+                return false;
+            }
+            try {
+                service.execute(() -> runWithPermit(permits, scheduledGeneration));
+                return true;
+            } catch (final RuntimeException e) {
+                // Rejected after shutdown.
+                LOG.debug(e.getLocalizedMessage(), e);
+                return false;
+            }
+        }
+
+        private void run(final long scheduledGeneration) {
+            if (!isCurrent(scheduledGeneration)) {
+                return;
+            }
+            final Permits permits = getPermits(fileObject.getFileSystem());
+            // Without a permit, this agent waits in line and the permit is handed over when a check finishes.
+            if (permits.acquireOrWait(() -> resume(permits, scheduledGeneration))) {
+                runWithPermit(permits, scheduledGeneration);
+            }
+        }
+
+        private void runWithPermit(final Permits permits, final long scheduledGeneration) {
+            if (!isCurrent(scheduledGeneration)) {
+                permits.release();
+                return;
+            }
+            boolean changed = true;
+            try {
+                changed = check();
+            } catch (final FileSystemException | RuntimeException e) {
+                LOG.error(e.getLocalizedMessage(), e);
+            } finally {
+                permits.release();
+            }
+            // Back off while nothing changes.
+            delayMillis = changed ? delay.toMillis() : Math.min(delayMillis * 2, Math.max(maxDelay.toMillis(), delay.toMillis()));
+            schedule(delayMillis, scheduledGeneration);
+        }
+
+        private synchronized void schedule(final long millis, final long scheduledGeneration) {
+            final ScheduledExecutorService service = executorService;
+            if (service == null || scheduledGeneration != generation) {
+                return;
+            }
+            final long jitterMillis = (long) (millis * jitter);
+            final long nextMillis = jitterMillis > 0 ? millis + ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1) : millis;
+            try {
+                future = service.schedule(() -> run(scheduledGeneration), Math.max(1, nextMillis), TimeUnit.MILLISECONDS);
+            } catch (final RuntimeException e) {
+                // Rejected after shutdown.
+                LOG.debug(e.getLocalizedMessage(), e);
+            }
+        }
+
+        private synchronized void unschedule() {
+            if (future != null) {
+                future.cancel(false);
+                future = null;
+            }
+        }
+    }
+
+    private enum EventType {
+        CHANGED, CREATED, DELETED
+    }
+
+    /**
+     * The check permits of one file system, and the agents waiting for one in arrival order.
+     */
+    private static final class Permits {
+
+        private int available;
+
+        /** Hands a permit over to a waiting agent, false if the agent no longer needs it. */
+        private final Queue<BooleanSupplier> waiting = new ArrayDeque<>();
+
+        private Permits(final int available) {
+            this.available = available;
+        }
+
+        /**
+         * Takes a permit, or puts an agent in line for the next released one.
+         *
+         * @param resume Hands a released permit over to the agent.
+         * @return true if a permit was taken.
+         */
+        private synchronized boolean acquireOrWait(final BooleanSupplier resume) {
+            if (available > 0) {
+                available--;
+                return true;
+            }
+            waiting.add(resume);
+            return false;
+        }
+
+        /**
+         * Hands the permit over to the first waiting agent that still needs it, or makes it available.
+         */
+        private void release() {
+            while (true) {
+                final BooleanSupplier resume;
+                synchronized (this) {
+                    resume = waiting.poll();
+                    if (resume == null) {
+                        available++;
+                        return;
+                    }
+                }
+                if (resume.getAsBoolean()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final Log LOG = LogFactory.getLog(ScheduledFileMonitor.class);
+
+    private static final Duration DEFAULT_DELAY = Duration.ofSeconds(1);
+
+    private static final double DEFAULT_JITTER = 0.1;
+
+    private static final int DEFAULT_MAX_CONCURRENT_CHECKS = 4;
+
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+
+    private static final int DEFAULT_THREADS = 4;
+
+    /**
+     * Map from FileName to the agent monitoring it.
+     */
+    private final Map<FileName, FileMonitorAgent> agentMap = new ConcurrentHashMap<>();
+
+    /**
+     * The initial delay between checks of a file.
+     */
+    private volatile Duration delay = DEFAULT_DELAY;
+
+    /**
+     * The running executor service, or null when stopped.
+     */
+    private volatile ScheduledExecutorService executorService;
+
+    /**
+     * Incremented on each start and stop, so checks scheduled before a stop are dropped.
+     */
+    private volatile long generation;
+
+    /**
+     * The fraction of a delay by which a check may be moved earlier or later.
+     */
+    private volatile double jitter = DEFAULT_JITTER;
+
+    /**
+     * A listener object that if set, is notified on file creation and deletion.
+     */
+    private final FileListener listener;
+
+    /**
+     * The number of checks that may run at the same time on one file system.
+     */
+    private volatile int maxConcurrentChecks = DEFAULT_MAX_CONCURRENT_CHECKS;
+
+    /**
+     * The delay an unchanged file backs off to.
+     */
+    private volatile Duration maxDelay = DEFAULT_MAX_DELAY;
+
+    /**
+     * Map from file system to its check permits.
+     */
+    private final Map<FileSystem, Permits> permitsMap = new ConcurrentHashMap<>();
+
+    /**
+     * A flag used to determine if adding files to be monitored should be recursive.
+     */
+    private volatile boolean recursive;
+
+    /**
+     * The executor service given at construction, or null to create one on start.
+     */
+    private final ScheduledExecutorService suppliedExecutorService;
+
+    /**
+     * Constructs a new instance with the given listener.
+     *
+     * @param listener the listener.
+     */
+    public ScheduledFileMonitor(final FileListener listener) {
+        this(listener, null);
+    }
+
+    /**
+     * Constructs a new instance with the given listener and executor service. The executor service is not shut down by
+     * this monitor.
+     *
+     * @param listener the listener.
+     * @param executorService the executor service running the checks, null to create one on start.
+     */
+    public ScheduledFileMonitor(final FileListener listener, final ScheduledExecutorService executorService) {
+        this.listener = listener;
+        this.suppliedExecutorService = executorService;
+    }
+
+    /**
+     * Adds agents for a file and, with recursive descent, its descendants.
+     */
+    private void addAgents(final FileObject file, final boolean recursiveDescent, final boolean fireCreate) {
+        if (agentMap.containsKey(file.getName())) {
+            // Creating an agent checks and lists the file
+            return;
+        }
+        final FileMonitorAgent agent = new FileMonitorAgent(file, recursiveDescent);
+        if (agentMap.putIfAbsent(file.getName(), agent) != null) {
+            return;
+        }
+        if (listener != null) {
+            file.getFileSystem().addListener(file, listener);
+        }
+        agent.schedule(agent.delayMillis, generation);
+        if (recursiveDescent) {
+            for (final FileName name : agent.children) {
+                final FileObject child = agent.resolve(name);
+                if (child != null) {
+                    if (fireCreate) {
+                        fire(child, EventType.CREATED);
+                    }
+                    addAgents(child, true, fireCreate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a file to be monitored.
+     *
+     * @param file The FileObject to monitor.
+     */
+    @Override
+    public void addFile(final FileObject file) {
+        addAgents(file, recursive, false);
+    }
+
+    /**
+     * Stops monitoring and removes all files.
+     */
+    @Override
+    public void close() {
+        stop();
+        agentMap.values().forEach(agent -> removeListener(agent.fileObject));
+        agentMap.clear();
+        permitsMap.clear();
+    }
+
+    private void fire(final FileObject file, final EventType eventType) {
+        // Add the listener so it can be triggered, unless the file has its own agent.
+        final boolean hasListener = agentMap.containsKey(file.getName());
+        if (listener != null && !hasListener) {
+            file.getFileSystem().addListener(file, listener);
+        }
+        try {
+            final AbstractFileSystem fileSystem = (AbstractFileSystem) file.getFileSystem();
+            switch (eventType) {
+            case CHANGED:
+                fileSystem.fireFileChanged(file);
+                break;
+            case CREATED:
+                fileSystem.fireFileCreated(file);
+                break;
+            default:
+                fileSystem.fireFileDeleted(file);
+                break;
+            }
+        } finally {
+            if (!hasListener) {
+                removeListener(file);
+            }
+        }
+    }
+
+    /**
+     * Gets the delay a file currently waits between checks, including backoff but not jitter.
+     *
+     * @param file The monitored file.
+     * @return the current delay, or null if the file is not monitored.
+     */
+    Duration getCurrentDelay(final FileObject file) {
+        final FileMonitorAgent agent = agentMap.get(file.getName());
+        return agent != null ? Duration.ofMillis(agent.delayMillis) : null;
+    }
+
+    /**
+     * Gets the initial delay between checks of a file.
+     *
+     * @return The delay period.
+     */
+    public Duration getDelayDuration() {
+        return delay;
+    }
+
+    /**
+     * Gets the fraction of a delay by which a check may run earlier or later.
+     *
+     * @return The jitter, between 0 and 1.
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Gets the number of checks that may run at the same time on one file system.
+     *
+     * @return The number of concurrent checks per file system.
+     */
+    public int getMaxConcurrentChecks() {
+        return maxConcurrentChecks;
+    }
+
+    /**
+     * Gets the delay an unchanged file backs off to.
+     *
+     * @return The maximum delay period.
+     */
+    public Duration getMaxDelayDuration() {
+        return maxDelay;
+    }
+
+    private Permits getPermits(final FileSystem fileSystem) {
+        return permitsMap.computeIfAbsent(fileSystem, k -> new Permits(maxConcurrentChecks));
+    }
+
+    private boolean isChildOfAgent(final FileObject file) {
+        final FileName parent = file.getName().getParent();
+        return parent != null && agentMap.containsKey(parent);
+    }
+
+    /**
+     * Tests the recursive setting when adding files for monitoring.
+     *
+     * @return true if monitoring is enabled for children.
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * Removes an agent and the agents of its descendants.
+     */
+    private void removeAgents(final FileMonitorAgent agent, final boolean fireDelete) {
+        if (!agentMap.remove(agent.fileObject.getName(), agent)) {
+            return;
+        }
+        agent.unschedule();
+        for (final FileName name : agent.children) {
+            final FileMonitorAgent childAgent = agentMap.get(name);
+            if (childAgent != null) {
+                removeAgents(childAgent, fireDelete);
+                if (fireDelete) {
+                    fire(childAgent.fileObject, EventType.DELETED);
+                }
+            }
+        }
+        removeListener(agent.fileObject);
+    }
+
+    /**
+     * Removes a file, and the descendants added with it, from being monitored.
+     *
+     * @param file The FileObject to remove from monitoring.
+     */
+    @Override
+    public void removeFile(final FileObject file) {
+        final FileMonitorAgent agent = agentMap.get(file.getName());
+        if (agent != null) {
+            removeAgents(agent, false);
+        }
+    }
+
+    private void removeListener(final FileObject file) {
+        if (listener != null) {
+            file.getFileSystem().removeListener(file, listener);
+        }
+    }
+
+    /**
+     * Sets the initial delay between checks of a file, to which a file returns after a change.
+     *
+     * @param delay The delay period.
+     */
+    public void setDelay(final Duration delay) {
+        this.delay = delay == null || delay.isNegative() || delay.isZero() ? DEFAULT_DELAY : delay;
+    }
+
+    /**
+     * Sets the fraction of a delay by which a check may run earlier or later, clamped between 0 and 1.
+     *
+     * @param jitter The jitter, 0 to disable.
+     */
+    public void setJitter(final double jitter) {
+        this.jitter = Double.isNaN(jitter) ? DEFAULT_JITTER : Math.max(0, Math.min(1, jitter));
+    }
+
+    /**
+     * Sets the number of checks that may run at the same time on one file system. Takes effect on the next start.
+     *
+     * @param maxConcurrentChecks The number of concurrent checks per file system, a value less than 1 restores the default.
+     */
+    public void setMaxConcurrentChecks(final int maxConcurrentChecks) {
+        this.maxConcurrentChecks = maxConcurrentChecks < 1 ? DEFAULT_MAX_CONCURRENT_CHECKS : maxConcurrentChecks;
+    }
+
+    /**
+     * Sets the delay an unchanged file backs off to. A value equal to the initial delay disables backoff.
+     *
+     * @param maxDelay The maximum delay period.
+     */
+    public void setMaxDelay(final Duration maxDelay) {
+        this.maxDelay = maxDelay == null || maxDelay.isNegative() ? DEFAULT_MAX_DELAY : maxDelay;
+    }
+
+    /**
+     * Sets the recursive setting when adding files for monitoring.
+     *
+     * @param newRecursive true if monitoring should be enabled for children.
+     */
+    public void setRecursive(final boolean newRecursive) {
+        this.recursive = newRecursive;
+    }
+
+    /**
+     * Starts monitoring the files that have been added.
+     */
+    public synchronized void start() {
+        if (executorService != null) {
+            return;
+        }
+        permitsMap.clear();
+        executorService = suppliedExecutorService != null ? suppliedExecutorService : Executors.newScheduledThreadPool(DEFAULT_THREADS, r -> {
+            final Thread thread = new Thread(r, "ScheduledFileMonitor");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        final long startGeneration = ++generation;
+        for (final FileMonitorAgent agent : agentMap.values()) {
+            agent.delayMillis = delay.toMillis();
+            // Spread the first checks over one delay.
+            agent.schedule(ThreadLocalRandom.current().nextLong(agent.delayMillis + 1), startGeneration);
+        }
+    }
+
+    /**
+     * Stops monitoring the files that have been added.
+     */
+    public synchronized void stop() {
+        final ScheduledExecutorService service = executorService;
+        if (service == null) {
+            return;
+        }
+        executorService = null;
+        generation++;
+        agentMap.values().forEach(FileMonitorAgent::unschedule);
+        if (service != suppliedExecutorService) {
+            service.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,755 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.impl;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.vfs2.FileListener;
+import org.apache.commons.vfs2.FileMonitor;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.NameScope;
+import org.apache.commons.vfs2.provider.AbstractFileSystem;
+import org.apache.commons.vfs2.provider.local.LocalFile;
+import org.apache.commons.vfs2.util.FileObjectUtils;
+
+/**
+ * A {@link FileMonitor} implementation backed by the platform {@link WatchService} (inotify on Linux).
+ * <p>
+ * Local files are registered with a {@link WatchService}: a monitored folder is watched directly, a monitored file is
+ * watched through its parent folder. With recursive descent enabled, every folder below a monitored folder is
+ * registered as well, and folders created later are registered as they appear. Nothing is polled, so the cost of
+ * monitoring does not grow with the number of unchanged files.
+ * </p>
+ * <p>
+ * Events are delivered like the {@link DefaultFileMonitor} does, through
+ * {@link AbstractFileSystem#fireFileCreated(FileObject)}, {@link AbstractFileSystem#fireFileDeleted(FileObject)} and
+ * {@link AbstractFileSystem#fireFileChanged(FileObject)}, so listeners see the same {@code FileChangeEvent}s:
+ * </p>
+ * <ul>
+ * <li>Create, delete and change events are fired for each monitored file.</li>
+ * <li>Create events are fired for new children of a monitored folder.</li>
+ * <li>Change events are not fired for folders.</li>
+ * </ul>
+ * <p>
+ * Files that are not local, and local files that cannot be registered, are monitored by an internal
+ * {@link DefaultFileMonitor} instead. When the platform reports an overflow for a folder, the monitored files in that
+ * folder are handed over to polling as well, since the watch service can no longer tell what changed.
+ * </p>
+ * <h2>Example usage:</h2>
+ *
+ * <pre>
+ * FileSystemManager fsManager = VFS.getManager();
+ * FileObject listendir = fsManager.resolveFile("/home/username/monitored/");
+ *
+ * WatchServiceFileMonitor fm = new WatchServiceFileMonitor(new CustomFileListener());
+ * fm.setRecursive(true);
+ * fm.addFile(listendir);
+ * fm.start();
+ * </pre>
+ *
+ * @since 2.10.0
+ */
+public class WatchServiceFileMonitor implements FileMonitor, AutoCloseable {
+
+    /**
+     * A file added with {@link #addFile(FileObject)}.
+     */
+    private static final class MonitoredFile {
+        private final FileObject fileObject;
+        private final boolean recursive;
+        /** The watched folders this file holds a reference on. */
+        private final List<WatchedFolder> folders = new ArrayList<>();
+
+        private MonitoredFile(final FileObject fileObject, final boolean recursive) {
+            this.fileObject = fileObject;
+            this.recursive = recursive;
+        }
+    }
+
+    /**
+     * An event collected while holding the monitor map lock, fired after releasing it.
+     */
+    private static final class PendingEvent {
+        private final FileObject file;
+        private final WatchEvent.Kind<?> kind;
+        private final boolean hasListener;
+        private final boolean createDescendants;
+
+        private PendingEvent(final FileObject file, final WatchEvent.Kind<?> kind, final boolean hasListener,
+            final boolean createDescendants) {
+            this.file = file;
+            this.kind = kind;
+            this.hasListener = hasListener;
+            this.createDescendants = createDescendants;
+        }
+    }
+
+    /**
+     * A folder registered with the watch service, and the number of references monitored files hold on it.
+     */
+    private static final class WatchedFolder {
+        private final Path path;
+        private final FileObject fileObject;
+        private final WatchKey key;
+        private int references;
+
+        private WatchedFolder(final Path path, final FileObject fileObject, final WatchKey key) {
+            this.path = path;
+            this.fileObject = fileObject;
+            this.key = key;
+        }
+    }
+
+    private static final Log LOG = LogFactory.getLog(WatchServiceFileMonitor.class);
+
+    /**
+     * A listener object that if set, is notified on file creation and deletion.
+     */
+    private final FileListener listener;
+
+    /**
+     * Map from local path to the file added for monitoring, guarded by itself.
+     */
+    private final Map<Path, MonitoredFile> monitorMap = new HashMap<>();
+
+    /**
+     * The thread that takes keys from the watch service, guarded by the monitor map.
+     */
+    private Thread monitorThread;
+
+    /**
+     * The polling monitor for files the watch service cannot handle.
+     */
+    private final DefaultFileMonitor pollingMonitor;
+
+    /**
+     * Whether the polling monitor has files to check.
+     */
+    private boolean polling;
+
+    /**
+     * Whether the polling monitor thread is running.
+     */
+    private boolean pollingStarted;
+
+    /**
+     * A flag used to determine if adding files to be monitored should be recursive.
+     */
+    private boolean recursive;
+
+    /**
+     * Whether {@link #start()} has been called without a matching {@link #stop()}.
+     */
+    private boolean started;
+
+    /**
+     * Map from watch key to the folder it watches.
+     */
+    private final Map<WatchKey, WatchedFolder> watchKeys = new HashMap<>();
+
+    /**
+     * Map from path to the watched folder.
+     */
+    private final Map<Path, WatchedFolder> watchedFolders = new HashMap<>();
+
+    /**
+     * The watch service, created on the first local file, or null.
+     */
+    private WatchService watchService;
+
+    /**
+     * Whether creating the watch service failed, in which case all files are polled.
+     */
+    private boolean watchServiceUnavailable;
+
+    /**
+     * Constructs a new instance with the given listener.
+     *
+     * @param listener the listener.
+     */
+    public WatchServiceFileMonitor(final FileListener listener) {
+        this.listener = listener;
+        this.pollingMonitor = new DefaultFileMonitor(listener);
+    }
+
+    /**
+     * Adds a file to be monitored.
+     *
+     * @param file The FileObject to monitor.
+     */
+    @Override
+    public void addFile(final FileObject file) {
+        synchronized (monitorMap) {
+            final Path path = toWatchablePath(file);
+            if (path == null || !watch(path, file)) {
+                addPolledFile(file, recursive);
+            }
+        }
+    }
+
+    private void addListener(final FileObject file) {
+        if (listener != null) {
+            file.getFileSystem().addListener(file, listener);
+        }
+    }
+
+    private void addPolledFile(final FileObject file, final boolean recursiveDescent) {
+        pollingMonitor.setRecursive(recursiveDescent);
+        pollingMonitor.addFile(file);
+        polling = true;
+        if (started && !pollingStarted) {
+            pollingMonitor.start();
+            pollingStarted = true;
+        }
+    }
+
+    /**
+     * Stops monitoring and releases the watch service. A closed monitor cannot be restarted.
+     */
+    @Override
+    public void close() {
+        stop();
+        synchronized (monitorMap) {
+            monitorMap.values().forEach(monitored -> removeListener(monitored.fileObject));
+            monitorMap.clear();
+            watchKeys.clear();
+            watchedFolders.clear();
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (final IOException e) {
+                    LOG.warn(e.getLocalizedMessage(), e);
+                }
+                watchService = null;
+            }
+            watchServiceUnavailable = true;
+        }
+        pollingMonitor.close();
+    }
+
+    private void collectEvent(final FileObject folder, final Path folderPath, final WatchEvent.Kind<?> kind, final Path name,
+        final List<PendingEvent> pending) {
+        final Path childPath = folderPath.resolve(name);
+        final boolean childMonitored = isMonitoredChild(childPath);
+        final boolean folderMonitored = monitorMap.containsKey(folderPath) || isRecursivelyMonitored(folderPath);
+        if (!childMonitored && !(folderMonitored && kind == StandardWatchEventKinds.ENTRY_CREATE)) {
+            return;
+        }
+        final MonitoredFile monitored = monitorMap.get(childPath);
+        final FileObject child;
+        try {
+            child = monitored != null ? monitored.fileObject : folder.resolveFile(name.toString(), NameScope.CHILD);
+        } catch (final FileSystemException fse) {
+            LOG.error(fse.getLocalizedMessage(), fse);
+            return;
+        }
+        boolean createDescendants = false;
+        if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(childPath)) {
+            final List<MonitoredFile> owners = getRecursiveOwners(folderPath);
+            if (monitored != null) {
+                owners.add(monitored);
+            }
+            if (!owners.isEmpty()) {
+                final boolean registerTree = monitored != null ? monitored.recursive : true;
+                if (!register(childPath, child, registerTree, owners)) {
+                    handleOverflow(childPath);
+                } else {
+                    createDescendants = registerTree;
+                }
+            }
+        }
+        pending.add(new PendingEvent(child, kind, monitored != null, createDescendants));
+    }
+
+    /**
+     * Collects the events of a key while holding the monitor map lock.
+     */
+    private void collectEvents(final WatchKey key, final List<PendingEvent> pending) {
+        final WatchedFolder watched = watchKeys.get(key);
+        if (watched == null) {
+            key.cancel();
+            return;
+        }
+        final FileObject folder = watched.fileObject;
+        final Path folderPath = watched.path;
+        WatchEvent.Kind<?> lastKind = null;
+        Object lastContext = null;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            final WatchEvent.Kind<?> kind = event.kind();
+            if (kind == StandardWatchEventKinds.OVERFLOW) {
+                handleOverflow(folderPath);
+                return;
+            }
+            // Coalesce repeated events, a single write often yields several modifications.
+            if (kind == lastKind && Objects.equals(event.context(), lastContext)) {
+                continue;
+            }
+            lastKind = kind;
+            lastContext = event.context();
+            collectEvent(folder, folderPath, kind, (Path) event.context(), pending);
+        }
+        if (!key.reset()) {
+            // The folder is gone, the references held on it are dropped with their owners.
+            watchKeys.remove(key);
+            watchedFolders.remove(folderPath, watched);
+        }
+    }
+
+    private void fire(final FileObject file, final WatchEvent.Kind<?> kind, final boolean hasListener) {
+        try {
+            file.refresh();
+            if (kind == StandardWatchEventKinds.ENTRY_MODIFY && file.isFolder()) {
+                // Folder changes are reported as create and delete events for their children.
+                return;
+            }
+        } catch (final FileSystemException fse) {
+            LOG.error(fse.getLocalizedMessage(), fse);
+        }
+        // Add the listener so it can be triggered, the same way the DefaultFileMonitor does.
+        if (!hasListener) {
+            addListener(file);
+        }
+        try {
+            final AbstractFileSystem fileSystem = (AbstractFileSystem) file.getFileSystem();
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                fileSystem.fireFileCreated(file);
+            } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                fileSystem.fireFileDeleted(file);
+            } else {
+                fileSystem.fireFileChanged(file);
+            }
+        } finally {
+            if (!hasListener) {
+                removeListener(file);
+            }
+        }
+    }
+
+    /**
+     * Fires create events for a new folder's descendants, which may have been created before the folder was registered.
+     */
+    private void fireAllCreate(final FileObject folder) {
+        try {
+            for (final FileObject child : folder.getChildren()) {
+                fire(child, StandardWatchEventKinds.ENTRY_CREATE, false);
+                if (child.isFolder()) {
+                    fireAllCreate(child);
+                }
+            }
+        } catch (final FileSystemException fse) {
+            LOG.error(fse.getLocalizedMessage(), fse);
+        }
+    }
+
+    /**
+     * Gets the delay between runs of the polling monitor used for files that cannot be watched.
+     *
+     * @return The delay period.
+     */
+    public Duration getDelayDuration() {
+        return pollingMonitor.getDelayDuration();
+    }
+
+    /**
+     * Gets the files monitored with recursive descent whose tree contains the given folder.
+     */
+    private List<MonitoredFile> getRecursiveOwners(final Path folder) {
+        final List<MonitoredFile> owners = new ArrayList<>();
+        for (Path ancestor = folder; ancestor != null; ancestor = ancestor.getParent()) {
+            final MonitoredFile monitored = monitorMap.get(ancestor);
+            if (monitored != null && monitored.recursive) {
+                owners.add(monitored);
+            }
+        }
+        return owners;
+    }
+
+    /**
+     * Gets the number of folders registered with the watch service.
+     *
+     * @return the number of watched folders.
+     */
+    int getWatchedFolderCount() {
+        synchronized (monitorMap) {
+            return watchedFolders.size();
+        }
+    }
+
+    /**
+     * Hands the files monitored through the given folder over to the polling monitor. Called when the watch service
+     * reports an overflow, or cannot register a new folder.
+     *
+     * @param folder The local path of the folder.
+     */
+    void handleOverflow(final Path folder) {
+        synchronized (monitorMap) {
+            final List<MonitoredFile> affected = new ArrayList<>();
+            for (final Iterator<Map.Entry<Path, MonitoredFile>> it = monitorMap.entrySet().iterator(); it.hasNext();) {
+                final Map.Entry<Path, MonitoredFile> entry = it.next();
+                final Path path = entry.getKey();
+                if (folder.equals(path) || folder.equals(path.getParent()) || entry.getValue().recursive && folder.startsWith(path)) {
+                    it.remove();
+                    affected.add(entry.getValue());
+                }
+            }
+            for (final MonitoredFile monitored : affected) {
+                LOG.warn("Watch service overflow, polling " + monitored.fileObject);
+                release(monitored);
+                removeListener(monitored.fileObject);
+                addPolledFile(monitored.fileObject, monitored.recursive);
+            }
+        }
+    }
+
+    private boolean isMonitoredChild(final Path child) {
+        if (monitorMap.containsKey(child)) {
+            return true;
+        }
+        // A descendant of a folder monitored with recursive descent.
+        for (Path ancestor = child.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+            final MonitoredFile monitored = monitorMap.get(ancestor);
+            if (monitored != null && monitored.recursive) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRecursivelyMonitored(final Path folder) {
+        for (Path ancestor = folder; ancestor != null; ancestor = ancestor.getParent()) {
+            final MonitoredFile monitored = monitorMap.get(ancestor);
+            if (monitored != null && monitored.recursive) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests the recursive setting when adding files for monitoring.
+     *
+     * @return true if monitoring is enabled for children.
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * Tests whether the given file is monitored through the watch service rather than by polling.
+     *
+     * @param file The FileObject to test.
+     * @return true if the file was added and is watched by the watch service.
+     */
+    public boolean isWatched(final FileObject file) {
+        synchronized (monitorMap) {
+            final Path path = toWatchablePath(file);
+            return path != null && monitorMap.containsKey(path);
+        }
+    }
+
+    /**
+     * Registers a folder with the watch service.
+     *
+     * @param folder The local path of the folder.
+     * @return the new watch key.
+     * @throws IOException if the watch service refuses the registration.
+     */
+    WatchKey newWatchKey(final Path folder) throws IOException {
+        return folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    private void processEvents(final WatchKey key) {
+        final List<PendingEvent> pending = new ArrayList<>();
+        synchronized (monitorMap) {
+            collectEvents(key, pending);
+        }
+        // Listeners are called without the lock, so they can use this monitor from any thread.
+        for (final PendingEvent event : pending) {
+            fire(event.file, event.kind, event.hasListener);
+            if (event.createDescendants) {
+                fireAllCreate(event.file);
+            }
+        }
+    }
+
+    /**
+     * Registers a folder, and its subfolders when asked, with the watch service.
+     *
+     * @return false if the watch service refused the registration.
+     */
+    private boolean register(final Path folder, final FileObject folderObject, final boolean tree,
+        final List<MonitoredFile> owners) {
+        try {
+            if (!tree) {
+                registerFolder(folder, folderObject, owners);
+                return true;
+            }
+            Files.walkFileTree(folder, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                    final FileObject dirObject = dir.equals(folder) ? folderObject
+                        : folderObject.resolveFile(folder.relativize(dir).toString().replace('\\', '/'), NameScope.DESCENDENT);
+                    registerFolder(dir, dirObject, owners);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return true;
+        } catch (final IOException | ClosedWatchServiceException e) {
+            LOG.warn(e.getLocalizedMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Registers the parent folder of a file, through which the file's own creation and deletion are seen.
+     *
+     * @return false if there is no parent folder or the watch service refused the registration.
+     */
+    private boolean registerParent(final Path path, final MonitoredFile monitored) {
+        final Path parent = path.getParent();
+        if (parent == null || !Files.isDirectory(parent)) {
+            return false;
+        }
+        try {
+            return register(parent, monitored.fileObject.getParent(), false, Collections.singletonList(monitored));
+        } catch (final FileSystemException fse) {
+            LOG.error(fse.getLocalizedMessage(), fse);
+            return false;
+        }
+    }
+
+    /**
+     * Registers a folder if needed, and adds a reference on it for each owner.
+     */
+    private void registerFolder(final Path folder, final FileObject folderObject, final List<MonitoredFile> owners)
+        throws IOException {
+        WatchedFolder watched = watchedFolders.get(folder);
+        if (watched == null) {
+            final WatchKey key = newWatchKey(folder);
+            watched = new WatchedFolder(folder, folderObject, key);
+            watchedFolders.put(folder, watched);
+            watchKeys.put(key, watched);
+        }
+        for (final MonitoredFile owner : owners) {
+            watched.references++;
+            owner.folders.add(watched);
+        }
+    }
+
+    /**
+     * Drops the references a monitored file holds, and cancels the watch keys of folders no monitored file needs anymore.
+     */
+    private void release(final MonitoredFile monitored) {
+        for (final WatchedFolder watched : monitored.folders) {
+            if (--watched.references == 0 && watchedFolders.remove(watched.path, watched)) {
+                watched.key.cancel();
+                watchKeys.remove(watched.key);
+            }
+        }
+        monitored.folders.clear();
+    }
+
+    /**
+     * Removes a file from being monitored.
+     *
+     * @param file The FileObject to remove from monitoring.
+     */
+    @Override
+    public void removeFile(final FileObject file) {
+        synchronized (monitorMap) {
+            final Path path = toWatchablePath(file);
+            final MonitoredFile monitored = path != null ? monitorMap.remove(path) : null;
+            if (monitored == null) {
+                pollingMonitor.removeFile(file);
+                return;
+            }
+            removeListener(monitored.fileObject);
+            release(monitored);
+        }
+    }
+
+    private void removeListener(final FileObject file) {
+        if (listener != null) {
+            file.getFileSystem().removeListener(file, listener);
+        }
+    }
+
+    private void run() {
+        final WatchService service;
+        synchronized (monitorMap) {
+            service = watchService;
+        }
+        if (service == null) {
+            return;
+        }
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                processEvents(service.take());
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException e) {
+            // Stopped.
+        }
+    }
+
+    /**
+     * Sets the delay between runs of the polling monitor used for files that cannot be watched.
+     *
+     * @param delay The delay period.
+     */
+    public void setDelay(final Duration delay) {
+        pollingMonitor.setDelay(delay);
+    }
+
+    /**
+     * Sets the recursive setting when adding files for monitoring.
+     *
+     * @param newRecursive true if monitoring should be enabled for children.
+     */
+    public void setRecursive(final boolean newRecursive) {
+        this.recursive = newRecursive;
+    }
+
+    /**
+     * Starts monitoring the files that have been added.
+     */
+    public void start() {
+        synchronized (monitorMap) {
+            started = true;
+            if (polling && !pollingStarted) {
+                pollingMonitor.start();
+                pollingStarted = true;
+            }
+            startMonitorThread();
+        }
+    }
+
+    private void startMonitorThread() {
+        if (monitorThread == null && started && watchService != null) {
+            monitorThread = new Thread(this::run, "WatchServiceFileMonitor");
+            monitorThread.setDaemon(true);
+            monitorThread.start();
+        }
+    }
+
+    /**
+     * Stops monitoring the files that have been added. Changes made while stopped are reported on restart, as far as the
+     * watch service has kept them.
+     */
+    public void stop() {
+        final Thread thread;
+        final boolean stopPolling;
+        synchronized (monitorMap) {
+            started = false;
+            stopPolling = pollingStarted;
+            pollingStarted = false;
+            thread = monitorThread;
+            monitorThread = null;
+        }
+        // Join outside the lock, the monitor threads may need it to finish their work.
+        if (stopPolling) {
+            pollingMonitor.stop();
+        }
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * Gets the absolute local path of a file the watch service can handle, or null.
+     */
+    private Path toWatchablePath(final FileObject file) {
+        try {
+            if (FileObjectUtils.getAbstractFileObject(file) instanceof LocalFile) {
+                return file.getPath().toAbsolutePath().normalize();
+            }
+        } catch (final FileSystemException | RuntimeException e) {
+            LOG.debug(e.getLocalizedMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Starts watching a local file.
+     *
+     * @return false if the file must be polled instead.
+     */
+    private boolean watch(final Path path, final FileObject file) {
+        if (monitorMap.containsKey(path)) {
+            return true;
+        }
+        if (watchService == null) {
+            if (watchServiceUnavailable) {
+                return false;
+            }
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+            } catch (final IOException | UnsupportedOperationException e) {
+                LOG.warn(e.getLocalizedMessage(), e);
+                watchServiceUnavailable = true;
+                return false;
+            }
+        }
+        final boolean folder = Files.isDirectory(path);
+        final MonitoredFile monitored = new MonitoredFile(file, folder && recursive);
+        final boolean registered;
+        if (folder) {
+            // The parent is optional for a folder, it only reports the folder's own deletion.
+            registered = register(path, file, recursive, Collections.singletonList(monitored));
+            if (registered) {
+                registerParent(path, monitored);
+            }
+        } else {
+            registered = registerParent(path, monitored);
+        }
+        if (!registered) {
+            release(monitored);
+            return false;
+        }
+        monitorMap.put(path, monitored);
+        addListener(file);
+        startMonitorThread();
+        return true;
+    }
+}
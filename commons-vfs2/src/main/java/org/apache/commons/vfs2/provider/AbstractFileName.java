@@ -55,6 +55,9 @@ public abstract class AbstractFileName implements FileName {
 
     private String key;
 
+    /** The canonical parent, set when a {@link FileNameCache} interns this name. */
+    private FileName parent;
+
     /**
      * Constructs a new instance.
      *
@@ -257,6 +260,9 @@ public abstract class AbstractFileName implements FileName {
      */
     @Override
     public FileName getParent() {
+        if (parent != null) {
+            return parent;
+        }
         final String parentPath;
         final int idx = getPath().lastIndexOf(SEPARATOR_CHAR);
         if (idx == -1 || idx == getPath().length() - 1) {
@@ -509,6 +515,18 @@ public abstract class AbstractFileName implements FileName {
         return FileType.FILE.equals(this.getType());
     }
 
+    /**
+     * Makes this name canonical: links it to its canonical parent, shares its base name with equal base names, and
+     * computes its key and hash code up front.
+     *
+     * @param canonicalParent The canonical parent of this name, null for a root.
+     */
+    void setCanonical(final FileName canonicalParent) {
+        parent = canonicalParent;
+        baseName = getBaseName().intern();
+        hashCode();
+    }
+
     /**
      * Sets the type of this file e.g. when it will be attached.
      *
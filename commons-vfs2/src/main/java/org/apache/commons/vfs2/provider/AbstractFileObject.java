@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.NoSuchFileException;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
@@ -33,6 +35,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.function.Uncheck;
@@ -52,6 +55,7 @@ import org.apache.commons.vfs2.Selectors;
 import org.apache.commons.vfs2.operations.DefaultFileOperations;
 import org.apache.commons.vfs2.operations.FileOperations;
 import org.apache.commons.vfs2.util.FileObjectUtils;
+import org.apache.commons.vfs2.util.RandomAccessContentChannel;
 import org.apache.commons.vfs2.util.RandomAccessMode;
 
 /**
@@ -81,6 +85,11 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
     private final AbstractFileName fileName;
     private final AFS fileSystem;
 
+    /**
+     * Guards the cached state of this file, the file system unless it uses fine-grained locking.
+     */
+    private final Object stateLock;
+
     private FileContent content;
     // Cached info
     private boolean attached;
@@ -108,6 +117,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
     protected AbstractFileObject(final AbstractFileName fileName, final AFS fileSystem) {
         this.fileName = fileName;
         this.fileSystem = fileSystem;
+        this.stateLock = fileSystem.isFineGrainedLocking() ? new Object() : fileSystem;
         fileSystem.fileObjectHanded(this);
     }
 
@@ -154,7 +164,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      * @throws FileSystemException if an error occurs.
      */
     private void attach() throws FileSystemException {
-        synchronized (fileSystem) {
+        synchronized (stateLock) {
             if (attached) {
                 return;
             }
@@ -198,15 +208,17 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
     protected void childrenChanged(final FileName childName, final FileType newType) throws Exception {
         // TODO - this may be called when not attached
 
-        if (children != null && childName != null && newType != null) {
-            // TODO - figure out if children[] can be replaced by list
-            final ArrayList<FileName> list = new ArrayList<>(Arrays.asList(children));
-            if (newType.equals(FileType.IMAGINARY)) {
-                list.remove(childName);
-            } else {
-                list.add(childName);
+        synchronized (stateLock) {
+            if (children != null && childName != null && newType != null) {
+                // TODO - figure out if children[] can be replaced by list
+                final ArrayList<FileName> list = new ArrayList<>(Arrays.asList(children));
+                if (newType.equals(FileType.IMAGINARY)) {
+                    list.remove(childName);
+                } else {
+                    list.add(childName);
+                }
+                children = list.toArray(FileName.EMPTY_ARRAY);
             }
-            children = list.toArray(FileName.EMPTY_ARRAY);
         }
 
         // removeChildrenCache();
@@ -222,7 +234,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
     public void close() throws FileSystemException {
         FileSystemException exc = null;
 
-        synchronized (fileSystem) {
+        synchronized (stateLock) {
             // Close the content
             if (content != null) {
                 try {
@@ -261,6 +273,29 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
         return this.toString().compareToIgnoreCase(file.toString());
     }
 
+    /**
+     * Checks that the file system and this file allow the given random access.
+     */
+    private void checkRandomAccess(final RandomAccessMode mode) throws FileSystemException {
+        if (mode.requestRead()) {
+            if (!fileSystem.hasCapability(Capability.RANDOM_ACCESS_READ)) {
+                throw new FileSystemException("vfs.provider/random-access-read-not-supported.error");
+            }
+            if (!isReadable()) {
+                throw new FileSystemException("vfs.provider/read-not-readable.error", fileName);
+            }
+        }
+
+        if (mode.requestWrite()) {
+            if (!fileSystem.hasCapability(Capability.RANDOM_ACCESS_WRITE)) {
+                throw new FileSystemException("vfs.provider/random-access-write-not-supported.error");
+            }
+            if (!isWriteable()) {
+                throw new FileSystemException("vfs.provider/write-read-only.error", fileName);
+            }
+        }
+    }
+
     /**
      * Copies another file to this file.
      *
@@ -295,7 +330,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
             // Copy across
             try {
                 if (srcFile.getType().hasContent()) {
-                    FileObjectUtils.writeContent(srcFile, destFile);
+                    copyContent(srcFile, destFile);
                 } else if (srcFile.getType().hasChildren()) {
                     destFile.createFolder();
                 }
@@ -305,6 +340,64 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
         }
     }
 
+    /**
+     * Copies the content of a file to another, letting the destination file system copy it directly if it can.
+     *
+     * @param srcFile The file to copy from.
+     * @param destFile The file to copy to.
+     * @return the number of bytes copied.
+     * @throws IOException if an error occurs.
+     */
+    static long copyContent(final FileObject srcFile, final FileObject destFile) throws IOException {
+        if (destFile instanceof AbstractFileObject && ((AbstractFileObject<?>) destFile).copyContentFrom(srcFile)) {
+            return srcFile.getContent().getSize();
+        }
+        try (FileContent content = srcFile.getContent()) {
+            return content.write(destFile);
+        }
+    }
+
+    /**
+     * Copies the content of a file to this file with {@link #doCopyFrom(FileObject)}.
+     *
+     * @return true if the content was copied, false if it must be copied through streams.
+     */
+    private boolean copyContentFrom(final FileObject file) throws FileSystemException {
+        if (getType().hasChildren()) {
+            return false;
+        }
+        if (getType() == FileType.IMAGINARY) {
+            // Does not exist - make sure parent does
+            final FileObject parent = getParent();
+            if (parent != null) {
+                parent.createFolder();
+            }
+        }
+        try {
+            if (!doCopyFrom(file)) {
+                return false;
+            }
+            endOutput();
+            return true;
+        } catch (final RuntimeException re) {
+            throw re;
+        } catch (final Exception e) {
+            throw new FileSystemException("vfs.provider/copy-file.error", e, file, this);
+        }
+    }
+
+    /**
+     * Creates the ancestors of this file before locking its name, so that name locks are always taken parent first.
+     *
+     * @throws FileSystemException if an error occurs.
+     */
+    private void createAncestors() throws FileSystemException {
+        final FileObject parent = getParent();
+        if (parent != null && !exists()) {
+            parent.createFolder();
+        }
+    }
+
     /**
      * Creates this file, if it does not exist.
      *
@@ -312,7 +405,10 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      */
     @Override
     public void createFile() throws FileSystemException {
-        synchronized (fileSystem) {
+        if (fileSystem.isFineGrainedLocking()) {
+            createAncestors();
+        }
+        synchronized (fileSystem.getLock(fileName)) {
             try {
                 // VFS-210: We do not want to trunc any existing file, checking for its existence is
                 // still required
@@ -344,7 +440,14 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      */
     @Override
     public void createFolder() throws FileSystemException {
-        synchronized (fileSystem) {
+        if (fileSystem.isFineGrainedLocking()) {
+            if (getType().hasChildren()) {
+                // Already exists as correct type
+                return;
+            }
+            createAncestors();
+        }
+        synchronized (fileSystem.getLock(fileName)) {
             // VFS-210: we create a folder only if it does not already exist. So this check should be safe.
             if (getType().hasChildren()) {
                 // Already exists as correct type
@@ -454,7 +557,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      * @throws FileSystemException if an error occurs.
      */
     private boolean deleteSelf() throws FileSystemException {
-        synchronized (fileSystem) {
+        synchronized (fileSystem.getLock(fileName)) {
             // It's possible to delete a read-only file if you have write-execute access to the directory
 
             /*
@@ -484,7 +587,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      * @throws Exception if an error occurs.
      */
     private void detach() throws Exception {
-        synchronized (fileSystem) {
+        synchronized (stateLock) {
             if (attached) {
                 try {
                     doDetach();
@@ -518,6 +621,25 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
         // noop
     }
 
+    /**
+     * Copies the content of another file to this file without passing it through this process, for example with a
+     * server-side copy. Is only called when:
+     * <ul>
+     * <li>The source file has content.</li>
+     * <li>This file does not exist, or has content.</li>
+     * <li>The parent folder of this file exists.</li>
+     * </ul>
+     * This implementation returns false.
+     *
+     * @param file The file to copy from.
+     * @return true if the content was copied, false to copy it through streams instead.
+     * @throws Exception if an error occurs.
+     * @since 2.10.0
+     */
+    protected boolean doCopyFrom(final FileObject file) throws Exception {
+        return false;
+    }
+
     /**
      * Create a FileContent implementation.
      *
@@ -696,6 +818,22 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
         throw new FileSystemException("vfs.provider/random-access-not-supported.error");
     }
 
+    /**
+     * Creates a channel to read or write the file. Is only called if {@link #doGetType} returns {@link FileType#FILE}.
+     * <p>
+     * This implementation returns null, and the channel is built on {@link #doGetRandomAccessContent} or, to read
+     * sequentially, on {@link #doGetInputStream}.
+     * </p>
+     *
+     * @param mode The mode to access the file.
+     * @return The channel, or null if the file system does not implement one.
+     * @throws Exception if an error occurs.
+     * @since 2.10.0
+     */
+    protected SeekableByteChannel doGetSeekableByteChannel(final RandomAccessMode mode) throws Exception {
+        return null;
+    }
+
     /**
      * Determines the type of this file. Must not return null. The return value of this method is cached, so the
      * implementation can be expensive.
@@ -1023,6 +1161,30 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
         }
     }
 
+    /**
+     * Traverses the descendants of this file, listing sibling folders concurrently, and builds a list of selected
+     * files.
+     *
+     * @param selector The FileSelector, which must be thread-safe.
+     * @param depthwise if true files are added after their descendants, before otherwise.
+     * @param selected A List of the located FileObjects.
+     * @param executor runs the listing tasks.
+     * @param ordered if true files are added in the same order as {@link #findFiles(FileSelector, boolean, List)}.
+     * @throws FileSystemException if an error occurs.
+     * @since 2.10.0
+     */
+    @Override
+    public void findFiles(final FileSelector selector, final boolean depthwise, final List<FileObject> selected,
+            final Executor executor, final boolean ordered) throws FileSystemException {
+        try {
+            if (exists()) {
+                new ParallelFileFinder(this, selector, depthwise, executor, ordered).find(selected);
+            }
+        } catch (final Exception e) {
+            throw new FileSystemException("vfs.provider/find-files.error", fileName, e);
+        }
+    }
+
     /**
      * Returns the file system this file belongs to.
      *
@@ -1062,7 +1224,8 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      */
     @Override
     public FileObject[] getChildren() throws FileSystemException {
-        synchronized (fileSystem) {
+        final FileName[] childNames;
+        synchronized (stateLock) {
             // VFS-210
             if (!fileSystem.hasCapability(Capability.LIST_CHILDREN)) {
                 throw new FileNotFolderException(fileName);
@@ -1076,59 +1239,61 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
 
             // Use cached info, if present
             if (children != null) {
-                return resolveFiles(children);
-            }
-
-            // allow the filesystem to return resolved children. e.g. prefill type for webdav
-            final FileObject[] childrenObjects;
-            try {
-                childrenObjects = doListChildrenResolved();
-                children = extractNames(childrenObjects);
-            } catch (final FileSystemException exc) {
-                // VFS-210
-                throw exc;
-            } catch (final Exception exc) {
-                throw new FileSystemException("vfs.provider/list-children.error", exc, fileName);
-            }
+                childNames = children;
+            } else {
+                // allow the filesystem to return resolved children. e.g. prefill type for webdav
+                final FileObject[] childrenObjects;
+                try {
+                    childrenObjects = doListChildrenResolved();
+                    children = extractNames(childrenObjects);
+                } catch (final FileSystemException exc) {
+                    // VFS-210
+                    throw exc;
+                } catch (final Exception exc) {
+                    throw new FileSystemException("vfs.provider/list-children.error", exc, fileName);
+                }
 
-            if (childrenObjects != null) {
-                return childrenObjects;
-            }
+                if (childrenObjects != null) {
+                    return childrenObjects;
+                }
 
-            // List the children
-            final String[] files;
-            try {
-                files = doListChildren();
-            } catch (final FileSystemException exc) {
-                // VFS-210
-                throw exc;
-            } catch (final Exception exc) {
-                throw new FileSystemException("vfs.provider/list-children.error", exc, fileName);
-            }
+                // List the children
+                final String[] files;
+                try {
+                    files = doListChildren();
+                } catch (final FileSystemException exc) {
+                    // VFS-210
+                    throw exc;
+                } catch (final Exception exc) {
+                    throw new FileSystemException("vfs.provider/list-children.error", exc, fileName);
+                }
 
-            if (files == null) {
-                // VFS-210
-                // honor the new doListChildren contract
-                // return null;
-                throw new FileNotFolderException(fileName);
-            }
-            if (files.length == 0) {
-                // No children
-                children = FileName.EMPTY_ARRAY;
-            } else {
-                // Create file objects for the children
-                final FileName[] cache = new FileName[files.length];
-                for (int i = 0; i < files.length; i++) {
-                    final String file = "./" + files[i]; // VFS-741: assume scheme prefix is filename only
-                    cache[i] = fileSystem.getFileSystemManager().resolveName(fileName, file, NameScope.CHILD);
+                if (files == null) {
+                    // VFS-210
+                    // honor the new doListChildren contract
+                    // return null;
+                    throw new FileNotFolderException(fileName);
                 }
-                // VFS-285: only assign the children file names after all of them have been
-                // resolved successfully to prevent an inconsistent internal state
-                children = cache;
+                if (files.length == 0) {
+                    // No children
+                    children = FileName.EMPTY_ARRAY;
+                } else {
+                    // Create file objects for the children
+                    final FileName[] cache = new FileName[files.length];
+                    for (int i = 0; i < files.length; i++) {
+                        final String file = "./" + files[i]; // VFS-741: assume scheme prefix is filename only
+                        cache[i] = fileSystem.getFileSystemManager().resolveName(fileName, file, NameScope.CHILD);
+                    }
+                    // VFS-285: only assign the children file names after all of them have been
+                    // resolved successfully to prevent an inconsistent internal state
+                    children = cache;
+                }
+                childNames = children;
             }
-
-            return resolveFiles(children);
         }
+
+        // Resolve outside the lock, resolving may need the file system lock and the locks of the children
+        return resolveFiles(childNames);
     }
 
     /**
@@ -1139,7 +1304,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      */
     @Override
     public FileContent getContent() throws FileSystemException {
-        synchronized (fileSystem) {
+        synchronized (stateLock) {
             attach();
             if (content == null) {
                 content = doCreateFileContent();
@@ -1306,14 +1471,21 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
             return fileSystem.getParentLayer().getParent();
         }
 
-        synchronized (fileSystem) {
-            // Locate the parent of this file
+        synchronized (stateLock) {
+            if (parent != null) {
+                return parent;
+            }
+        }
+
+        // Locate the parent of this file, outside the lock since resolving may need the file system lock
+        final FileName name = fileName.getParent();
+        if (name == null) {
+            return null;
+        }
+        final FileObject resolved = fileSystem.resolveFile(name);
+        synchronized (stateLock) {
             if (parent == null) {
-                final FileName name = fileName.getParent();
-                if (name == null) {
-                    return null;
-                }
-                parent = fileSystem.resolveFile(name);
+                parent = resolved;
             }
             return parent;
         }
@@ -1341,32 +1513,64 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
         // VFS-210 if (!getType().hasContent()) { throw new FileSystemException("vfs.provider/read-not-file.error",
         // name); }
         //
-        if (mode.requestRead()) {
-            if (!fileSystem.hasCapability(Capability.RANDOM_ACCESS_READ)) {
-                throw new FileSystemException("vfs.provider/random-access-read-not-supported.error");
-            }
-            if (!isReadable()) {
-                throw new FileSystemException("vfs.provider/read-not-readable.error", fileName);
-            }
+        checkRandomAccess(mode);
+
+        // Get the raw input stream
+        try {
+            return doGetRandomAccessContent(mode);
+        } catch (final Exception exc) {
+            throw new FileSystemException("vfs.provider/random-access.error", fileName, exc);
         }
+    }
 
-        if (mode.requestWrite()) {
-            if (!fileSystem.hasCapability(Capability.RANDOM_ACCESS_WRITE)) {
-                throw new FileSystemException("vfs.provider/random-access-write-not-supported.error");
-            }
-            if (!isWriteable()) {
-                throw new FileSystemException("vfs.provider/write-read-only.error", fileName);
-            }
+    /**
+     * Returns a channel implemented by the file system to read this file.
+     *
+     * @return The channel, or null if the file system does not implement one.
+     * @throws FileSystemException if an error occurs.
+     */
+    SeekableByteChannel getReadChannel() throws FileSystemException {
+        try {
+            return doGetSeekableByteChannel(RandomAccessMode.READ);
+        } catch (final org.apache.commons.vfs2.FileNotFoundException | FileNotFoundException | NoSuchFileException exc) {
+            throw new org.apache.commons.vfs2.FileNotFoundException(fileName, exc);
+        } catch (final FileSystemException exc) {
+            throw exc;
+        } catch (final Exception exc) {
+            throw new FileSystemException("vfs.provider/read.error", fileName, exc);
         }
+    }
 
-        // Get the raw input stream
+    /**
+     * Returns a channel to read or write the file, implemented by the file system where it can and on
+     * {@link #getRandomAccessContent(RandomAccessMode)} otherwise.
+     *
+     * @param mode The mode to access the file.
+     * @return The channel.
+     * @throws FileSystemException if an error occurs.
+     * @since 2.10.0
+     */
+    public SeekableByteChannel getSeekableByteChannel(final RandomAccessMode mode) throws FileSystemException {
+        checkRandomAccess(mode);
         try {
-            return doGetRandomAccessContent(mode);
+            final SeekableByteChannel channel = doGetSeekableByteChannel(mode);
+            return channel != null ? channel : new RandomAccessContentChannel(doGetRandomAccessContent(mode), mode);
         } catch (final Exception exc) {
             throw new FileSystemException("vfs.provider/random-access.error", fileName, exc);
         }
     }
 
+    /**
+     * Gets the lock that guards the cached state of this file: the file system, or a lock of this file alone when the
+     * file system uses fine-grained locking. Subclasses guard the state they cache about the file with it.
+     *
+     * @return the lock of this file's state.
+     * @since 2.10.0
+     */
+    protected final Object getStateLock() {
+        return stateLock;
+    }
+
     /**
      * Returns the file's type.
      *
@@ -1375,7 +1579,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      */
     @Override
     public FileType getType() throws FileSystemException {
-        synchronized (fileSystem) {
+        synchronized (stateLock) {
             attach();
 
             // VFS-210: get the type only if requested for
@@ -1434,7 +1638,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      * @throws Exception if an error occurs.
      */
     protected void handleCreate(final FileType newType) throws Exception {
-        synchronized (fileSystem) {
+        synchronized (stateLock) {
             if (attached) {
                 // Fix up state
                 injectType(newType);
@@ -1459,7 +1663,7 @@ public abstract class AbstractFileObject<AFS extends AbstractFileSystem> impleme
      * @throws Exception if an error occurs.
      */
     protected void handleDelete() throws Exception {
-        synchronized (fileSystem) {
+        synchronized (stateLock) {
             if (attached) {
                 // Fix up state
                 injectType(FileType.IMAGINARY);
@@ -16,8 +16,8 @@
  */
 package org.apache.commons.vfs2.provider;
 
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 import org.apache.commons.vfs2.FileName;
@@ -38,10 +38,10 @@ public abstract class AbstractFileProvider extends AbstractVfsContainer implemen
     /**
      * The cached file systems.
      * <p>
-     * This is a mapping from {@link FileSystemKey} (root URI and options) to {@link FileSystem}.
+     * This is a mapping from {@link FileSystemKey} (root URI and options) to {@link FileSystem}. Lookups do not lock.
      * </p>
      */
-    private final Map<FileSystemKey, FileSystem> fileSystemMap = new TreeMap<>(); // @GuardedBy("self")
+    private final ConcurrentMap<FileSystemKey, FileSystem> fileSystemMap = new ConcurrentHashMap<>();
 
     private FileNameParser parser;
 
@@ -66,12 +66,10 @@ public abstract class AbstractFileProvider extends AbstractVfsContainer implemen
         // Add to the container and initialize
         addComponent(fs);
 
-        final FileSystemKey treeKey = new FileSystemKey(key, fs.getFileSystemOptions());
-        ((AbstractFileSystem) fs).setCacheKey(treeKey);
+        final FileSystemKey cacheKey = new FileSystemKey(key, fs.getFileSystemOptions()).freeze();
+        ((AbstractFileSystem) fs).setCacheKey(cacheKey);
 
-        synchronized (fileSystemMap) {
-            fileSystemMap.put(treeKey, fs);
-        }
+        fileSystemMap.put(cacheKey, fs);
     }
 
     /**
@@ -79,9 +77,7 @@ public abstract class AbstractFileProvider extends AbstractVfsContainer implemen
      */
     @Override
     public void close() {
-        synchronized (fileSystemMap) {
-            fileSystemMap.clear();
-        }
+        fileSystemMap.clear();
         super.close();
     }
 
@@ -95,9 +91,7 @@ public abstract class AbstractFileProvider extends AbstractVfsContainer implemen
 
         final FileSystemKey key = fs.getCacheKey();
         if (key != null) {
-            synchronized (fileSystemMap) {
-                fileSystemMap.remove(key);
-            }
+            fileSystemMap.remove(key, fs);
         }
 
         removeComponent(fs);
@@ -128,22 +122,15 @@ public abstract class AbstractFileProvider extends AbstractVfsContainer implemen
      * @return The file system instance, or null if it is not cached.
      */
     protected FileSystem findFileSystem(final Comparable<?> key, final FileSystemOptions fileSystemOptions) {
-        synchronized (fileSystemMap) {
-            return fileSystemMap.get(new FileSystemKey(key, fileSystemOptions));
-        }
+        return fileSystemMap.get(new FileSystemKey(key, fileSystemOptions));
     }
 
     /**
      * Frees unused resources.
      */
     public void freeUnusedResources() {
-        final AbstractFileSystem[] abstractFileSystems;
-        synchronized (fileSystemMap) {
-            // create snapshot under lock
-            abstractFileSystems = fileSystemMap.values().toArray(EMPTY_ABSTRACT_FILE_SYSTEMS);
-        }
+        final AbstractFileSystem[] abstractFileSystems = fileSystemMap.values().toArray(EMPTY_ABSTRACT_FILE_SYSTEMS);
 
-        // process snapshot outside lock
         Stream.of(abstractFileSystems).filter(AbstractFileSystem::isReleaseable)
                                       .forEach(AbstractFileSystem::closeCommunicationLink);
     }
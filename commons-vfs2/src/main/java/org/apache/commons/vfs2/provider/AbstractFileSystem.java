@@ -18,7 +18,9 @@ package org.apache.commons.vfs2.provider;
 
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,6 +29,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.lang3.function.FailableFunction;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.commons.vfs2.CacheStrategy;
@@ -43,6 +46,7 @@ import org.apache.commons.vfs2.FileSystemOptions;
 import org.apache.commons.vfs2.FilesCache;
 import org.apache.commons.vfs2.VfsLog;
 import org.apache.commons.vfs2.cache.OnCallRefreshFileObject;
+import org.apache.commons.vfs2.cache.TtlRefreshFileObject;
 import org.apache.commons.vfs2.events.AbstractFileChangeEvent;
 import org.apache.commons.vfs2.events.ChangedEvent;
 import org.apache.commons.vfs2.events.CreateEvent;
@@ -60,6 +64,11 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
 
     private static final Log LOG = LogFactory.getLog(AbstractFileSystem.class);
 
+    /**
+     * Number of locks used to guard structural changes when fine-grained locking is enabled.
+     */
+    private static final int LOCK_STRIPES = 64;
+
     /**
      * The "root" of the file system. This is always "/" so it isn't always the "real" root.
      */
@@ -85,6 +94,16 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
      */
     private final FileSystemOptions fileSystemOptions;
 
+    /**
+     * The cache strategy set in the options, null to use the one of the file system manager.
+     */
+    private final CacheStrategy cacheStrategy;
+
+    /**
+     * How long file objects keep their data with the {@link CacheStrategy#TTL} cache strategy.
+     */
+    private final Duration cacheTimeToLive;
+
     /**
      * How many fileObjects are handed out
      */
@@ -97,6 +116,11 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
      */
     private final AtomicInteger openStreams = new AtomicInteger(0);
 
+    /**
+     * Locks striped by file name guarding structural changes, null unless fine-grained locking is enabled.
+     */
+    private final Object[] nameLocks;
+
     /** Only provided for Serializable subclasses. */
     AbstractFileSystem() {
         this(null, null, null);
@@ -119,6 +143,14 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
             uri = rootFileName != null ? rootFileName.getURI() : null;
         }
         this.rootURI = uri;
+        this.cacheStrategy = DefaultFileSystemConfigBuilder.getInstance().getCacheStrategy(fileSystemOptions);
+        this.cacheTimeToLive = DefaultFileSystemConfigBuilder.getInstance().getCacheTimeToLive(fileSystemOptions);
+        if (DefaultFileSystemConfigBuilder.getInstance().isFineGrainedLocking(fileSystemOptions)) {
+            nameLocks = new Object[LOCK_STRIPES];
+            Arrays.setAll(nameLocks, i -> new Object());
+        } else {
+            nameLocks = null;
+        }
     }
 
     /**
@@ -171,6 +203,43 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
         }
     }
 
+    /**
+     * Gets a cached file, or creates and caches it if it isn't already present.
+     * <p>
+     * When several threads race on a name that is not cached, they all get the same file object, see
+     * {@link FilesCache#computeFileIfAbsent(FileSystem, FileName, FailableFunction)}. Subclasses that override
+     * {@link #getFileFromCache(FileName)} and {@link #putFileToCache(FileObject)} to keep their own cache should
+     * override this method too.
+     * </p>
+     *
+     * @param name name of the file.
+     * @param creator creates the file object if it is not cached.
+     * @return the cached or created file object.
+     * @throws FileSystemException if the creator fails.
+     * @since 2.10.0
+     */
+    protected FileObject computeFileIfAbsent(final FileName name,
+        final FailableFunction<FileName, FileObject, FileSystemException> creator) throws FileSystemException {
+        return getFilesCache().computeFileIfAbsent(this, name, creator);
+    }
+
+    /**
+     * Creates a file object and decorates it.
+     *
+     * @param name name referencing the new file.
+     * @return new created and decorated FileObject.
+     * @throws FileSystemException if the file cannot be created.
+     */
+    private FileObject createDecoratedFile(final FileName name) throws FileSystemException {
+        final FileObject file;
+        try {
+            file = createFile((AbstractFileName) name);
+        } catch (final Exception e) {
+            throw new FileSystemException("vfs.provider/resolve-file.error", name, e);
+        }
+        return decorateFileObject(file);
+    }
+
     /**
      * Creates a file object.
      * <p>
@@ -184,8 +253,11 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
     protected abstract FileObject createFile(AbstractFileName name) throws Exception;
 
     protected FileObject decorateFileObject(FileObject file) throws FileSystemException {
-        if (getFileSystemManager().getCacheStrategy().equals(CacheStrategy.ON_CALL)) {
+        final CacheStrategy strategy = getCacheStrategy();
+        if (strategy.equals(CacheStrategy.ON_CALL)) {
             file = new OnCallRefreshFileObject(file);
+        } else if (strategy.equals(CacheStrategy.TTL)) {
+            file = new TtlRefreshFileObject(file, cacheTimeToLive);
         }
 
         if (getFileSystemManager().getFileObjectDecoratorConst() != null) {
@@ -304,6 +376,17 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
         return this.cacheKey;
     }
 
+    /**
+     * Gets the cache strategy of this file system, set in its options or otherwise the one of the file system manager.
+     *
+     * @return The cache strategy.
+     * @see DefaultFileSystemConfigBuilder#setCacheStrategy(FileSystemOptions, CacheStrategy)
+     * @since 2.10.0
+     */
+    protected CacheStrategy getCacheStrategy() {
+        return cacheStrategy != null ? cacheStrategy : getFileSystemManager().getCacheStrategy();
+    }
+
     /**
      * Returns a cached file.
      *
@@ -349,6 +432,26 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
         return 0;
     }
 
+    /**
+     * Gets the lock guarding structural changes, like creating or deleting, of the named file.
+     * <p>
+     * This is this file system unless fine-grained locking is enabled, in which case it is one of a fixed set of locks
+     * selected by the hash code of the file name.
+     * </p>
+     *
+     * @param name The file name.
+     * @return The lock for the given file name.
+     * @see DefaultFileSystemConfigBuilder#setFineGrainedLocking(FileSystemOptions, boolean)
+     * @since 2.10.0
+     */
+    protected Object getLock(final FileName name) {
+        if (nameLocks == null) {
+            return this;
+        }
+        final int hash = name.hashCode();
+        return nameLocks[(hash ^ hash >>> 16) & LOCK_STRIPES - 1];
+    }
+
     /**
      * Returns the parent layer if this is a layered file system.
      *
@@ -413,6 +516,17 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
         addCapabilities(capabilities);
     }
 
+    /**
+     * Tests whether file objects of this file system use fine-grained locking.
+     *
+     * @return whether fine-grained locking is enabled.
+     * @see DefaultFileSystemConfigBuilder#setFineGrainedLocking(FileSystemOptions, boolean)
+     * @since 2.10.0
+     */
+    public boolean isFineGrainedLocking() {
+        return nameLocks != null;
+    }
+
     /**
      * Checks if this file system has open streams.
      *
@@ -519,40 +633,25 @@ public abstract class AbstractFileSystem extends AbstractVfsComponent implements
         return resolveFile(name, true);
     }
 
-    private synchronized FileObject resolveFile(final FileName name, final boolean useCache)
-            throws FileSystemException {
+    private FileObject resolveFile(final FileName name, final boolean useCache) throws FileSystemException {
         if (!rootName.getRootURI().equals(name.getRootURI())) {
             throw new FileSystemException("vfs.provider/mismatched-fs-for-name.error", name, rootName,
                     name.getRootURI());
         }
 
-        // imario@apache.org ==> use getFileFromCache
-        FileObject file;
+        final FileObject file;
         if (useCache) {
-            file = getFileFromCache(name);
+            // Cache hits don't lock, misses create and decorate the file at most once per name
+            final FileObject cached = getFileFromCache(name);
+            file = cached != null ? cached : computeFileIfAbsent(name, this::createDecoratedFile);
         } else {
-            file = null;
-        }
-
-        if (file == null) {
-            try {
-                file = createFile((AbstractFileName) name);
-            } catch (final Exception e) {
-                throw new FileSystemException("vfs.provider/resolve-file.error", name, e);
-            }
-
-            file = decorateFileObject(file);
-
-            // imario@apache.org ==> use putFileToCache
-            if (useCache) {
-                putFileToCache(file);
-            }
+            file = createDecoratedFile(name);
         }
 
         /*
           resync the file information if requested
          */
-        if (getFileSystemManager().getCacheStrategy().equals(CacheStrategy.ON_RESOLVE)) {
+        if (getCacheStrategy().equals(CacheStrategy.ON_RESOLVE)) {
             file.refresh();
         }
         return file;
@@ -44,17 +44,23 @@ public abstract class AbstractLayeredFileProvider extends AbstractFileProvider {
      * @throws FileSystemException if an error occurs.
      */
     @Override
-    public synchronized FileObject createFileSystem(final String scheme, final FileObject file,
+    public FileObject createFileSystem(final String scheme, final FileObject file,
             final FileSystemOptions fileSystemOptions) throws FileSystemException {
         // Check if cached
         final FileName rootName = file.getName();
-        FileSystem fs = findFileSystem(rootName, fileSystemOptions);
-        if (fs == null) {
-            // Create the file system
-            fs = doCreateFileSystem(scheme, file, fileSystemOptions);
-            addFileSystem(rootName, fs);
+        final FileSystem cached = findFileSystem(rootName, fileSystemOptions);
+        if (cached != null) {
+            return cached.getRoot();
+        }
+        synchronized (this) {
+            FileSystem fs = findFileSystem(rootName, fileSystemOptions);
+            if (fs == null) {
+                // Create the file system
+                fs = doCreateFileSystem(scheme, file, fileSystemOptions);
+                addFileSystem(rootName, fs);
+            }
+            return fs.getRoot();
         }
-        return fs.getRoot();
     }
 
     /**
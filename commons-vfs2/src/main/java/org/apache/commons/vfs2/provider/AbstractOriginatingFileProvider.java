@@ -90,6 +90,9 @@ public abstract class AbstractOriginatingFileProvider extends AbstractFileProvid
 
     /**
      * Returns the FileSystem associated with the specified root.
+     * <p>
+     * Finding a cached file system does not lock; creating one synchronizes on this provider.
+     * </p>
      *
      * @param rootFileName The root path.
      * @param fileSystemOptions The FileSystem options.
@@ -97,14 +100,20 @@ public abstract class AbstractOriginatingFileProvider extends AbstractFileProvid
      * @throws FileSystemException if an error occurs.
      * @since 2.0
      */
-    protected synchronized FileSystem getFileSystem(final FileName rootFileName, final FileSystemOptions fileSystemOptions)
+    protected FileSystem getFileSystem(final FileName rootFileName, final FileSystemOptions fileSystemOptions)
             throws FileSystemException {
-        FileSystem fs = findFileSystem(rootFileName, fileSystemOptions);
-        if (fs == null) {
-            // Need to create the file system, and cache it
-            fs = doCreateFileSystem(rootFileName, fileSystemOptions);
-            addFileSystem(rootFileName, fs);
+        final FileSystem cached = findFileSystem(rootFileName, fileSystemOptions);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this) {
+            FileSystem fs = findFileSystem(rootFileName, fileSystemOptions);
+            if (fs == null) {
+                // Need to create the file system, and cache it
+                fs = doCreateFileSystem(rootFileName, fileSystemOptions);
+                addFileSystem(rootFileName, fs);
+            }
+            return fs;
         }
-        return fs;
     }
 }
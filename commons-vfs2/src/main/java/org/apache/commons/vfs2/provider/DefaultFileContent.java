@@ -17,9 +17,18 @@
 package org.apache.commons.vfs2.provider;
 
 import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.security.cert.Certificate;
 import java.util.Collections;
 import java.util.Map;
@@ -48,6 +57,76 @@ public final class DefaultFileContent implements FileContent {
      * final int STATE_RANDOM_ACCESS = 3;
      */
 
+    /**
+     * A channel for reading or writing content, which ends its access to the file when closed.
+     */
+    private final class FileContentChannel implements SeekableByteChannel {
+
+        private final SeekableByteChannel channel;
+        private boolean closed;
+        // avoid gc
+        private final FileObject file;
+
+        FileContentChannel(final FileObject file, final SeekableByteChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+
+        @Override
+        public void close() throws FileSystemException {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                throw new FileSystemException("vfs.provider/close-channel.error", file, e);
+            } finally {
+                endChannel(this);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public long position() throws IOException {
+            return channel.position();
+        }
+
+        @Override
+        public SeekableByteChannel position(final long newPosition) throws IOException {
+            channel.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            return channel.read(dst);
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public SeekableByteChannel truncate(final long size) throws IOException {
+            channel.truncate(size);
+            return this;
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            return channel.write(src);
+        }
+    }
+
     /**
      * An input stream for reading content. Provides buffering, and end-of-stream monitoring.
      */
@@ -77,6 +156,15 @@ public final class DefaultFileContent implements FileContent {
             }
         }
 
+        /**
+         * Gets the channel of the underlying stream if it reads a local file.
+         *
+         * @return the channel, or null.
+         */
+        FileChannel getChannel() {
+            return in instanceof FileInputStream ? ((FileInputStream) in).getChannel() : null;
+        }
+
         /**
          * Called after the stream has been closed.
          */
@@ -118,6 +206,15 @@ public final class DefaultFileContent implements FileContent {
             }
         }
 
+        /**
+         * Gets the channel of the underlying stream if it writes a local file.
+         *
+         * @return the channel, or null.
+         */
+        FileChannel getChannel() {
+            return out instanceof FileOutputStream ? ((FileOutputStream) out).getChannel() : null;
+        }
+
         /**
          * Called after this stream is closed.
          */
@@ -235,6 +332,48 @@ public final class DefaultFileContent implements FileContent {
      */
     private int openStreams;
 
+    /**
+     * Copies the rest of a stream.
+     */
+    private static long copy(final InputStream input, final OutputStream output, final int bufferSize)
+            throws IOException {
+        // This read/write code from Apache Commons IO
+        final byte[] buffer = new byte[bufferSize];
+        long count = 0;
+        int n;
+        while (-1 != (n = input.read(buffer))) {
+            output.write(buffer, 0, n);
+            count += n;
+        }
+        return count;
+    }
+
+    private static FileChannel getChannel(final InputStream input) {
+        return input instanceof FileContentInputStream ? ((FileContentInputStream) input).getChannel() : null;
+    }
+
+    private static FileChannel getChannel(final OutputStream output) {
+        if (output instanceof FileContentOutputStream) {
+            return ((FileContentOutputStream) output).getChannel();
+        }
+        return output instanceof FileOutputStream ? ((FileOutputStream) output).getChannel() : null;
+    }
+
+    /**
+     * Transfers the rest of a file to a channel and moves the file position past the transferred bytes.
+     */
+    private static long transfer(final FileChannel input, final WritableByteChannel output) throws IOException {
+        final long start = input.position();
+        final long size = input.size();
+        long position = start;
+        long n;
+        while (position < size && (n = input.transferTo(position, size - position, output)) > 0) {
+            position += n;
+        }
+        input.position(position);
+        return position - start;
+    }
+
     /**
      * Constructs a new instance.
      *
@@ -330,6 +469,16 @@ public final class DefaultFileContent implements FileContent {
                 }
             }
 
+            // Close the channels
+            while (threadData.hasChannel()) {
+                final FileContentChannel channel = (FileContentChannel) threadData.removeChannel(0);
+                try {
+                    channel.close();
+                } catch (final FileSystemException ex) {
+                    caught = ex;
+                }
+            }
+
             // Close the randomAccess stream
             while (threadData.hasRandomAccessContent()) {
                 final FileRandomAccessContent randomAccessContent = (FileRandomAccessContent) threadData
@@ -361,6 +510,21 @@ public final class DefaultFileContent implements FileContent {
         }
     }
 
+    /**
+     * Handles the end of a channel.
+     */
+    private void endChannel(final Channel channel) {
+        final FileContentThreadData fileContentThreadData = threadLocal.get();
+        if (fileContentThreadData != null) {
+            fileContentThreadData.remove(channel);
+        }
+        if (fileContentThreadData == null || !fileContentThreadData.hasStreams()) {
+            // remove even when no value is set to remove key
+            threadLocal.remove();
+        }
+        streamClosed();
+    }
+
     /**
      * Handles the end of input stream.
      */
@@ -635,6 +799,37 @@ public final class DefaultFileContent implements FileContent {
         return rac;
     }
 
+    /**
+     * Returns a channel for reading the content sequentially. This is the file system's own channel where it has one,
+     * and a channel on {@link #getInputStream()} otherwise.
+     *
+     * @return The channel.
+     * @throws FileSystemException if an error occurs.
+     * @since 2.10.0
+     */
+    @Override
+    public ReadableByteChannel getReadableByteChannel() throws FileSystemException {
+        final SeekableByteChannel channel = fileObject.getReadChannel();
+        if (channel == null) {
+            return Channels.newChannel(getInputStream());
+        }
+        return track(channel);
+    }
+
+    /**
+     * Returns a channel for reading or writing the content at any position.
+     *
+     * @param mode The access mode.
+     * @return The channel.
+     * @throws FileSystemException if an error occurs.
+     * @see AbstractFileObject#getSeekableByteChannel(RandomAccessMode)
+     * @since 2.10.0
+     */
+    @Override
+    public SeekableByteChannel getSeekableByteChannel(final RandomAccessMode mode) throws FileSystemException {
+        return track(fileObject.getSeekableByteChannel(mode));
+    }
+
     /**
      * Returns the size of the content (in bytes).
      *
@@ -806,6 +1001,13 @@ public final class DefaultFileContent implements FileContent {
         ((AbstractFileSystem) fileObject.getFileSystem()).streamOpened();
     }
 
+    private SeekableByteChannel track(final SeekableByteChannel channel) {
+        final FileContentChannel wrapped = new FileContentChannel(fileObject, channel);
+        getFileContentThreadData().add(wrapped);
+        streamOpened();
+        return wrapped;
+    }
+
     /**
      * Writes this content to another FileContent.
      *
@@ -849,6 +1051,10 @@ public final class DefaultFileContent implements FileContent {
 
     /**
      * Writes this content to an OutputStream.
+     * <p>
+     * When this is a local file and the stream writes a local file, the content is transferred with
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which lets the operating system copy it.
+     * </p>
      *
      * @param output The target OutputStream.
      * @param bufferSize The buffer size to write data chunks.
@@ -859,18 +1065,41 @@ public final class DefaultFileContent implements FileContent {
     @Override
     public long write(final OutputStream output, final int bufferSize) throws IOException {
         final InputStream input = getInputStream();
-        long count = 0;
         try {
-            // This read/write code from Apache Commons IO
-            final byte[] buffer = new byte[bufferSize];
-            int n;
-            while (-1 != (n = input.read(buffer))) {
-                output.write(buffer, 0, n);
-                count += n;
+            final FileChannel inputChannel = getChannel(input);
+            final FileChannel outputChannel = inputChannel == null ? null : getChannel(output);
+            long count = 0;
+            if (outputChannel != null) {
+                output.flush();
+                count = transfer(inputChannel, outputChannel);
             }
+            return count + copy(input, output, bufferSize);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Writes this content to a channel.
+     * <p>
+     * When this is a local file, the content is transferred with
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which lets the operating system copy it.
+     * </p>
+     *
+     * @param output The target channel, which must be in blocking mode.
+     * @return the total number of bytes written
+     * @throws IOException if an error occurs writing the content.
+     * @since 2.10.0
+     */
+    @Override
+    public long write(final WritableByteChannel output) throws IOException {
+        final InputStream input = getInputStream();
+        try {
+            final FileChannel inputChannel = getChannel(input);
+            final long count = inputChannel == null ? 0 : transfer(inputChannel, output);
+            return count + copy(input, Channels.newOutputStream(output), WRITE_BUFFER_SIZE);
         } finally {
             input.close();
         }
-        return count;
     }
 }
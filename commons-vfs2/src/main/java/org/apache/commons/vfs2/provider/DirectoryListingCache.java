@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.vfs2.FileName;
+
+/**
+ * A cache of folder listings shared by the files of a file system.
+ * <p>
+ * A listing maps the decoded base names of the children of a folder to what the provider knows about each child, for
+ * example its type, size and last modified time. One listing then answers for all the children of the folder until it
+ * expires, even for file objects that were refreshed, detached or created after the listing.
+ * </p>
+ * <p>
+ * Providers put a listing after they list a folder, and invalidate the listings a change affects.
+ * </p>
+ *
+ * @param <T> The type of the information kept for each child.
+ * @since 2.10.0
+ */
+public final class DirectoryListingCache<T> {
+
+    private static final class Listing<T> {
+
+        private final Map<String, T> children;
+
+        private final long expiresNanos;
+
+        private Listing(final Map<String, T> children, final long expiresNanos) {
+            this.children = children;
+            this.expiresNanos = expiresNanos;
+        }
+    }
+
+    /**
+     * The default maximum number of listings.
+     */
+    public static final int DEFAULT_MAX_LISTINGS = 1024;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * Listings by folder path, least recently used first.
+     */
+    private final LinkedHashMap<String, Listing<T>> listings;
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final long ttlNanos;
+
+    /**
+     * Constructs a new instance that keeps up to {@value #DEFAULT_MAX_LISTINGS} listings.
+     *
+     * @param timeToLive How long a listing is used, zero or negative to disable the cache.
+     */
+    public DirectoryListingCache(final Duration timeToLive) {
+        this(timeToLive, DEFAULT_MAX_LISTINGS);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param timeToLive How long a listing is used, zero or negative to disable the cache.
+     * @param maxListings The maximum number of listings, the least recently used ones are dropped first.
+     */
+    public DirectoryListingCache(final Duration timeToLive, final int maxListings) {
+        this.ttlNanos = timeToLive.isNegative() ? 0 : timeToLive.toNanos();
+        this.listings = new LinkedHashMap<String, Listing<T>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Listing<T>> eldest) {
+                return size() > maxListings;
+            }
+        };
+    }
+
+    /**
+     * Removes all listings.
+     */
+    public synchronized void clear() {
+        listings.clear();
+    }
+
+    /**
+     * Gets the listing of a folder.
+     *
+     * @param folder The folder.
+     * @return The unmodifiable children of the folder by decoded base name, or null if the folder listing is not
+     *         cached or expired.
+     */
+    public Map<String, T> get(final FileName folder) {
+        if (!isEnabled() || folder == null) {
+            return null;
+        }
+        final Listing<T> listing;
+        synchronized (this) {
+            final String key = folder.getPath();
+            final Listing<T> found = listings.get(key);
+            if (found != null && System.nanoTime() - found.expiresNanos >= 0) {
+                listings.remove(key);
+                listing = null;
+            } else {
+                listing = found;
+            }
+        }
+        if (listing == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return listing.children;
+    }
+
+    /**
+     * Gets how many times {@link #get(FileName)} found a listing.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets how many times {@link #get(FileName)} did not find a listing.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Removes the listings that a change to a file affects: the listing of its parent folder, and its own listing.
+     *
+     * @param file The changed file.
+     */
+    public void invalidate(final FileName file) {
+        if (!isEnabled()) {
+            return;
+        }
+        final FileName parent = file.getParent();
+        synchronized (this) {
+            listings.remove(file.getPath());
+            if (parent != null) {
+                listings.remove(parent.getPath());
+            }
+        }
+    }
+
+    /**
+     * Tests whether this cache keeps listings.
+     *
+     * @return whether the time to live is positive.
+     */
+    public boolean isEnabled() {
+        return ttlNanos > 0;
+    }
+
+    /**
+     * Puts the listing of a folder.
+     *
+     * @param folder The folder.
+     * @param children The children of the folder by decoded base name; the map must not be modified afterwards.
+     */
+    public void put(final FileName folder, final Map<String, T> children) {
+        if (!isEnabled()) {
+            return;
+        }
+        final Listing<T> listing = new Listing<>(Collections.unmodifiableMap(children), System.nanoTime() + ttlNanos);
+        synchronized (this) {
+            listings.put(folder.getPath(), listing);
+        }
+    }
+
+    /**
+     * Gets the number of listings, including the expired ones not yet removed.
+     *
+     * @return the number of listings.
+     */
+    public synchronized int size() {
+        return listings.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [size=%,d, hits=%,d, misses=%,d]", getClass().getSimpleName(), size(), getHitCount(),
+            getMissCount());
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.apache.commons.vfs2.provider;
 
 import java.io.InputStream;
+import java.nio.channels.Channel;
 import java.util.ArrayList;
 
 import org.apache.commons.vfs2.FileSystemException;
@@ -27,6 +28,7 @@ import org.apache.commons.vfs2.RandomAccessContent;
  */
 class FileContentThreadData {
 
+    private ArrayList<Channel> channelList;
     private ArrayList<InputStream> inputStreamList;
     private ArrayList<RandomAccessContent> randomAccessContentList;
     private DefaultFileContent.FileContentOutputStream outputStream;
@@ -34,6 +36,13 @@ class FileContentThreadData {
     FileContentThreadData() {
     }
 
+    void add(final Channel channel) {
+        if (this.channelList == null) {
+            this.channelList = new ArrayList<>();
+        }
+        this.channelList.add(channel);
+    }
+
     void add(final InputStream inputStream) {
         if (this.inputStreamList == null) {
             this.inputStreamList = new ArrayList<>();
@@ -62,6 +71,10 @@ class FileContentThreadData {
         return this.outputStream;
     }
 
+    boolean hasChannel() {
+        return channelList != null && !channelList.isEmpty();
+    }
+
     boolean hasInputStream() {
         return this.inputStreamList != null && !this.inputStreamList.isEmpty();
     }
@@ -71,7 +84,13 @@ class FileContentThreadData {
     }
 
     boolean hasStreams() {
-        return hasInputStream() || outputStream != null || hasRandomAccessContent();
+        return hasInputStream() || outputStream != null || hasRandomAccessContent() || hasChannel();
+    }
+
+    void remove(final Channel channel) {
+        if (this.channelList != null) {
+            this.channelList.remove(channel);
+        }
     }
 
     void remove(final InputStream inputStream) {
@@ -96,6 +115,10 @@ class FileContentThreadData {
         }
     }
 
+    Channel removeChannel(final int pos) {
+        return this.channelList.remove(pos);
+    }
+
     InputStream removeInputStream(final int pos) {
         return this.inputStreamList.remove(pos);
     }
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSelector;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.NameScope;
+import org.apache.commons.vfs2.util.FileObjectUtils;
+
+/**
+ * Copies the selected descendants of a file, running several transfers at once.
+ * <p>
+ * The source tree is walked with a {@link FileTreeIterator} in the calling thread, which creates the destination
+ * folders and hands each file to the executor as soon as it is found, so listing overlaps with copying. At most
+ * {@code maxTransfers} files and about {@link #getMaxInFlightBytes()} bytes are copied at once; a larger file is copied
+ * on its own. Each file is copied by the destination file system directly where it can, for example with a server-side
+ * copy, and through streams otherwise.
+ * </p>
+ * <p>
+ * Unlike {@link FileObject#copyFrom(FileObject, FileSelector)}, the source is not listed in full before copying, so
+ * the destination must not be inside the source.
+ * </p>
+ * <p>
+ * The copied file and byte counts accumulate across calls to {@link #copy(FileObject, FileObject, FileSelector)}.
+ * </p>
+ *
+ * @see FileObject#copyFrom(FileObject, FileSelector)
+ * @since 2.10.0
+ */
+public class FileCopier {
+
+    /**
+     * Receives progress from a {@link FileCopier}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called after a file has been copied, from the thread that copied it.
+         *
+         * @param srcFile the file copied from.
+         * @param destFile the file copied to.
+         * @param bytes the number of bytes copied.
+         */
+        void fileCopied(FileObject srcFile, FileObject destFile, long bytes);
+    }
+
+    /**
+     * The default maximum number of bytes in flight, 64 MiB.
+     */
+    public static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 64L * 1024 * 1024;
+
+    private final AtomicLong bytesCopied = new AtomicLong();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+    private final Executor executor;
+    private final AtomicLong filesCopied = new AtomicLong();
+    private long inFlightBytes;
+    private final Object inFlightLock = new Object();
+    private volatile Listener listener;
+    private volatile long maxInFlightBytes = DEFAULT_MAX_IN_FLIGHT_BYTES;
+    private final int maxTransfers;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param executor runs the transfers.
+     * @param maxTransfers the maximum number of files copied at once.
+     */
+    public FileCopier(final Executor executor, final int maxTransfers) {
+        if (maxTransfers < 1) {
+            throw new IllegalArgumentException("maxTransfers must be positive: " + maxTransfers);
+        }
+        this.executor = executor;
+        this.maxTransfers = maxTransfers;
+    }
+
+    private void acquire(final long bytes) throws InterruptedException {
+        synchronized (inFlightLock) {
+            while (inFlightBytes > 0 && inFlightBytes + bytes > maxInFlightBytes) {
+                inFlightLock.wait();
+            }
+            inFlightBytes += bytes;
+        }
+    }
+
+    /**
+     * Copies the selected descendants of a file to a destination folder, like
+     * {@link FileObject#copyFrom(FileObject, FileSelector)}, and waits for the transfers to finish.
+     *
+     * @param srcFile the file to copy from.
+     * @param destFile the file to copy to.
+     * @param selector selects the files to copy.
+     * @throws FileSystemException if a file cannot be listed or copied; the remaining transfers are skipped.
+     */
+    public void copy(final FileObject srcFile, final FileObject destFile, final FileSelector selector)
+            throws FileSystemException {
+        if (!FileObjectUtils.exists(srcFile)) {
+            throw new FileSystemException("vfs.provider/copy-missing-file.error", srcFile);
+        }
+        final long start = System.nanoTime();
+        final Semaphore transfers = new Semaphore(maxTransfers);
+        final Phaser pending = new Phaser(1);
+        final AtomicReference<FileSystemException> failure = new AtomicReference<>();
+        try {
+            final Iterator<FileObject> files = new FileTreeIterator(srcFile, selector, false, Integer.MAX_VALUE);
+            while (failure.get() == null && files.hasNext()) {
+                final FileObject file = files.next();
+                final String relPath = srcFile.getName().getRelativeName(file.getName());
+                final FileObject dest = destFile.resolveFile(relPath, NameScope.DESCENDENT_OR_SELF);
+                if (FileObjectUtils.exists(dest) && dest.getType() != file.getType()) {
+                    dest.deleteAll();
+                }
+                if (file.getType().hasContent()) {
+                    final long size = file.getContent().getSize();
+                    transfers.acquire();
+                    acquire(size);
+                    pending.register();
+                    try {
+                        submit(file, dest, size, transfers, pending, failure);
+                    } catch (final RejectedExecutionException e) {
+                        release(size);
+                        transfers.release();
+                        pending.arriveAndDeregister();
+                        throw new FileSystemException("vfs.provider/copy-file.error", e, file, dest);
+                    }
+                } else if (file.getType().hasChildren()) {
+                    dest.createFolder();
+                }
+            }
+        } catch (final UncheckedIOException e) {
+            failure.compareAndSet(null, (FileSystemException) e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new FileSystemException(e));
+        } catch (final FileSystemException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            pending.arriveAndAwaitAdvance();
+            elapsedNanos.addAndGet(System.nanoTime() - start);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Gets the number of bytes copied.
+     *
+     * @return the number of bytes copied.
+     */
+    public long getBytesCopied() {
+        return bytesCopied.get();
+    }
+
+    /**
+     * Gets the number of files copied.
+     *
+     * @return the number of files copied.
+     */
+    public long getFilesCopied() {
+        return filesCopied.get();
+    }
+
+    /**
+     * Gets the listener notified of each copied file.
+     *
+     * @return the listener, may be null.
+     */
+    public Listener getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the maximum number of bytes being copied at once.
+     *
+     * @return the maximum number of bytes in flight.
+     */
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    /**
+     * Gets the average throughput of the finished copies.
+     *
+     * @return the number of bytes copied per second, or 0 if nothing was copied yet.
+     */
+    public double getThroughput() {
+        final long nanos = elapsedNanos.get();
+        return nanos == 0 ? 0 : bytesCopied.get() * 1e9 / nanos;
+    }
+
+    private void release(final long bytes) {
+        synchronized (inFlightLock) {
+            inFlightBytes -= bytes;
+            inFlightLock.notifyAll();
+        }
+    }
+
+    /**
+     * Sets the listener notified of each copied file.
+     *
+     * @param listener the listener, may be null.
+     */
+    public void setListener(final Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the maximum number of bytes being copied at once.
+     *
+     * @param maxInFlightBytes the maximum number of bytes in flight.
+     */
+    public void setMaxInFlightBytes(final long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    private void submit(final FileObject srcFile, final FileObject destFile, final long size,
+            final Semaphore transfers, final Phaser pending, final AtomicReference<FileSystemException> failure) {
+        executor.execute(() -> {
+            try {
+                transfer(srcFile, destFile);
+            } catch (final FileSystemException e) {
+                failure.compareAndSet(null, e);
+            } catch (final RuntimeException e) {
+                failure.compareAndSet(null,
+                        new FileSystemException("vfs.provider/copy-file.error", e, srcFile, destFile));
+            } finally {
+                release(size);
+                transfers.release();
+                pending.arriveAndDeregister();
+            }
+        });
+    }
+
+    private void transfer(final FileObject srcFile, final FileObject destFile) throws FileSystemException {
+        final long bytes;
+        try {
+            bytes = AbstractFileObject.copyContent(srcFile, destFile);
+        } catch (final IOException e) {
+            throw new FileSystemException("vfs.provider/copy-file.error", e, srcFile, destFile);
+        }
+        bytesCopied.addAndGet(bytes);
+        filesCopied.incrementAndGet();
+        final Listener currentListener = listener;
+        if (currentListener != null) {
+            currentListener.fileCopied(srcFile, destFile, bytes);
+        }
+    }
+}
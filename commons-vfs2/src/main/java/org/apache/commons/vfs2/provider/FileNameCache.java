@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.vfs2.FileName;
+
+/**
+ * A bounded cache of canonical file names.
+ * <p>
+ * Interning a name returns the canonical instance equal to it, so repeated resolutions of the same file share one
+ * name and its cached URI, key and hash code. Canonical names link to their canonical parent, so the names of a tree
+ * share their ancestors, and their base names are shared with equal base names. When the cache is full, the least
+ * recently used names are dropped.
+ * </p>
+ * <p>
+ * Canonical names are shared, so a name's {@link FileName#getType() type} is the one last set on the canonical
+ * instance.
+ * </p>
+ *
+ * @see org.apache.commons.vfs2.impl.DefaultFileSystemManager#setFileNameCache(FileNameCache)
+ * @since 2.10.0
+ */
+public final class FileNameCache {
+
+    /**
+     * The default maximum number of names.
+     */
+    public static final int DEFAULT_MAX_NAMES = 100_000;
+
+    /**
+     * Canonical names, least recently used first.
+     */
+    private final LinkedHashMap<FileName, FileName> names;
+
+    /**
+     * Constructs a new instance that keeps up to {@value #DEFAULT_MAX_NAMES} names.
+     */
+    public FileNameCache() {
+        this(DEFAULT_MAX_NAMES);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maxNames The maximum number of names, the least recently used ones are dropped first.
+     */
+    public FileNameCache(final int maxNames) {
+        this.names = new LinkedHashMap<FileName, FileName>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<FileName, FileName> eldest) {
+                return size() > maxNames;
+            }
+        };
+    }
+
+    /**
+     * Removes all names.
+     */
+    public synchronized void clear() {
+        names.clear();
+    }
+
+    /**
+     * Gets the canonical instance of a name.
+     * <p>
+     * If the cache has no name equal to the given name, the given name becomes canonical, after its parent.
+     * </p>
+     *
+     * @param name The name to intern, may be null.
+     * @return The canonical name equal to the given name, or the given name if it is not an {@link AbstractFileName}.
+     */
+    public FileName intern(final FileName name) {
+        if (!(name instanceof AbstractFileName)) {
+            return name;
+        }
+        final FileName canonical;
+        synchronized (this) {
+            canonical = names.get(name);
+        }
+        if (canonical != null) {
+            return canonical;
+        }
+        final FileName parent = name.getParent();
+        ((AbstractFileName) name).setCanonical(parent != null ? intern(parent) : null);
+        synchronized (this) {
+            final FileName previous = names.putIfAbsent(name, name);
+            return previous != null ? previous : name;
+        }
+    }
+
+    /**
+     * Gets the number of names.
+     *
+     * @return the number of names.
+     */
+    public synchronized int size() {
+        return names.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [size=%,d]", getClass().getSimpleName(), size());
+    }
+
+}
@@ -20,38 +20,58 @@ import org.apache.commons.vfs2.FileSystemOptions;
 
 /**
  * Identifies a file system.
+ * <p>
+ * Keys of cached file systems hold {@link FileSystemOptions#freeze() frozen} options, so their hash code is computed
+ * once and does not change when the options passed to the file system change.
+ * </p>
  */
-class FileSystemKey implements Comparable<FileSystemKey> {
+class FileSystemKey {
 
-    private static final FileSystemOptions EMPTY_OPTIONS = new FileSystemOptions();
+    private static final FileSystemOptions EMPTY_OPTIONS = new FileSystemOptions().freeze();
 
     private final Comparable<?> key;
 
     /** Never null as the ctor sets it to EMPTY_OPTIONS if input is null. */
     private final FileSystemOptions fileSystemOptions;
 
+    private final int hashCode;
+
     /**
      * Creates the FS key.
      *
-     * @param key must implement Comparable, and must be self-comparable.
+     * @param key must implement equals and hashCode.
      * @param fileSystemOptions the required options, may be null.
      */
     FileSystemKey(final Comparable<?> key, final FileSystemOptions fileSystemOptions) {
         this.key = key;
         this.fileSystemOptions = fileSystemOptions != null ? fileSystemOptions : EMPTY_OPTIONS;
+        this.hashCode = 31 * key.hashCode() + this.fileSystemOptions.hashCode();
     }
 
     @Override
-    public int compareTo(final FileSystemKey o) {
-        @SuppressWarnings("unchecked") // Keys must implement comparable, and be comparable to themselves
-        final Comparable<Comparable<?>> comparable = (Comparable<Comparable<?>>) key;
-        final int ret = comparable.compareTo(o.key);
-        if (ret != 0) {
-            // other filesystem
-            return ret;
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FileSystemKey)) {
+            return false;
         }
+        final FileSystemKey other = (FileSystemKey) obj;
+        return hashCode == other.hashCode && key.equals(other.key) && fileSystemOptions.equals(other.fileSystemOptions);
+    }
 
-        return fileSystemOptions.compareTo(o.fileSystemOptions);
+    /**
+     * Creates a key with frozen options.
+     *
+     * @return this key if its options are frozen, or else a copy with frozen options.
+     */
+    FileSystemKey freeze() {
+        return fileSystemOptions.isFrozen() ? this : new FileSystemKey(key, fileSystemOptions.freeze());
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
     }
 
     @Override
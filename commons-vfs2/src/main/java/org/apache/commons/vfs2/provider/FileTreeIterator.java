@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSelector;
+import org.apache.commons.vfs2.FileSystemException;
+
+/**
+ * Iterates lazily over the selected descendants of a file.
+ * <p>
+ * Folders are listed only when the iteration reaches them, and only the children of the folders on the path to the
+ * current file are held, so memory use depends on the depth and width of the tree rather than on its size.
+ * </p>
+ * <p>
+ * The selector is called as by {@link FileObject#findFiles(FileSelector, boolean, java.util.List)}, except that in
+ * pre-order a folder's {@link FileSelector#includeFile} is called before its descendants are visited. Errors are
+ * thrown from {@link #hasNext()} and {@link #next()} as an {@link UncheckedIOException} wrapping a
+ * {@link FileSystemException}.
+ * </p>
+ *
+ * @since 2.10.0
+ */
+public final class FileTreeIterator implements Iterator<FileObject> {
+
+    /**
+     * A file on the path to the current file.
+     */
+    private static final class Frame {
+
+        private FileObject[] children;
+        private final int depth;
+        private boolean expanded;
+        private final FileObject file;
+        private int next;
+
+        Frame(final FileObject file, final int depth) {
+            this.file = file;
+            this.depth = depth;
+        }
+    }
+
+    private final FileObject baseFolder;
+    private final boolean depthwise;
+    private final DefaultFileSelectorInfo info = new DefaultFileSelectorInfo();
+    private final int maxDepth;
+    private FileObject nextFile;
+    private final FileSelector selector;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param baseFolder the file to start at, which is visited at depth 0.
+     * @param selector the selector used to determine if a file should be selected and a folder traversed.
+     * @param depthwise if true files are returned after their descendants, before otherwise.
+     * @param maxDepth the maximum depth to visit, folders at this depth are not listed.
+     */
+    public FileTreeIterator(final FileObject baseFolder, final FileSelector selector, final boolean depthwise,
+            final int maxDepth) {
+        this.baseFolder = baseFolder;
+        this.selector = selector;
+        this.depthwise = depthwise;
+        this.maxDepth = maxDepth;
+        info.setBaseFolder(baseFolder);
+        stack.push(new Frame(baseFolder, 0));
+    }
+
+    /**
+     * Finds the next selected file, or sets it to null at the end of the tree.
+     */
+    private void advance() throws Exception {
+        Frame frame;
+        while ((frame = stack.peek()) != null) {
+            if (!frame.expanded) {
+                frame.expanded = true;
+                select(frame);
+                if (frame.depth < maxDepth && frame.file.getType().hasChildren()
+                        && selector.traverseDescendants(info)) {
+                    frame.children = frame.file.getChildren();
+                }
+                if (!depthwise && selector.includeFile(info)) {
+                    nextFile = frame.file;
+                    return;
+                }
+            } else if (frame.children != null && frame.next < frame.children.length) {
+                stack.push(new Frame(frame.children[frame.next++], frame.depth + 1));
+            } else {
+                stack.pop();
+                if (depthwise) {
+                    select(frame);
+                    if (selector.includeFile(info)) {
+                        nextFile = frame.file;
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextFile == null && !stack.isEmpty()) {
+            try {
+                advance();
+            } catch (final Exception e) {
+                stack.clear();
+                throw new UncheckedIOException(
+                        new FileSystemException("vfs.provider/find-files.error", baseFolder.getName(), e));
+            }
+        }
+        return nextFile != null;
+    }
+
+    @Override
+    public FileObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final FileObject file = nextFile;
+        nextFile = null;
+        return file;
+    }
+
+    private void select(final Frame frame) {
+        info.setFile(frame.file);
+        info.setDepth(frame.depth);
+    }
+}
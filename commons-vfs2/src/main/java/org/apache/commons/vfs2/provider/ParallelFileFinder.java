@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSelector;
+
+/**
+ * Traverses the descendants of a file, listing sibling folders concurrently.
+ * <p>
+ * Each file is visited by a task on the executor. A folder's result completes once the results of its children have
+ * completed, without blocking a thread while it waits. When the order matters, each result holds the files selected in
+ * its subtree, which are flattened once at the end; otherwise the selected files are collected as they are found.
+ * </p>
+ */
+final class ParallelFileFinder {
+
+    /**
+     * The files selected in a subtree.
+     */
+    private static final class Node {
+
+        private final Node[] children;
+        private final FileObject file;
+
+        Node(final FileObject file, final Node[] children) {
+            this.file = file;
+            this.children = children;
+        }
+
+        void addTo(final List<FileObject> selected, final boolean depthwise) {
+            if (file != null && !depthwise) {
+                selected.add(file);
+            }
+            if (children != null) {
+                for (final Node child : children) {
+                    if (child != null) {
+                        child.addTo(selected, depthwise);
+                    }
+                }
+            }
+            if (file != null && depthwise) {
+                selected.add(file);
+            }
+        }
+    }
+
+    private final FileObject baseFolder;
+    private final boolean depthwise;
+    private final Executor executor;
+    private volatile boolean failed;
+
+    /** The files selected so far, or null to keep the traversal order. */
+    private final Queue<FileObject> found;
+
+    private final FileSelector selector;
+
+    ParallelFileFinder(final FileObject baseFolder, final FileSelector selector, final boolean depthwise,
+            final Executor executor, final boolean ordered) {
+        this.baseFolder = baseFolder;
+        this.selector = selector;
+        this.depthwise = depthwise;
+        this.executor = executor;
+        this.found = ordered ? null : new ConcurrentLinkedQueue<>();
+    }
+
+    private void complete(final CompletableFuture<Node> result, final DefaultFileSelectorInfo info,
+            final List<CompletableFuture<Node>> children) {
+        try {
+            result.complete(select(info, children));
+        } catch (final Exception e) {
+            failed = true;
+            result.completeExceptionally(e);
+        }
+    }
+    /**
+     * Traverses the base folder and adds the selected files to the given list.
+     *
+     * @param selected the list to add the selected files to.
+     * @throws Exception if listing a folder or the selector fails.
+     */
+    void find(final List<FileObject> selected) throws Exception {
+        final Node root;
+        try {
+            root = visit(baseFolder, 0).join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        if (found != null) {
+            selected.addAll(found);
+        } else if (root != null) {
+            root.addTo(selected, depthwise);
+        }
+    }
+
+    private DefaultFileSelectorInfo info(final FileObject file, final int depth) {
+        final DefaultFileSelectorInfo info = new DefaultFileSelectorInfo();
+        info.setBaseFolder(baseFolder);
+        info.setDepth(depth);
+        info.setFile(file);
+        return info;
+    }
+
+    private Node select(final DefaultFileSelectorInfo info, final List<CompletableFuture<Node>> children) throws Exception {
+        final FileObject file = selector.includeFile(info) ? info.getFile() : null;
+        if (found != null) {
+            if (file != null) {
+                found.add(file);
+            }
+            return null;
+        }
+        Node[] nodes = null;
+        if (children != null) {
+            for (int i = 0; i < children.size(); i++) {
+                final Node node = children.get(i).join();
+                if (node != null) {
+                    if (nodes == null) {
+                        nodes = new Node[children.size()];
+                    }
+                    nodes[i] = node;
+                }
+            }
+        }
+        return file == null && nodes == null ? null : new Node(file, nodes);
+    }
+
+    /**
+     * Visits a file, listing it on this thread and its children on the executor.
+     */
+    private CompletableFuture<Node> visit(final FileObject file, final int depth) {
+        if (failed) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final CompletableFuture<Node> result = new CompletableFuture<>();
+        try {
+            final DefaultFileSelectorInfo info = info(file, depth);
+            if (file.getType().hasChildren() && selector.traverseDescendants(info)) {
+                final FileObject[] files = file.getChildren();
+                final List<CompletableFuture<Node>> children = new ArrayList<>(files.length);
+                for (final FileObject child : files) {
+                    children.add(CompletableFuture.supplyAsync(() -> visit(child, depth + 1), executor)
+                            .thenCompose(Function.identity()));
+                }
+                CompletableFuture.allOf(children.toArray(new CompletableFuture<?>[0])).whenComplete((v, e) -> {
+                    if (e != null) {
+                        result.completeExceptionally(e);
+                    } else {
+                        complete(result, info, children);
+                    }
+                });
+            } else {
+                complete(result, info, null);
+            }
+        } catch (final Exception e) {
+            failed = true;
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+}
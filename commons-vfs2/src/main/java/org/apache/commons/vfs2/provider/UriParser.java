@@ -426,7 +426,7 @@ public final class UriParser {
             buffer.append(uri);
         }
         for (final String scheme : schemes) {
-            if (uri.startsWith(scheme + ":")) {
+            if (scheme != null && uri.length() > scheme.length() && uri.charAt(scheme.length()) == ':' && uri.startsWith(scheme)) {
                 if (buffer != null) {
                     buffer.delete(0, uri.indexOf(':') + 1);
                 }
@@ -314,6 +314,17 @@ public class FTPClientWrapper implements FtpClient {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unlike the other commands, this one does not reconnect a lost connection.
+     * </p>
+     */
+    @Override
+    public boolean sendNoOp() throws IOException {
+        return ftpClient != null && ftpClient.sendNoOp();
+    }
+
     @Override
     public void setBufferSize(final int bufferSize) throws FileSystemException {
         getFtpClient().setBufferSize(bufferSize);
@@ -206,6 +206,17 @@ public interface FtpClient {
      */
     InputStream retrieveFileStream(String relPath, long restartOffset) throws IOException;
 
+    /**
+     * Sends a {@code NOOP} command to the server, which is useful to check that the connection is still alive.
+     *
+     * @return true if the server acknowledged the command.
+     * @throws IOException If an I/O error occurs.
+     * @since 2.10.0
+     */
+    default boolean sendNoOp() throws IOException {
+        return isConnected();
+    }
+
     /**
      * Sets the buffer size for buffered data streams.
      *
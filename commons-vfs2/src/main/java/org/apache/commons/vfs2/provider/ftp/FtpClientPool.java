@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.ftp;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.function.FailableSupplier;
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemOptions;
+
+/**
+ * A pool of FTP connections.
+ * <p>
+ * The pool counts the connections it handed out and the idle ones; when that count reaches the maximum, borrowers wait
+ * for a connection to be returned. The most recently returned connection is reused first, so that the idle connections
+ * beyond what concurrent use needs time out.
+ * </p>
+ */
+final class FtpClientPool {
+
+    private static final class IdleClient {
+
+        private final FtpClient client;
+
+        private final long idleSinceNanos;
+
+        private IdleClient(final FtpClient client, final long idleSinceNanos) {
+            this.client = client;
+            this.idleSinceNanos = idleSinceNanos;
+        }
+    }
+
+    private static boolean isConnected(final FtpClient client) {
+        try {
+            return client.isConnected();
+        } catch (final FileSystemException e) {
+            return false;
+        }
+    }
+
+    private static long toNanos(final Duration duration) {
+        return duration.isNegative() ? 0 : duration.toNanos();
+    }
+
+    private final Duration borrowTimeout;
+
+    private final long borrowTimeoutNanos;
+
+    private final Consumer<FtpClient> closer;
+
+    private final FailableSupplier<FtpClient, FileSystemException> factory;
+
+    /**
+     * Idle connections, the most recently returned first.
+     */
+    private final Deque<IdleClient> idleClients = new ArrayDeque<>();
+
+    private final long idleTimeoutNanos;
+
+    private final int maxIdle;
+
+    private final int maxTotal;
+
+    private final int minIdle;
+
+    private final FileName rootName;
+
+    /**
+     * The number of idle and borrowed connections.
+     */
+    private int total;
+
+    private final boolean validateOnBorrow;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param rootName The root of the file system, for messages.
+     * @param fileSystemOptions The file system options with the pool settings.
+     * @param factory Opens a connection.
+     * @param closer Closes a connection.
+     */
+    FtpClientPool(final FileName rootName, final FileSystemOptions fileSystemOptions,
+        final FailableSupplier<FtpClient, FileSystemException> factory, final Consumer<FtpClient> closer) {
+        final FtpFileSystemConfigBuilder builder = FtpFileSystemConfigBuilder.getInstance();
+        this.rootName = rootName;
+        this.factory = factory;
+        this.closer = closer;
+        this.minIdle = Math.max(0, builder.getMinIdleClients(fileSystemOptions));
+        this.maxIdle = Math.max(minIdle, builder.getMaxIdleClients(fileSystemOptions));
+        this.maxTotal = builder.getMaxTotalClients(fileSystemOptions);
+        this.idleTimeoutNanos = toNanos(builder.getClientIdleTimeout(fileSystemOptions));
+        this.borrowTimeout = builder.getClientBorrowTimeout(fileSystemOptions);
+        this.borrowTimeoutNanos = toNanos(borrowTimeout);
+        this.validateOnBorrow = builder.isValidateClientOnBorrow(fileSystemOptions);
+    }
+
+    /**
+     * Adds a connection opened outside the pool.
+     *
+     * @param client The connection.
+     */
+    void add(final FtpClient client) {
+        synchronized (this) {
+            total++;
+        }
+        release(client);
+    }
+
+    /**
+     * Waits for a connection to be returned, called with the lock held.
+     */
+    private void await(final long deadline) throws FileSystemException {
+        try {
+            if (borrowTimeoutNanos == 0) {
+                wait();
+                return;
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new FileSystemException("vfs.provider.ftp/borrow-client.error", Integer.valueOf(maxTotal), rootName,
+                    borrowTimeout);
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileSystemException("vfs.provider.ftp/borrow-client.error", e, Integer.valueOf(maxTotal), rootName,
+                borrowTimeout);
+        }
+    }
+
+    /**
+     * Takes an idle connection, or opens a new one if the maximum is not reached, or else waits for a connection to be
+     * returned.
+     *
+     * @return a connection.
+     * @throws FileSystemException if a connection cannot be opened, or the borrow timeout expires.
+     */
+    FtpClient borrow() throws FileSystemException {
+        final long deadline = System.nanoTime() + borrowTimeoutNanos;
+        while (true) {
+            final List<FtpClient> stale = new ArrayList<>();
+            final IdleClient idle;
+            boolean create = false;
+            synchronized (this) {
+                expire(stale);
+                idle = idleClients.pollFirst();
+                // Close the stale connections before opening or waiting for one
+                if (idle == null && stale.isEmpty()) {
+                    if (maxTotal <= 0 || total < maxTotal) {
+                        total++;
+                        create = true;
+                    } else {
+                        await(deadline);
+                    }
+                }
+            }
+            close(stale);
+            if (idle != null) {
+                if (isValid(idle.client)) {
+                    return idle.client;
+                }
+                discard(idle.client);
+            } else if (create) {
+                return create();
+            }
+        }
+    }
+
+    /**
+     * Closes all idle connections.
+     */
+    void clear() {
+        final List<FtpClient> stale = new ArrayList<>();
+        synchronized (this) {
+            idleClients.forEach(idle -> stale.add(idle.client));
+            total -= idleClients.size();
+            idleClients.clear();
+            notifyAll();
+        }
+        close(stale);
+    }
+
+    private void close(final List<FtpClient> clients) {
+        clients.forEach(closer);
+    }
+
+    private FtpClient create() throws FileSystemException {
+        try {
+            return factory.get();
+        } catch (final FileSystemException | RuntimeException e) {
+            synchronized (this) {
+                total--;
+                notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private void discard(final FtpClient client) {
+        closer.accept(client);
+        synchronized (this) {
+            total--;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Moves the expired idle connections, oldest first, to the given list, keeping the minimum idle connections.
+     */
+    private void expire(final List<FtpClient> stale) {
+        if (idleTimeoutNanos == 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        while (idleClients.size() > minIdle && now - idleClients.peekLast().idleSinceNanos > idleTimeoutNanos) {
+            stale.add(idleClients.pollLast().client);
+            total--;
+        }
+        if (!stale.isEmpty()) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return the number of idle connections.
+     */
+    synchronized int getIdleCount() {
+        return idleClients.size();
+    }
+
+    /**
+     * @return the number of idle and borrowed connections.
+     */
+    synchronized int getTotalCount() {
+        return total;
+    }
+
+    private boolean isValid(final FtpClient client) {
+        if (!isConnected(client)) {
+            return false;
+        }
+        try {
+            return !validateOnBorrow || client.sendNoOp();
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a connection to the pool, or closes it if it is disconnected or enough connections are idle. Also closes
+     * the expired connections.
+     *
+     * @param client The connection.
+     */
+    void release(final FtpClient client) {
+        final List<FtpClient> stale = new ArrayList<>();
+        synchronized (this) {
+            expire(stale);
+            if (isConnected(client) && idleClients.size() < maxIdle) {
+                idleClients.addFirst(new IdleClient(client, System.nanoTime()));
+            } else {
+                stale.add(client);
+                total--;
+            }
+            notifyAll();
+        }
+        close(stale);
+    }
+
+}
@@ -43,6 +43,7 @@ import org.apache.commons.vfs2.FileType;
 import org.apache.commons.vfs2.RandomAccessContent;
 import org.apache.commons.vfs2.provider.AbstractFileName;
 import org.apache.commons.vfs2.provider.AbstractFileObject;
+import org.apache.commons.vfs2.provider.DirectoryListingCache;
 import org.apache.commons.vfs2.provider.UriParser;
 import org.apache.commons.vfs2.util.FileObjectUtils;
 import org.apache.commons.vfs2.util.Messages;
@@ -129,7 +130,6 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
         }
     }
 
-    private static final long DEFAULT_TIMESTAMP = 0L;
     private static final Map<String, FTPFile> EMPTY_FTP_FILE_MAP = Collections
             .unmodifiableMap(new TreeMap<>());
 
@@ -193,7 +193,7 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
      */
     @Override
     protected void doDelete() throws Exception {
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             if (this.ftpFile != null) {
                 final boolean ok;
                 final FtpClient ftpClient = getAbstractFileSystem().getClient();
@@ -221,7 +221,7 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
      */
     @Override
     protected void doDetach() {
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             this.ftpFile = null;
             this.childMap = null;
             this.mdtmSet = false;
@@ -235,6 +235,12 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
         if (childMap != null) {
             return;
         }
+        final DirectoryListingCache<FTPFile> listingCache = getAbstractFileSystem().getDirectoryListingCache();
+        final Map<String, FTPFile> listing = listingCache.get(getName());
+        if (listing != null) {
+            childMap = listing;
+            return;
+        }
 
         final FtpClient client = getAbstractFileSystem().getClient();
         try {
@@ -243,10 +249,12 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
                             .getPath()
                     : relPath;
             final FTPFile[] tmpChildren = client.listFiles(path);
+            final Map<String, FTPFile> children;
             if (ArrayUtils.isEmpty(tmpChildren)) {
-                childMap = EMPTY_FTP_FILE_MAP;
+                children = EMPTY_FTP_FILE_MAP;
             } else {
-                childMap = new TreeMap<>();
+                // Fill the map before publishing it to other threads
+                children = new TreeMap<>();
 
                 // Remove '.' and '..' elements
                 for (int i = 0; i < tmpChildren.length; i++) {
@@ -259,10 +267,12 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
                         continue;
                     }
                     if (!".".equals(child.getName()) && !"..".equals(child.getName())) {
-                        childMap.put(child.getName(), child);
+                        children.put(child.getName(), child);
                     }
                 }
             }
+            childMap = children;
+            listingCache.put(getName(), children);
         } finally {
             getAbstractFileSystem().putClient(client);
         }
@@ -273,9 +283,10 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
      */
     @Override
     protected long doGetContentSize() throws Exception {
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             if (this.ftpFile == null) {
-                return 0;
+                // Refreshed since the type was checked
+                setFTPFile(false);
             }
             if (this.ftpFile.isSymbolicLink()) {
                 final FileObject linkDest = getLinkDestination();
@@ -315,9 +326,10 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
      */
     @Override
     protected long doGetLastModifiedTime() throws Exception {
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             if (this.ftpFile == null) {
-                return DEFAULT_TIMESTAMP;
+                // Refreshed since the type was checked
+                setFTPFile(false);
             }
             if (this.ftpFile.isSymbolicLink()) {
                 final FileObject linkDest = getLinkDestination();
@@ -366,7 +378,7 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
     @Override
     protected FileType doGetType() throws Exception {
         // VFS-210
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             if (this.ftpFile == null) {
                 setFTPFile(false);
             }
@@ -418,7 +430,7 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
 
     @Override
     protected FileObject[] doListChildrenResolved() throws Exception {
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             if (this.ftpFile != null && this.ftpFile.isSymbolicLink()) {
                 final FileObject linkDest = getLinkDestination();
                 // VFS-437: Try to avoid a recursion loop.
@@ -436,7 +448,7 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
      */
     @Override
     protected void doRename(final FileObject newFile) throws Exception {
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             final boolean ok;
             final FtpClient ftpClient = getAbstractFileSystem().getClient();
             try {
@@ -461,21 +473,26 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
      * @param flush recreate children cache
      */
     private FTPFile getChildFile(final String name, final boolean flush) throws IOException {
-        /*
-         * If we should flush cached children, clear our children map unless we're in the middle of a refresh in which
-         * case we've just recently refreshed our children. No need to do it again when our children are refresh()ed,
-         * calling getChildFile() for themselves from within getInfo(). See getChildren().
-         */
-        if (flush && !inRefresh.get()) {
-            childMap = null;
-        }
+        // Children lock their own state first, then their parent's
+        synchronized (getStateLock()) {
+            /*
+             * If we should flush cached children, clear our children map unless we're in the middle of a refresh in
+             * which case we've just recently refreshed our children. No need to do it again when our children are
+             * refresh()ed, calling getChildFile() for themselves from within getInfo(). See getChildren().
+             */
+            if (flush && !inRefresh.get()) {
+                childMap = null;
+                getAbstractFileSystem().getDirectoryListingCache().invalidate(getName());
+            }
 
-        // List the children of this file
-        doGetChildren();
+            // List the children of this file
+            doGetChildren();
 
-        // Look for the requested child
-        // VFS-210 adds the null check.
-        return childMap != null ? childMap.get(name) : null;
+            // Look for the requested child
+            // VFS-210 adds the null check.
+            final Map<String, FTPFile> children = childMap;
+            return children != null ? children.get(name) : null;
+        }
     }
 
     /**
@@ -526,7 +543,7 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
     private FileObject getLinkDestination() throws FileSystemException {
         if (linkDestination == null) {
             final String path;
-            synchronized (getFileSystem()) {
+            synchronized (getStateLock()) {
                 path = this.ftpFile == null ? null : this.ftpFile.getLink();
             }
             final FileName parent = getName().getParent();
@@ -551,13 +568,17 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
             .getMdtmLastModifiedTime(abstractFileSystem.getFileSystemOptions());
         if (mdtmLastModifiedTime != null && mdtmLastModifiedTime.booleanValue()) {
             final FtpClient client = abstractFileSystem.getClient();
-            if (!mdtmSet && client.hasFeature("MDTM")) {
-                final Instant mdtmInstant = client.mdtmInstant(relPath);
-                final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
-                final long epochMilli = mdtmInstant.toEpochMilli();
-                calendar.setTimeInMillis(epochMilli);
-                ftpFile.setTimestamp(calendar);
-                mdtmSet = true;
+            try {
+                if (!mdtmSet && client.hasFeature("MDTM")) {
+                    final Instant mdtmInstant = client.mdtmInstant(relPath);
+                    final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+                    final long epochMilli = mdtmInstant.toEpochMilli();
+                    calendar.setTimeInMillis(epochMilli);
+                    ftpFile.setTimestamp(calendar);
+                    mdtmSet = true;
+                }
+            } finally {
+                abstractFileSystem.putClient(client);
             }
         }
         return ftpFile.getTimestamp().getTime().getTime();
@@ -576,10 +597,11 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
     @Override
     protected void onChange() throws IOException {
         childMap = null;
+        getAbstractFileSystem().getDirectoryListingCache().invalidate(getName());
 
         if (getType().equals(FileType.IMAGINARY)) {
             // file is deleted, avoid server lookup
-            synchronized (getFileSystem()) {
+            synchronized (getStateLock()) {
                 this.ftpFile = UNKNOWN;
             }
             return;
@@ -593,8 +615,13 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
      */
     @Override
     protected void onChildrenChanged(final FileName child, final FileType newType) {
-        if (childMap != null && newType.equals(FileType.IMAGINARY)) {
-            Uncheck.run(() -> childMap.remove(UriParser.decode(child.getBaseName())));
+        getAbstractFileSystem().getDirectoryListingCache().invalidate(child);
+        final Map<String, FTPFile> children = childMap;
+        if (children != null && newType.equals(FileType.IMAGINARY)) {
+            // copy, the map may be shared through the directory listing cache
+            final Map<String, FTPFile> newChildren = new TreeMap<>(children);
+            Uncheck.run(() -> newChildren.remove(UriParser.decode(child.getBaseName())));
+            childMap = newChildren;
         } else {
             // if child was added we have to rescan the children
             // TODO - get rid of this
@@ -610,7 +637,7 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
         if (inRefresh.compareAndSet(false, true)) {
             try {
                 super.refresh();
-                synchronized (getFileSystem()) {
+                synchronized (getStateLock()) {
                     this.ftpFile = null;
                 }
                 /*
@@ -627,7 +654,7 @@ public class FtpFileObject extends AbstractFileObject<FtpFileSystem> {
      * Sets the internal FTPFile for this instance.
      */
     private void setFTPFile(final boolean flush) throws IOException {
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             final FtpFileObject parent = (FtpFileObject) FileObjectUtils.getAbstractFileObject(getParent());
             final FTPFile newFileInfo;
             if (parent != null) {
@@ -18,10 +18,10 @@ package org.apache.commons.vfs2.provider.ftp;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.commons.net.ftp.FTPFile;
 import org.apache.commons.vfs2.Capability;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
@@ -29,6 +29,7 @@ import org.apache.commons.vfs2.FileSystemOptions;
 import org.apache.commons.vfs2.VfsLog;
 import org.apache.commons.vfs2.provider.AbstractFileName;
 import org.apache.commons.vfs2.provider.AbstractFileSystem;
+import org.apache.commons.vfs2.provider.DirectoryListingCache;
 import org.apache.commons.vfs2.provider.GenericFileName;
 
 /**
@@ -43,8 +44,10 @@ public class FtpFileSystem extends AbstractFileSystem {
     // private final String username;
     // private final String password;
 
-    // An idle client
-    private final AtomicReference<FtpClient> idleClient = new AtomicReference<>();
+    // The idle and borrowed clients
+    private final FtpClientPool clientPool;
+
+    private final DirectoryListingCache<FTPFile> directoryListingCache;
 
     /**
      * @param rootName The root of the file system.
@@ -58,7 +61,10 @@ public class FtpFileSystem extends AbstractFileSystem {
         // hostname = rootName.getHostName();
         // port = rootName.getPort();
 
-        idleClient.set(ftpClient);
+        clientPool = new FtpClientPool(rootName, fileSystemOptions, this::createWrapper, this::closeConnection);
+        clientPool.add(ftpClient);
+        directoryListingCache = new DirectoryListingCache<>(
+                FtpFileSystemConfigBuilder.getInstance().getDirectoryListingCacheTtl(fileSystemOptions));
     }
 
     /**
@@ -107,27 +113,43 @@ public class FtpFileSystem extends AbstractFileSystem {
 
     @Override
     protected void doCloseCommunicationLink() {
-        final FtpClient idle = idleClient.getAndSet(null);
-        // Clean up the connection
-        if (idle != null) {
-            closeConnection(idle);
-        }
+        // Clean up the idle connections
+        clientPool.clear();
+        directoryListingCache.clear();
     }
 
     /**
      * Creates an FTP client to use.
+     * <p>
+     * Reuses an idle client, or creates a new one; when the {@link FtpFileSystemConfigBuilder#setMaxTotalClients
+     * maximum number of clients} is in use, waits for one to be returned.
+     * </p>
      *
      * @return An FTPClient.
      * @throws FileSystemException if an error occurs.
      */
     public FtpClient getClient() throws FileSystemException {
-        FtpClient client = idleClient.getAndSet(null);
+        return clientPool.borrow();
+    }
 
-        if (client == null || !client.isConnected()) {
-            client = createWrapper();
-        }
+    /**
+     * Gets the client pool.
+     *
+     * @return the client pool.
+     */
+    FtpClientPool getClientPool() {
+        return clientPool;
+    }
 
-        return client;
+    /**
+     * Gets the cache of folder listings shared by the files of this file system.
+     *
+     * @return the directory listing cache.
+     * @see FtpFileSystemConfigBuilder#setDirectoryListingCacheTtl(FileSystemOptions, java.time.Duration)
+     * @since 2.10.0
+     */
+    public DirectoryListingCache<FTPFile> getDirectoryListingCache() {
+        return directoryListingCache;
     }
 
     /**
@@ -136,10 +158,7 @@ public class FtpFileSystem extends AbstractFileSystem {
      * @param client The FTPClient.
      */
     public void putClient(final FtpClient client) {
-        // Save client for reuse if none is idle.
-        if (!idleClient.compareAndSet(null, client)) {
-            // An idle client is already present so close the connection.
-            closeConnection(client);
-        }
+        // Save client for reuse, or close the connection if enough clients are idle.
+        clientPool.release(client);
     }
 }
@@ -40,12 +40,18 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
     private static final FtpFileSystemConfigBuilder BUILDER = new FtpFileSystemConfigBuilder();
 
     private static final String AUTODETECT_UTF8 = PREFIX + ".AUTODETECT_UTF8";
+    private static final String CLIENT_BORROW_TIMEOUT = PREFIX + ".CLIENT_BORROW_TIMEOUT";
+    private static final String CLIENT_IDLE_TIMEOUT = PREFIX + ".CLIENT_IDLE_TIMEOUT";
     private static final String CONNECT_TIMEOUT = PREFIX + ".CONNECT_TIMEOUT";
     private static final String DATA_TIMEOUT = PREFIX + ".DATA_TIMEOUT";
     private static final String DEFAULT_DATE_FORMAT = PREFIX + ".DEFAULT_DATE_FORMAT";
+    private static final String DIRECTORY_LISTING_CACHE_TTL = PREFIX + ".DIRECTORY_LISTING_CACHE_TTL";
     private static final String ENCODING = PREFIX + ".ENCODING";
     private static final String FACTORY_KEY = FTPFileEntryParserFactory.class.getName() + ".KEY";
     private static final String FILE_TYPE = PREFIX + ".FILE_TYPE";
+    private static final String MAX_IDLE_CLIENTS = PREFIX + ".MAX_IDLE_CLIENTS";
+    private static final String MAX_TOTAL_CLIENTS = PREFIX + ".MAX_TOTAL_CLIENTS";
+    private static final String MIN_IDLE_CLIENTS = PREFIX + ".MIN_IDLE_CLIENTS";
     private static final String PASSIVE_MODE = PREFIX + ".PASSIVE";
     private static final String ACTIVE_PORT_RANGE = PREFIX + ".ACTIVE_PORT_RANGE";
     private static final String PROXY = PREFIX + ".PROXY";
@@ -58,6 +64,7 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
     private static final String CONTROL_KEEP_ALIVE_TIMEOUT = PREFIX + ".CONTROL_KEEP_ALIVE_TIMEOUT";
     private static final String CONTROL_KEEP_ALIVE_REPLY_TIMEOUT = PREFIX + ".CONTROL_KEEP_ALIVE_REPLY_TIMEOUT";
     private static final String USER_DIR_IS_ROOT = PREFIX + ".USER_DIR_IS_ROOT";
+    private static final String VALIDATE_CLIENT_ON_BORROW = PREFIX + ".VALIDATE_CLIENT_ON_BORROW";
     private static final String TRANSFER_ABORTED_OK_REPLY_CODES = PREFIX + ".TRANSFER_ABORTED_OK_REPLY_CODES";
     private static final String MDTM_LAST_MODIFED_TIME = PREFIX + ".MDTM_LAST_MODIFED_TIME";
 
@@ -107,6 +114,31 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return getBoolean(options, AUTODETECT_UTF8);
     }
 
+    /**
+     * Gets how long to wait for a connection when {@link #getMaxTotalClients(FileSystemOptions) all connections} are
+     * in use.
+     *
+     * @param options The FileSystemOptions.
+     * @return The borrow timeout, {@link Duration#ZERO} to wait without limit.
+     * @see #setClientBorrowTimeout(FileSystemOptions, Duration)
+     * @since 2.10.0
+     */
+    public Duration getClientBorrowTimeout(final FileSystemOptions options) {
+        return getDuration(options, CLIENT_BORROW_TIMEOUT, Duration.ZERO);
+    }
+
+    /**
+     * Gets how long an idle connection is kept before it is closed.
+     *
+     * @param options The FileSystemOptions.
+     * @return The idle timeout, {@link Duration#ZERO} for no timeout.
+     * @see #setClientIdleTimeout(FileSystemOptions, Duration)
+     * @since 2.10.0
+     */
+    public Duration getClientIdleTimeout(final FileSystemOptions options) {
+        return getDuration(options, CLIENT_IDLE_TIMEOUT, Duration.ZERO);
+    }
+
     @Override
     protected Class<? extends FileSystem> getConfigClass() {
         return FtpFileSystem.class;
@@ -197,6 +229,18 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return getString(options, DEFAULT_DATE_FORMAT);
     }
 
+    /**
+     * Gets how long a folder listing answers for the type, size and last modified time of the children of the folder.
+     *
+     * @param options The FileSystemOptions.
+     * @return The time to live of folder listings, {@link Duration#ZERO} if listings are not cached, the default.
+     * @see #setDirectoryListingCacheTtl(FileSystemOptions, Duration)
+     * @since 2.10.0
+     */
+    public Duration getDirectoryListingCacheTtl(final FileSystemOptions options) {
+        return getDuration(options, DIRECTORY_LISTING_CACHE_TTL, Duration.ZERO);
+    }
+
     /**
      * @param options The FileSystemOptions.
      * @see #setEntryParser
@@ -237,6 +281,42 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return getBoolean(options, MDTM_LAST_MODIFED_TIME);
     }
 
+    /**
+     * Gets the maximum number of idle connections a file system keeps for reuse.
+     *
+     * @param options The FileSystemOptions.
+     * @return The maximum number of idle connections, defaults to 1.
+     * @see #setMaxIdleClients(FileSystemOptions, int)
+     * @since 2.10.0
+     */
+    public int getMaxIdleClients(final FileSystemOptions options) {
+        return getInteger(options, MAX_IDLE_CLIENTS, 1);
+    }
+
+    /**
+     * Gets the maximum number of connections, idle or in use, a file system opens.
+     *
+     * @param options The FileSystemOptions.
+     * @return The maximum number of connections, 0 for no limit, the default.
+     * @see #setMaxTotalClients(FileSystemOptions, int)
+     * @since 2.10.0
+     */
+    public int getMaxTotalClients(final FileSystemOptions options) {
+        return getInteger(options, MAX_TOTAL_CLIENTS, 0);
+    }
+
+    /**
+     * Gets the number of idle connections that are kept even when they time out.
+     *
+     * @param options The FileSystemOptions.
+     * @return The minimum number of idle connections, defaults to 0.
+     * @see #setMinIdleClients(FileSystemOptions, int)
+     * @since 2.10.0
+     */
+    public int getMinIdleClients(final FileSystemOptions options) {
+        return getInteger(options, MIN_IDLE_CLIENTS, 0);
+    }
+
     /**
      * @param options The FileSystemOptions.
      * @return true if passive mode is set.
@@ -368,6 +448,18 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return getBoolean(options, USER_DIR_IS_ROOT, Boolean.TRUE);
     }
 
+    /**
+     * Gets whether an idle connection is checked with a {@code NOOP} command before it is reused.
+     *
+     * @param options The FileSystemOptions.
+     * @return {@code true} if idle connections are checked before they are reused, defaults to {@code false}.
+     * @see #setValidateClientOnBorrow(FileSystemOptions, boolean)
+     * @since 2.10.0
+     */
+    public boolean isValidateClientOnBorrow(final FileSystemOptions options) {
+        return getBoolean(options, VALIDATE_CLIENT_ON_BORROW, false);
+    }
+
     /**
      * Sets whether to try to autodetect the server encoding (only UTF8 is supported).
      *
@@ -379,6 +471,30 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         setParam(options, AUTODETECT_UTF8, autodetectUTF8);
     }
 
+    /**
+     * Sets how long to wait for a connection when {@link #setMaxTotalClients(FileSystemOptions, int) all connections}
+     * are in use. When the timeout expires, the operation fails with a {@link org.apache.commons.vfs2.FileSystemException}.
+     *
+     * @param options The FileSystemOptions.
+     * @param timeout The borrow timeout, {@link Duration#ZERO} to wait without limit.
+     * @since 2.10.0
+     */
+    public void setClientBorrowTimeout(final FileSystemOptions options, final Duration timeout) {
+        setParam(options, CLIENT_BORROW_TIMEOUT, timeout);
+    }
+
+    /**
+     * Sets how long an idle connection is kept before it is closed. The
+     * {@link #setMinIdleClients(FileSystemOptions, int) minimum idle connections} are kept regardless.
+     *
+     * @param options The FileSystemOptions.
+     * @param timeout The idle timeout, {@link Duration#ZERO} for no timeout.
+     * @since 2.10.0
+     */
+    public void setClientIdleTimeout(final FileSystemOptions options, final Duration timeout) {
+        setParam(options, CLIENT_IDLE_TIMEOUT, timeout);
+    }
+
     /**
      * Sets the timeout for the initial control connection.
      * <p>
@@ -485,6 +601,23 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         setParam(options, DEFAULT_DATE_FORMAT, defaultDateFormat);
     }
 
+    /**
+     * Sets how long a folder listing answers for the type, size and last modified time of the children of the folder.
+     * <p>
+     * While a listing is cached, {@link org.apache.commons.vfs2.FileObject#refresh()} does not fetch these attributes
+     * again; changes made through this file system invalidate the listings they affect, but changes made by others show
+     * after the listing expires. The hit and miss counts are available from the file system's
+     * {@code getDirectoryListingCache()}.
+     * </p>
+     *
+     * @param options The FileSystemOptions.
+     * @param ttl The time to live of folder listings, {@link Duration#ZERO} to not cache listings.
+     * @since 2.10.0
+     */
+    public void setDirectoryListingCacheTtl(final FileSystemOptions options, final Duration ttl) {
+        setParam(options, DIRECTORY_LISTING_CACHE_TTL, ttl);
+    }
+
     /**
      * Set the FQCN of your FileEntryParser used to parse the directory listing from your server.
      * <p>
@@ -531,6 +664,45 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         setParam(options, MDTM_LAST_MODIFED_TIME, toBooleanObject(mdtm));
     }
 
+    /**
+     * Sets the maximum number of idle connections a file system keeps for reuse. A connection returned when that many
+     * are idle is closed.
+     *
+     * @param options The FileSystemOptions.
+     * @param maxIdle The maximum number of idle connections.
+     * @since 2.10.0
+     */
+    public void setMaxIdleClients(final FileSystemOptions options, final int maxIdle) {
+        setParam(options, MAX_IDLE_CLIENTS, Integer.valueOf(maxIdle));
+    }
+
+    /**
+     * Sets the maximum number of connections, idle or in use, a file system opens. When all are in use, an operation
+     * waits for one to be returned, up to the {@link #setClientBorrowTimeout(FileSystemOptions, Duration) borrow
+     * timeout}.
+     * <p>
+     * Note that reading a file into another file on the same file system uses two connections at once.
+     * </p>
+     *
+     * @param options The FileSystemOptions.
+     * @param maxTotal The maximum number of connections, 0 for no limit.
+     * @since 2.10.0
+     */
+    public void setMaxTotalClients(final FileSystemOptions options, final int maxTotal) {
+        setParam(options, MAX_TOTAL_CLIENTS, Integer.valueOf(maxTotal));
+    }
+
+    /**
+     * Sets the number of idle connections that are kept even when they time out.
+     *
+     * @param options The FileSystemOptions.
+     * @param minIdle The minimum number of idle connections.
+     * @since 2.10.0
+     */
+    public void setMinIdleClients(final FileSystemOptions options, final int minIdle) {
+        setParam(options, MIN_IDLE_CLIENTS, Integer.valueOf(minIdle));
+    }
+
     /**
      * Enter into passive mode.
      *
@@ -676,4 +848,16 @@ public class FtpFileSystemConfigBuilder extends FileSystemConfigBuilder {
     public void setUserDirIsRoot(final FileSystemOptions options, final boolean userDirIsRoot) {
         setParam(options, USER_DIR_IS_ROOT, toBooleanObject(userDirIsRoot));
     }
+
+    /**
+     * Sets whether an idle connection is checked with a {@code NOOP} command before it is reused. A connection that
+     * fails the check is closed and replaced.
+     *
+     * @param options The FileSystemOptions.
+     * @param validate {@code true} to check idle connections before they are reused.
+     * @since 2.10.0
+     */
+    public void setValidateClientOnBorrow(final FileSystemOptions options, final boolean validate) {
+        setParam(options, VALIDATE_CLIENT_ON_BORROW, Boolean.valueOf(validate));
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.hdfs;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * A read-only SeekableByteChannel on an HDFS file, which reads with positional reads so seeking doesn't reopen the
+ * stream.
+ *
+ * @since 2.10.0
+ */
+final class HdfsFileChannel implements SeekableByteChannel {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FSDataInputStream fis;
+    private final FileSystem fs;
+    private final Path path;
+    private long position;
+    private byte[] buffer;
+    private boolean open = true;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param path A Hadoop Path
+     * @param fs A Hadoop FileSystem
+     * @throws IOException when the path cannot be opened.
+     */
+    HdfsFileChannel(final Path path, final FileSystem fs) throws IOException {
+        this.fs = fs;
+        this.path = path;
+        this.fis = fs.open(path);
+    }
+
+    private void checkOpen() throws ClosedChannelException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (open) {
+            open = false;
+            buffer = null;
+            fis.close();
+        }
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        checkOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(final long newPosition) throws IOException {
+        checkOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException(String.format("newPosition(%d) < 0", newPosition));
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized int read(final ByteBuffer dst) throws IOException {
+        checkOpen();
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        final int count;
+        if (dst.hasArray()) {
+            count = fis.read(position, dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+            if (count > 0) {
+                // Buffer methods don't return ByteBuffer on Java 8
+                ((Buffer) dst).position(dst.position() + count);
+            }
+        } else {
+            // Direct buffers are read through a small heap buffer
+            if (buffer == null) {
+                buffer = new byte[BUFFER_SIZE];
+            }
+            count = fis.read(position, buffer, 0, Math.min(dst.remaining(), buffer.length));
+            if (count > 0) {
+                dst.put(buffer, 0, count);
+            }
+        }
+        if (count > 0) {
+            position += count;
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized long size() throws IOException {
+        checkOpen();
+        return fs.getFileStatus(path).getLen();
+    }
+
+    @Override
+    public SeekableByteChannel truncate(final long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public int write(final ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+}
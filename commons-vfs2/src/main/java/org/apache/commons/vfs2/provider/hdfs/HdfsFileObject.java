@@ -20,6 +20,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.SeekableByteChannel;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -32,9 +33,11 @@ import org.apache.commons.vfs2.FileType;
 import org.apache.commons.vfs2.RandomAccessContent;
 import org.apache.commons.vfs2.provider.AbstractFileName;
 import org.apache.commons.vfs2.provider.AbstractFileObject;
+import org.apache.commons.vfs2.util.FileObjectUtils;
 import org.apache.commons.vfs2.util.RandomAccessMode;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.FileUtil;
 import org.apache.hadoop.fs.Path;
 
 /**
@@ -95,6 +98,24 @@ public class HdfsFileObject extends AbstractFileObject<HdfsFileSystem> {
         }
     }
 
+    /**
+     * Copies a file on the same HDFS file system with {@link FileUtil#copy}, without creating VFS streams.
+     *
+     * @see org.apache.commons.vfs2.provider.AbstractFileObject#doCopyFrom(FileObject)
+     * @since 2.10.0
+     */
+    @Override
+    protected boolean doCopyFrom(final FileObject srcFile) throws Exception {
+        if (!FileObjectUtils.isInstanceOf(srcFile, HdfsFileObject.class)) {
+            return false;
+        }
+        final HdfsFileObject source = (HdfsFileObject) FileObjectUtils.getAbstractFileObject(srcFile);
+        if (source.hdfs != hdfs) {
+            return false;
+        }
+        return FileUtil.copy(hdfs, source.path, hdfs, path, false, true, hdfs.getConf());
+    }
+
     /**
      * @see org.apache.commons.vfs2.provider.AbstractFileObject#doCreateFolder()
      * @since 2.7.0
@@ -184,6 +205,17 @@ public class HdfsFileObject extends AbstractFileObject<HdfsFileSystem> {
         return new HdfsRandomAccessContent(this.path, this.hdfs);
     }
 
+    /**
+     * Gets a read-only channel which uses positional reads, write modes use the default.
+     */
+    @Override
+    protected SeekableByteChannel doGetSeekableByteChannel(final RandomAccessMode mode) throws Exception {
+        if (mode.requestWrite()) {
+            return null;
+        }
+        return new HdfsFileChannel(this.path, this.hdfs);
+    }
+
     /**
      * @see org.apache.commons.vfs2.provider.AbstractFileObject#doGetType()
      */
@@ -166,7 +166,7 @@ public class HdfsFileSystem extends AbstractFileSystem {
         /*
           resync the file information if requested
          */
-        if (getFileSystemManager().getCacheStrategy().equals(CacheStrategy.ON_RESOLVE)) {
+        if (getCacheStrategy().equals(CacheStrategy.ON_RESOLVE)) {
             fileObject.refresh();
         }
         return fileObject;
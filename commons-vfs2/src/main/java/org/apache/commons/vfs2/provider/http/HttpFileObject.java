@@ -98,7 +98,7 @@ public class HttpFileObject<FS extends HttpFileSystem> extends AbstractFileObjec
      */
     @Override
     protected void doDetach() throws Exception {
-        synchronized (getFileSystem()) {
+        synchronized (getStateLock()) {
             method = null;
         }
     }
@@ -204,8 +204,8 @@ public class HttpFileObject<FS extends HttpFileSystem> extends AbstractFileObjec
     }
 
     HeadMethod getHeadMethod() throws IOException {
-        // need to synchronize on the filesystem as the detach method will clear out "method"
-        synchronized (getFileSystem()) {
+        // need to synchronize on the state lock as the detach method will clear out "method"
+        synchronized (getStateLock()) {
             if (method != null) {
                 return method;
             }
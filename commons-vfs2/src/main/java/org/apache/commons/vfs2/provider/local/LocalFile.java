@@ -18,12 +18,15 @@ package org.apache.commons.vfs2.provider.local;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 
-import org.apache.commons.io.file.PathUtils;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileType;
@@ -69,6 +72,36 @@ public class LocalFile extends AbstractFileObject<LocalFileSystem> {
         }
     }
 
+    /**
+     * Copies another local file to this file with {@link FileChannel#transferTo}, which lets the operating system copy
+     * the content where it can. Like the stream copy, this writes through a symbolic link and truncates the existing
+     * file in place; a file that is not writeable is left to the stream copy, which reports it.
+     */
+    @Override
+    protected boolean doCopyFrom(final FileObject srcFile) throws Exception {
+        if (!FileObjectUtils.isInstanceOf(srcFile, LocalFile.class) || !isWriteable()) {
+            return false;
+        }
+        final File srcLocalFile = ((LocalFile) FileObjectUtils.getAbstractFileObject(srcFile)).getLocalFile();
+        if (srcLocalFile == null) {
+            return false;
+        }
+        try (FileChannel in = FileChannel.open(srcLocalFile.toPath(), StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                final long count = in.transferTo(position, size - position, out);
+                if (count <= 0) {
+                    break;
+                }
+                position += count;
+            }
+        }
+        return true;
+    }
+
     /**
      * Creates this folder.
      */
@@ -120,11 +153,12 @@ public class LocalFile extends AbstractFileObject<LocalFileSystem> {
     }
 
     /**
-     * Creates an output stream to write the file content to.
+     * Creates an output stream to write the file content to. This is a {@link FileOutputStream}, so that content can be
+     * transferred to it through its channel.
      */
     @Override
     protected OutputStream doGetOutputStream(final boolean append) throws IOException {
-        return PathUtils.newOutputStream(file.toPath(), append);
+        return new FileOutputStream(file, append);
     }
 
     @Override
@@ -132,6 +166,18 @@ public class LocalFile extends AbstractFileObject<LocalFileSystem> {
         return new LocalFileRandomAccessContent(file, mode);
     }
 
+    /**
+     * Gets a FileChannel on the file.
+     */
+    @Override
+    protected SeekableByteChannel doGetSeekableByteChannel(final RandomAccessMode mode) throws Exception {
+        if (mode.requestWrite()) {
+            return FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        }
+        return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
     /**
      * Returns the file's type.
      */
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.ram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+import org.apache.commons.vfs2.util.RandomAccessMode;
+
+/**
+ * A SeekableByteChannel on the content of a RamFile, which reads and writes the chunks directly.
+ *
+ * @since 2.10.0
+ */
+final class RamFileChannel implements SeekableByteChannel {
+
+    private final RamFileData data;
+
+    private final RamFileObject file;
+
+    private final boolean writable;
+
+    private long position;
+
+    private boolean open = true;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param file The file.
+     * @param mode The access mode.
+     */
+    RamFileChannel(final RamFileObject file, final RandomAccessMode mode) {
+        this.file = file;
+        this.data = file.getData();
+        this.writable = mode.requestWrite();
+    }
+
+    private void checkOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private void checkWritable() throws ClosedChannelException {
+        checkOpen();
+        if (!writable) {
+            throw new NonWritableChannelException();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        open = false;
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        checkOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(final long newPosition) throws IOException {
+        checkOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException(String.format("newPosition(%d) < 0", newPosition));
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized int read(final ByteBuffer dst) throws IOException {
+        checkOpen();
+        final int count = data.read(position, dst);
+        if (count > 0) {
+            position += count;
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized long size() throws IOException {
+        checkOpen();
+        return data.size();
+    }
+
+    @Override
+    public synchronized SeekableByteChannel truncate(final long size) throws IOException {
+        checkWritable();
+        if (size < 0) {
+            throw new IllegalArgumentException(String.format("size(%d) < 0", size));
+        }
+        if (size < data.size()) {
+            file.resize(size);
+        }
+        if (position > size) {
+            position = size;
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized int write(final ByteBuffer src) throws IOException {
+        checkWritable();
+        final long end = position + src.remaining();
+        if (end > data.size()) {
+            // Check the file system capacity before growing
+            file.resize(end);
+        }
+        final int count = data.write(position, src);
+        position += count;
+        return count;
+    }
+}
@@ -16,25 +16,127 @@
  */
 package org.apache.commons.vfs2.provider.ram;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.vfs2.FileName;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileType;
 
 /**
  * RAM File Object Data.
+ * <p>
+ * The content is kept in a list of chunks of {@value #CHUNK_SIZE} bytes, only the last chunk may be smaller. The last
+ * chunk grows by doubling until it is full, so appends copy at most one chunk and a file can grow past 2 GB. Bytes past
+ * the size of the content are always zero.
+ * </p>
+ * <p>
+ * With a {@link RamMemoryBudget}, chunks are direct buffers allocated through the budget, and the content may be
+ * spilled to a temporary file, it is paged back in on the next access.
+ * </p>
  */
 final class RamFileData implements Serializable {
 
+    /**
+     * An input stream over the content, reading the chunks in place.
+     */
+    private final class ContentInputStream extends InputStream {
+
+        private final byte[] buffer1 = new byte[1];
+
+        private long position;
+
+        private long mark;
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, size() - position));
+        }
+
+        @Override
+        public synchronized void mark(final int readLimit) {
+            mark = position;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized int read() throws IOException {
+            return read(buffer1, 0, 1) == -1 ? -1 : buffer1[0] & 0xFF;
+        }
+
+        @Override
+        public synchronized int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final int n = RamFileData.this.read(position, b, off, len);
+            if (n > 0) {
+                position += n;
+            }
+            return n;
+        }
+
+        @Override
+        public synchronized void reset() {
+            position = mark;
+        }
+
+        @Override
+        public synchronized long skip(final long n) {
+            final long skipped = Math.max(0, Math.min(n, size() - position));
+            position += skipped;
+            return skipped;
+        }
+    }
+
     /**
      * serialVersionUID format is YYYYMMDD for the date of the last binary change.
      */
-    private static final long serialVersionUID = 20101208L;
+    private static final long serialVersionUID = 20261018L;
+
+    /**
+     * Chunk size as a power of two.
+     */
+    private static final int CHUNK_SHIFT = 16;
+
+    /**
+     * Chunk size.
+     */
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * Orders the locks of two files whose identity hash codes are equal.
+     */
+    private static final ReentrantLock TIE_LOCK = new ReentrantLock();
+
+    /**
+     * Gets a view of a chunk range.
+     */
+    private static ByteBuffer slice(final ByteBuffer chunk, final int offset, final int length) {
+        final ByteBuffer buffer = chunk.duplicate();
+        // Buffer methods don't return ByteBuffer on Java 8
+        ((Buffer) buffer).limit(offset + length).position(offset);
+        return buffer;
+    }
 
     /**
      * File Name.
@@ -47,9 +149,44 @@ final class RamFileData implements Serializable {
     private FileType type;
 
     /**
-     * Bytes.
+     * Guards the content, a lock rather than a monitor so the budget can skip busy files when it spills.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The memory budget, null to keep the content on the heap.
+     */
+    private final transient RamMemoryBudget budget;
+
+    /**
+     * Content chunks, empty when the content is spilled.
+     */
+    private transient List<ByteBuffer> chunks = new ArrayList<>();
+
+    /**
+     * Content size.
+     */
+    private long size;
+
+    /**
+     * The file holding the spilled content, null if the content was never spilled.
+     */
+    private transient File spillFile;
+
+    /**
+     * Whether {@link #spillFile} holds the current content.
+     */
+    private transient boolean spillFileCurrent;
+
+    /**
+     * Whether the content is in {@link #spillFile} rather than in {@link #chunks}.
+     */
+    private transient boolean spilled;
+
+    /**
+     * When the content was last accessed, in {@link System#nanoTime()} units, the budget spills the oldest first.
      */
-    private byte[] content;
+    private transient volatile long lastAccessNanos;
 
     /**
      * Last modified time
@@ -67,7 +204,18 @@ final class RamFileData implements Serializable {
      * @param name The file name.
      */
     RamFileData(final FileName name) {
+        this(name, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name The file name.
+     * @param budget The memory budget, null to keep the content on the heap.
+     */
+    RamFileData(final FileName name, final RamMemoryBudget budget) {
         this.children = Collections.synchronizedCollection(new ArrayList<>());
+        this.budget = budget;
         this.clear();
         if (name == null) {
             throw new IllegalArgumentException("name can not be null");
@@ -96,16 +244,120 @@ final class RamFileData implements Serializable {
         updateLastModified();
     }
 
+    /**
+     * Allocates a chunk, through the budget if there is one.
+     */
+    private ByteBuffer allocate(final int length) throws IOException {
+        if (budget == null) {
+            return ByteBuffer.allocate(length);
+        }
+        budget.reserve(this, length);
+        return ByteBuffer.allocateDirect(length);
+    }
+
+    /**
+     * Gets the capacity of the chunks.
+     */
+    private long capacity() {
+        final int count = chunks.size();
+        return count == 0 ? 0 : ((long) (count - 1) << CHUNK_SHIFT) + chunks.get(count - 1).capacity();
+    }
+
     /**
      */
     void clear() {
-        this.content = ArrayUtils.EMPTY_BYTE_ARRAY;
+        lock.lock();
+        try {
+            releaseChunks(0);
+            this.size = 0;
+            this.spilled = false;
+            deleteSpillFile();
+        } finally {
+            lock.unlock();
+        }
         updateLastModified();
         this.type = FileType.IMAGINARY;
         this.children.clear();
         this.name = null;
     }
 
+    /**
+     * Replaces the content with a copy of the content of another file.
+     *
+     * @param source The file data to copy.
+     * @throws IOException if the content of either file cannot be paged in.
+     */
+    void copyContent(final RamFileData source) throws IOException {
+        if (source == this) {
+            return;
+        }
+        // Take both locks in a stable order, so that copies in opposite directions cannot deadlock.
+        final int hash = System.identityHashCode(this);
+        final int sourceHash = System.identityHashCode(source);
+        final ReentrantLock first = hash < sourceHash ? lock : source.lock;
+        final ReentrantLock second = hash < sourceHash ? source.lock : lock;
+        final boolean tie = hash == sourceHash;
+        if (tie) {
+            TIE_LOCK.lock();
+        }
+        try {
+            first.lock();
+            try {
+                second.lock();
+                try {
+                    resize(0);
+                    final long sourceSize = source.size();
+                    final byte[] buffer = new byte[CHUNK_SIZE];
+                    long position = 0;
+                    int n;
+                    while (position < sourceSize && (n = source.read(position, buffer, 0, buffer.length)) > 0) {
+                        write(position, buffer, 0, n);
+                        position += n;
+                    }
+                } finally {
+                    second.unlock();
+                }
+            } finally {
+                first.unlock();
+            }
+        } finally {
+            if (tie) {
+                TIE_LOCK.unlock();
+            }
+        }
+    }
+
+    private void deleteSpillFile() {
+        if (spillFile != null) {
+            spillFile.delete();
+            spillFile = null;
+            spillFileCurrent = false;
+        }
+    }
+
+    /**
+     * Makes sure the chunks can hold the given number of bytes.
+     */
+    private void ensureCapacity(final long newCapacity) throws IOException {
+        final int last = chunks.size() - 1;
+        if (last >= 0) {
+            final ByteBuffer chunk = chunks.get(last);
+            final long needed = newCapacity - ((long) last << CHUNK_SHIFT);
+            if (chunk.capacity() < CHUNK_SIZE && needed > chunk.capacity()) {
+                final ByteBuffer grown = allocate((int) Math.min(CHUNK_SIZE, Math.max(needed, 2L * chunk.capacity())));
+                grown.put(slice(chunk, 0, chunk.capacity()));
+                chunks.set(last, grown);
+                release(chunk.capacity());
+            }
+        }
+        long capacity = capacity();
+        while (capacity < newCapacity) {
+            final ByteBuffer chunk = allocate((int) Math.min(CHUNK_SIZE, newCapacity - capacity));
+            chunks.add(chunk);
+            capacity += chunk.capacity();
+        }
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -134,10 +386,17 @@ final class RamFileData implements Serializable {
     }
 
     /**
-     * @return Returns the buffer.
+     * @return a new input stream over the content.
+     */
+    InputStream getInputStream() {
+        return new ContentInputStream();
+    }
+
+    /**
+     * @return when the content was last accessed, in {@link System#nanoTime()} units.
      */
-    byte[] getContent() {
-        return content;
+    long getLastAccessNanos() {
+        return lastAccessNanos;
     }
 
     /**
@@ -175,6 +434,131 @@ final class RamFileData implements Serializable {
         return this.getName().hashCode();
     }
 
+    /**
+     * @return whether the content is spilled to a temporary file.
+     */
+    boolean isSpilled() {
+        return spilled;
+    }
+
+    /**
+     * Reads the spilled content back into chunks, must be called with the lock held.
+     */
+    private void pageIn() throws IOException {
+        if (spilled) {
+            try (FileChannel channel = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ)) {
+                ensureCapacity(size);
+                for (final ByteBuffer chunk : chunks) {
+                    final ByteBuffer buffer = slice(chunk, 0, chunk.capacity());
+                    while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                        // keep reading
+                    }
+                }
+            }
+            spilled = false;
+        }
+        lastAccessNanos = System.nanoTime();
+    }
+
+    /**
+     * Reads bytes from the content.
+     *
+     * @param position The position in the content to read from.
+     * @param b The buffer to read into.
+     * @param off The offset in the buffer.
+     * @param len The maximum number of bytes to read.
+     * @return The number of bytes read, or -1 if the position is at or past the end of the content.
+     * @throws IOException if spilled content cannot be paged in.
+     */
+    int read(final long position, final byte[] b, final int off, final int len) throws IOException {
+        lock.lock();
+        try {
+            if (position >= size) {
+                return -1;
+            }
+            pageIn();
+            final int count = (int) Math.min(len, size - position);
+            long pos = position;
+            int done = 0;
+            while (done < count) {
+                final int offset = (int) (pos & CHUNK_MASK);
+                final int n = Math.min(count - done, CHUNK_SIZE - offset);
+                slice(chunks.get((int) (pos >>> CHUNK_SHIFT)), offset, n).get(b, off + done, n);
+                done += n;
+                pos += n;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads bytes from the content into a buffer.
+     *
+     * @param position The position in the content to read from.
+     * @param dst The buffer to read into, up to its remaining bytes.
+     * @return The number of bytes read, or -1 if the position is at or past the end of the content.
+     * @throws IOException if spilled content cannot be paged in.
+     */
+    int read(final long position, final ByteBuffer dst) throws IOException {
+        lock.lock();
+        try {
+            if (position >= size) {
+                return -1;
+            }
+            pageIn();
+            final int count = (int) Math.min(dst.remaining(), size - position);
+            long pos = position;
+            int done = 0;
+            while (done < count) {
+                final int offset = (int) (pos & CHUNK_MASK);
+                final int n = Math.min(count - done, CHUNK_SIZE - offset);
+                dst.put(slice(chunks.get((int) (pos >>> CHUNK_SHIFT)), offset, n));
+                done += n;
+                pos += n;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        chunks = new ArrayList<>();
+        final long contentSize = size;
+        // write() touches the file, keep the time it was serialized with
+        final long lastModified = lastModifiedMillis;
+        size = 0;
+        final byte[] buffer = new byte[CHUNK_SIZE];
+        for (long position = 0; position < contentSize; position += CHUNK_SIZE) {
+            final int n = (int) Math.min(CHUNK_SIZE, contentSize - position);
+            in.readFully(buffer, 0, n);
+            write(position, buffer, 0, n);
+        }
+        lastModifiedMillis = lastModified;
+    }
+
+    /**
+     * Releases budget after chunks are dropped.
+     */
+    private void release(final long length) {
+        if (budget != null && length > 0) {
+            budget.release(this, length, !chunks.isEmpty());
+        }
+    }
+
+    /**
+     * Drops the chunks from the given index on.
+     */
+    private void releaseChunks(final int fromIndex) {
+        final List<ByteBuffer> dropped = chunks.subList(fromIndex, chunks.size());
+        final long length = dropped.stream().mapToLong(ByteBuffer::capacity).sum();
+        dropped.clear();
+        release(length);
+    }
+
     /**
      * Remove a child.
      *
@@ -193,30 +577,41 @@ final class RamFileData implements Serializable {
     }
 
     /**
-     * Resize the buffer
+     * Resize the content, new bytes are zero.
      *
-     * @param newSize The new buffer size.
-     */
-    void resize(final long newSize) {
-        // A future implementation may allow longs/multiple buffer/and so on
-        if (newSize > Integer.MAX_VALUE) {
-            throw new IllegalArgumentException(
-                    String.format("newSize(%d) > Integer.MAX_VALUE(%d)", newSize, Integer.MAX_VALUE));
-        }
-        final int resize = (int) newSize;
-        final int size = this.size();
-        final byte[] newBuf = new byte[resize];
-        System.arraycopy(this.content, 0, newBuf, 0, Math.min(resize, size));
-        this.content = newBuf;
-        updateLastModified();
-    }
-
-    /**
-     * @param content The buffer.
+     * @param newSize The new content size.
+     * @throws IOException if spilled content cannot be paged in.
      */
-    void setContent(final byte[] content) {
+    void resize(final long newSize) throws IOException {
+        if (newSize < 0) {
+            throw new IllegalArgumentException(String.format("newSize(%d) < 0", newSize));
+        }
+        lock.lock();
+        try {
+            if (newSize == 0) {
+                releaseChunks(0);
+                spilled = false;
+                deleteSpillFile();
+            } else if (newSize != size) {
+                pageIn();
+                spillFileCurrent = false;
+                if (newSize > size) {
+                    ensureCapacity(newSize);
+                } else {
+                    // Drop the chunks past the new size and zero the rest of the last one
+                    final int count = (int) ((newSize + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+                    final ByteBuffer chunk = chunks.get(count - 1);
+                    final int from = (int) (newSize - ((long) (count - 1) << CHUNK_SHIFT));
+                    final int to = (int) Math.min(chunk.capacity(), size - ((long) (count - 1) << CHUNK_SHIFT));
+                    slice(chunk, from, to - from).put(new byte[to - from]);
+                    releaseChunks(count);
+                }
+            }
+            this.size = newSize;
+        } finally {
+            lock.unlock();
+        }
         updateLastModified();
-        this.content = content;
     }
 
     /**
@@ -234,10 +629,52 @@ final class RamFileData implements Serializable {
     }
 
     /**
-     * @return Returns the size of the buffer
+     * @return Returns the size of the content.
      */
-    int size() {
-        return content.length;
+    long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the content to a temporary file and drops the chunks, unless another thread is using this file.
+     *
+     * @throws IOException if the temporary file cannot be written.
+     */
+    void spill() throws IOException {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (spilled || chunks.isEmpty()) {
+                return;
+            }
+            if (!spillFileCurrent) {
+                if (spillFile == null) {
+                    spillFile = budget.allocateSpillFile(name);
+                }
+                try (FileChannel channel = FileChannel.open(spillFile.toPath(), StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
+                    long remaining = size;
+                    for (final ByteBuffer chunk : chunks) {
+                        final ByteBuffer buffer = slice(chunk, 0, (int) Math.min(chunk.capacity(), remaining));
+                        remaining -= buffer.remaining();
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer);
+                        }
+                    }
+                }
+                spillFileCurrent = true;
+            }
+            spilled = true;
+            releaseChunks(0);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /*
@@ -254,4 +691,90 @@ final class RamFileData implements Serializable {
         this.lastModifiedMillis = System.currentTimeMillis();
     }
 
+    /**
+     * Writes bytes to the content, growing it if needed.
+     *
+     * @param position The position in the content to write to.
+     * @param b The bytes to write.
+     * @param off The offset in the bytes.
+     * @param len The number of bytes to write.
+     * @throws IOException if spilled content cannot be paged in.
+     */
+    void write(final long position, final byte[] b, final int off, final int len) throws IOException {
+        lock.lock();
+        try {
+            pageIn();
+            spillFileCurrent = false;
+            final long end = position + len;
+            if (end > size) {
+                ensureCapacity(end);
+                size = end;
+            }
+            long pos = position;
+            int done = 0;
+            while (done < len) {
+                final int offset = (int) (pos & CHUNK_MASK);
+                final int n = Math.min(len - done, CHUNK_SIZE - offset);
+                slice(chunks.get((int) (pos >>> CHUNK_SHIFT)), offset, n).put(b, off + done, n);
+                done += n;
+                pos += n;
+            }
+        } finally {
+            lock.unlock();
+        }
+        updateLastModified();
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer to the content, growing it if needed.
+     *
+     * @param position The position in the content to write to.
+     * @param src The bytes to write.
+     * @return The number of bytes written.
+     * @throws IOException if spilled content cannot be paged in.
+     */
+    int write(final long position, final ByteBuffer src) throws IOException {
+        final int len = src.remaining();
+        lock.lock();
+        try {
+            pageIn();
+            spillFileCurrent = false;
+            final long end = position + len;
+            if (end > size) {
+                ensureCapacity(end);
+                size = end;
+            }
+            long pos = position;
+            int done = 0;
+            while (done < len) {
+                final int offset = (int) (pos & CHUNK_MASK);
+                final int n = Math.min(len - done, CHUNK_SIZE - offset);
+                final ByteBuffer part = src.duplicate();
+                ((Buffer) part).limit(part.position() + n);
+                slice(chunks.get((int) (pos >>> CHUNK_SHIFT)), offset, n).put(part);
+                ((Buffer) src).position(src.position() + n);
+                done += n;
+                pos += n;
+            }
+        } finally {
+            lock.unlock();
+        }
+        updateLastModified();
+        return len;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        lock.lock();
+        try {
+            out.defaultWriteObject();
+            final byte[] buffer = new byte[CHUNK_SIZE];
+            for (long position = 0; position < size; position += CHUNK_SIZE) {
+                final int n = read(position, buffer, 0, buffer.length);
+                out.write(buffer, 0, n);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
 }
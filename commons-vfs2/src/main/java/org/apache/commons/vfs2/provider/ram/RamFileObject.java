@@ -16,12 +16,11 @@
  */
 package org.apache.commons.vfs2.provider.ram;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.SeekableByteChannel;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileSystemOptions;
@@ -109,7 +108,7 @@ public class RamFileObject extends AbstractFileObject<RamFileSystem> {
             throw new FileSystemException("vfs.provider/read-not-file.error", getName());
         }
 
-        return new ByteArrayInputStream(this.data.getContent());
+        return this.data.getInputStream();
     }
 
     /*
@@ -130,7 +129,7 @@ public class RamFileObject extends AbstractFileObject<RamFileSystem> {
     @Override
     protected OutputStream doGetOutputStream(final boolean bAppend) throws Exception {
         if (!bAppend) {
-            this.data.setContent(ArrayUtils.EMPTY_BYTE_ARRAY);
+            this.data.resize(0);
         }
         return new RamFileOutputStream(this);
     }
@@ -146,6 +145,14 @@ public class RamFileObject extends AbstractFileObject<RamFileSystem> {
         return new RamFileRandomAccessContent(this, mode);
     }
 
+    @Override
+    protected SeekableByteChannel doGetSeekableByteChannel(final RandomAccessMode mode) throws Exception {
+        if (!mode.requestWrite() && !getType().hasContent()) {
+            throw new FileSystemException("vfs.provider/read-not-file.error", getName());
+        }
+        return new RamFileChannel(this, mode);
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -227,7 +234,8 @@ public class RamFileObject extends AbstractFileObject<RamFileSystem> {
         final FileSystemOptions afsOptions = afs.getFileSystemOptions();
         if (afsOptions != null) {
             final long maxSize = RamFileSystemConfigBuilder.getInstance().getLongMaxSize(afsOptions);
-            if (afs.size() + newSize - this.size() > maxSize) {
+            // Summing the file sizes is linear in the number of files, skip it when there is no limit
+            if (maxSize != Long.MAX_VALUE && afs.size() + newSize - this.size() > maxSize) {
                 throw new IOException("FileSystem capacity (" + maxSize + ") exceeded.");
             }
         }
@@ -248,7 +256,7 @@ public class RamFileObject extends AbstractFileObject<RamFileSystem> {
     /**
      * @return Returns the size of the {@link RamFileData}.
      */
-    int size() {
+    long size() {
         return data == null ? 0 : data.size();
     }
 
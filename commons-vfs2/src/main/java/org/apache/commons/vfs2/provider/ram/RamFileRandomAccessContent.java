@@ -37,13 +37,21 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
 
     /**
      * File Pointer
+     *
+     * @deprecated Use {@link #getFilePointer()}, this field stops at {@link Integer#MAX_VALUE}.
      */
+    @Deprecated
     protected int filePointer;
 
     /**
-     * Buffer
+     * File position.
+     */
+    private long position;
+
+    /**
+     * File data.
      */
-    private byte[] buf;
+    private final RamFileData data;
 
     /**
      * buffer
@@ -79,13 +87,13 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
     public RamFileRandomAccessContent(final RamFileObject file, final RandomAccessMode mode) {
         Objects.requireNonNull(file, "file");
         Objects.requireNonNull(mode, "mode");
-        this.buf = file.getData().getContent();
+        this.data = file.getData();
         this.file = file;
 
         rafis = new InputStream() {
             @Override
             public int available() throws IOException {
-                return getLeftBytes();
+                return (int) Math.min(Integer.MAX_VALUE, Math.max(0, getLeftBytes()));
             }
 
             @Override
@@ -109,9 +117,9 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
             @Override
             public int read(final byte[] b, final int off, final int len) throws IOException {
                 int retLen = -1;
-                final int left = getLeftBytes();
+                final long left = getLeftBytes();
                 if (left > 0) {
-                    retLen = Math.min(len, left);
+                    retLen = (int) Math.min(len, left);
                     RamFileRandomAccessContent.this.readFully(b, off, retLen);
                 }
                 return retLen;
@@ -200,7 +208,7 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
      */
     @Override
     public long getFilePointer() throws IOException {
-        return this.filePointer;
+        return this.position;
     }
 
     @Override
@@ -208,8 +216,8 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
         return rafis;
     }
 
-    private int getLeftBytes() {
-        return buf.length - filePointer;
+    private long getLeftBytes() {
+        return data.size() - position;
     }
 
     /*
@@ -219,7 +227,7 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
      */
     @Override
     public long length() throws IOException {
-        return buf.length;
+        return data.size();
     }
 
     /*
@@ -300,9 +308,8 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
                     "Read length (" + len + ") is higher than buffer left bytes (" + this.getLeftBytes() + ") ");
         }
 
-        System.arraycopy(buf, filePointer, b, off, len);
-
-        filePointer += len;
+        data.read(position, b, off, len);
+        setPosition(position + len);
     }
 
     /*
@@ -354,8 +361,9 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
      */
     @Override
     public int readUnsignedByte() throws IOException {
-        if (filePointer < buf.length) {
-            return buf[filePointer++] & BYTE_VALUE_MASK;
+        if (data.read(position, buffer1, 0, 1) == 1) {
+            setPosition(position + 1);
+            return buffer1[0] & BYTE_VALUE_MASK;
         }
         throw new EOFException();
     }
@@ -391,13 +399,17 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
         if (pos < 0) {
             throw new IOException("Attempt to position before the start of the file");
         }
-        this.filePointer = (int) pos;
+        setPosition(pos);
     }
 
     @Override
     public void setLength(final long newLength) throws IOException {
         this.file.resize(newLength);
-        this.buf = this.file.getData().getContent();
+    }
+
+    private void setPosition(final long pos) {
+        this.position = pos;
+        this.filePointer = (int) Math.min(pos, Integer.MAX_VALUE);
     }
 
     /*
@@ -411,9 +423,9 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
             throw new IndexOutOfBoundsException("The skip number can't be negative");
         }
 
-        final long newPos = filePointer + n;
+        final long newPos = position + n;
 
-        if (newPos > buf.length) {
+        if (newPos > data.size()) {
             throw new IndexOutOfBoundsException("Tyring to skip too much bytes");
         }
 
@@ -440,12 +452,10 @@ public class RamFileRandomAccessContent implements RandomAccessContent {
     @Override
     public void write(final byte[] b, final int off, final int len) throws IOException {
         if (this.getLeftBytes() < len) {
-            final int newSize = this.buf.length + len - this.getLeftBytes();
-            this.file.resize(newSize);
-            this.buf = this.file.getData().getContent();
+            this.file.resize(position + len);
         }
-        System.arraycopy(b, off, this.buf, filePointer, len);
-        this.filePointer += len;
+        data.write(position, b, off, len);
+        setPosition(position + len);
     }
 
     /*
@@ -50,6 +50,11 @@ public class RamFileSystem extends AbstractFileSystem implements Serializable {
      */
     private final Map<FileName, RamFileData> cache;
 
+    /**
+     * Memory budget, null to keep content on the heap.
+     */
+    private final transient RamMemoryBudget memoryBudget;
+
     /**
      * @param rootName The root file name.
      * @param fileSystemOptions The FileSystem options.
@@ -57,8 +62,10 @@ public class RamFileSystem extends AbstractFileSystem implements Serializable {
     protected RamFileSystem(final FileName rootName, final FileSystemOptions fileSystemOptions) {
         super(rootName, null, fileSystemOptions);
         this.cache = Collections.synchronizedMap(new HashMap<>());
+        final long budget = RamFileSystemConfigBuilder.getInstance().getMemoryBudget(fileSystemOptions);
+        this.memoryBudget = budget == Long.MAX_VALUE ? null : new RamMemoryBudget(this, budget);
         // create root
-        final RamFileData rootData = new RamFileData(rootName);
+        final RamFileData rootData = new RamFileData(rootName, memoryBudget);
         rootData.setType(FileType.FOLDER);
         rootData.setLastModified(System.currentTimeMillis());
         this.cache.put(rootName, rootData);
@@ -74,6 +81,17 @@ public class RamFileSystem extends AbstractFileSystem implements Serializable {
         caps.addAll(RamFileProvider.capabilities);
     }
 
+    /**
+     * Allocates a temporary file to spill the content of a file to.
+     *
+     * @param name The name of the file.
+     * @return the temporary file.
+     * @throws FileSystemException if there is no temporary file store.
+     */
+    File allocateSpillFile(final FileName name) throws FileSystemException {
+        return getContext().getTemporaryFileStore().allocateFile(name.getBaseName());
+    }
+
     /**
      * Attaches this instance to the given RamFileObject.
      *
@@ -85,7 +103,7 @@ public class RamFileSystem extends AbstractFileSystem implements Serializable {
         }
         RamFileData data = this.cache.get(ramFileObject.getName());
         if (data == null) {
-            data = new RamFileData(ramFileObject.getName());
+            data = new RamFileData(ramFileObject.getName(), memoryBudget);
         }
         ramFileObject.setData(data);
     }
@@ -168,7 +186,11 @@ public class RamFileSystem extends AbstractFileSystem implements Serializable {
         }
         // Copy data
 
-        to.getData().setContent(from.getData().getContent());
+        try {
+            to.getData().copyContent(from.getData());
+        } catch (final IOException e) {
+            throw new FileSystemException(e);
+        }
         to.getData().setLastModified(from.getData().getLastModified());
         to.getData().setType(from.getData().getType());
 
@@ -205,6 +227,13 @@ public class RamFileSystem extends AbstractFileSystem implements Serializable {
         file.close();
     }
 
+    /**
+     * @return the memory budget, null if content is kept on the heap.
+     */
+    RamMemoryBudget getMemoryBudget() {
+        return memoryBudget;
+    }
+
     /**
      * @return Returns the size of the FileSystem
      */
@@ -28,6 +28,9 @@ public final class RamFileSystemConfigBuilder extends FileSystemConfigBuilder {
     /** max size key. */
     private static final String MAX_SIZE_KEY = "maxsize";
 
+    /** memory budget key. */
+    private static final String MEMORY_BUDGET_KEY = "memorybudget";
+
     /** config builder SINGLETON. */
     private static final RamFileSystemConfigBuilder SINGLETON = new RamFileSystemConfigBuilder();
 
@@ -67,6 +70,18 @@ public final class RamFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return getLong(opts, MAX_SIZE_KEY, Long.MAX_VALUE);
     }
 
+    /**
+     * Gets the memory budget of the file system, defaults to {@link Long#MAX_VALUE} for no budget.
+     *
+     * @param opts The FileSystem options.
+     * @return The memory budget in bytes.
+     * @see #setMemoryBudget(FileSystemOptions, long)
+     * @since 2.10.0
+     */
+    public long getMemoryBudget(final FileSystemOptions opts) {
+        return getLong(opts, MEMORY_BUDGET_KEY, Long.MAX_VALUE);
+    }
+
     /**
      * Defaults to {@link Integer#MAX_VALUE}.
      *
@@ -100,4 +115,20 @@ public final class RamFileSystemConfigBuilder extends FileSystemConfigBuilder {
         setParam(opts, MAX_SIZE_KEY, Long.valueOf(sizeInBytes));
     }
 
+    /**
+     * Sets the memory budget of the file system.
+     * <p>
+     * With a budget, file content is stored off-heap in direct buffers. When the content of all files exceeds the
+     * budget, the least recently used files are spilled to the temporary file store of the file system manager, and
+     * paged back in when they are accessed again. Without a budget, the default, content stays on the heap.
+     * </p>
+     *
+     * @param opts The FileSystem options.
+     * @param sizeInBytes The memory budget in bytes.
+     * @since 2.10.0
+     */
+    public void setMemoryBudget(final FileSystemOptions opts, final long sizeInBytes) {
+        setParam(opts, MEMORY_BUDGET_KEY, Long.valueOf(sizeInBytes));
+    }
+
 }
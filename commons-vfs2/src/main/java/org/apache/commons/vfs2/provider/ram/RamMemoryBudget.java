@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.ram;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileSystemException;
+
+/**
+ * Accounts for the memory held by the content of a RAM file system and spills the least recently used files to
+ * temporary files when the budget is exceeded.
+ * <p>
+ * The budget is soft: a file being read or written by another thread is not spilled, and a single file larger than the
+ * budget stays in memory while it is used.
+ * </p>
+ */
+final class RamMemoryBudget {
+
+    private final long budget;
+
+    private final RamFileSystem fileSystem;
+
+    /**
+     * Files holding chunks, compared by identity since file data equality is by name.
+     */
+    private final Set<RamFileData> resident = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private long used;
+
+    /**
+     * @param fileSystem The file system, which allocates the spill files.
+     * @param budget The budget in bytes.
+     */
+    RamMemoryBudget(final RamFileSystem fileSystem, final long budget) {
+        this.fileSystem = fileSystem;
+        this.budget = budget;
+    }
+
+    /**
+     * Allocates a temporary file to spill the content of a file to.
+     *
+     * @param name The name of the file.
+     * @return the temporary file.
+     * @throws FileSystemException if the file cannot be allocated.
+     */
+    File allocateSpillFile(final FileName name) throws FileSystemException {
+        return fileSystem.allocateSpillFile(name);
+    }
+
+    /**
+     * @return the budget in bytes.
+     */
+    long getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return the bytes held in memory.
+     */
+    synchronized long getUsed() {
+        return used;
+    }
+
+    /**
+     * Accounts for chunks dropped by a file, called with the lock of the file held.
+     *
+     * @param data The file.
+     * @param bytes The bytes dropped.
+     * @param stillResident Whether the file still holds chunks.
+     */
+    synchronized void release(final RamFileData data, final long bytes, final boolean stillResident) {
+        used -= bytes;
+        if (!stillResident) {
+            resident.remove(data);
+        }
+    }
+
+    /**
+     * Accounts for a chunk allocated by a file, called with the lock of the file held, and spills other files until
+     * the memory used fits the budget again.
+     *
+     * @param data The file.
+     * @param bytes The bytes allocated.
+     * @throws IOException if a file cannot be spilled.
+     */
+    void reserve(final RamFileData data, final long bytes) throws IOException {
+        final List<RamFileData> victims;
+        synchronized (this) {
+            used += bytes;
+            resident.add(data);
+            if (used <= budget) {
+                return;
+            }
+            victims = new ArrayList<>(resident);
+        }
+        victims.removeIf(victim -> victim == data);
+        victims.sort(Comparator.comparingLong(RamFileData::getLastAccessNanos));
+        for (final RamFileData victim : victims) {
+            if (getUsed() <= budget) {
+                break;
+            }
+            victim.spill();
+        }
+    }
+
+}
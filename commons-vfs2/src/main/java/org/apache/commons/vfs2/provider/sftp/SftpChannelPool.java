@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.sftp;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import com.jcraft.jsch.ChannelSftp;
+
+/**
+ * A bounded pool of idle SFTP channels.
+ * <p>
+ * The most recently returned channel is reused first, so that the channels beyond what concurrent use needs stay idle
+ * until they time out.
+ * </p>
+ */
+final class SftpChannelPool {
+
+    private static final class IdleChannel {
+
+        private final ChannelSftp channel;
+
+        private final long idleSinceNanos;
+
+        private IdleChannel(final ChannelSftp channel, final long idleSinceNanos) {
+            this.channel = channel;
+            this.idleSinceNanos = idleSinceNanos;
+        }
+    }
+
+    private static void disconnect(final List<ChannelSftp> channels) {
+        channels.forEach(ChannelSftp::disconnect);
+    }
+
+    private static boolean isConnected(final ChannelSftp channel) {
+        return channel.isConnected() && !channel.isClosed();
+    }
+
+    /**
+     * Idle channels, the most recently returned first.
+     */
+    private final Deque<IdleChannel> idleChannels = new ArrayDeque<>();
+
+    private final long idleTimeoutNanos;
+
+    private final int maxIdle;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maxIdle The maximum number of idle channels.
+     * @param idleTimeout How long a channel may stay idle, zero or negative for no timeout.
+     */
+    SftpChannelPool(final int maxIdle, final Duration idleTimeout) {
+        this.maxIdle = maxIdle;
+        this.idleTimeoutNanos = idleTimeout.isNegative() ? 0 : idleTimeout.toNanos();
+    }
+
+    /**
+     * Takes an idle channel that is still connected, closing the expired and disconnected ones found on the way.
+     *
+     * @return an idle channel, or null if there is none.
+     */
+    ChannelSftp borrow() {
+        final List<ChannelSftp> stale = new ArrayList<>();
+        ChannelSftp channel = null;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            IdleChannel idle;
+            while (channel == null && (idle = idleChannels.pollFirst()) != null) {
+                if (isConnected(idle.channel) && !isExpired(idle, now)) {
+                    channel = idle.channel;
+                } else {
+                    stale.add(idle.channel);
+                }
+            }
+        }
+        disconnect(stale);
+        return channel;
+    }
+
+    /**
+     * Closes all idle channels.
+     */
+    void clear() {
+        final List<ChannelSftp> stale = new ArrayList<>();
+        synchronized (this) {
+            idleChannels.forEach(idle -> stale.add(idle.channel));
+            idleChannels.clear();
+        }
+        disconnect(stale);
+    }
+
+    /**
+     * @return the number of idle channels.
+     */
+    synchronized int getIdleCount() {
+        return idleChannels.size();
+    }
+
+    private boolean isExpired(final IdleChannel idle, final long now) {
+        return idleTimeoutNanos > 0 && now - idle.idleSinceNanos > idleTimeoutNanos;
+    }
+
+    /**
+     * Returns a channel to the pool, or closes it if it is disconnected or the pool is full. Also closes the expired
+     * channels.
+     *
+     * @param channel The channel.
+     */
+    void release(final ChannelSftp channel) {
+        final List<ChannelSftp> stale = new ArrayList<>();
+        synchronized (this) {
+            final long now = System.nanoTime();
+            // The oldest channels are last
+            while (!idleChannels.isEmpty() && isExpired(idleChannels.peekLast(), now)) {
+                stale.add(idleChannels.pollLast().channel);
+            }
+            if (isConnected(channel) && idleChannels.size() < maxIdle) {
+                idleChannels.addFirst(new IdleChannel(channel, now));
+            } else {
+                stale.add(channel);
+            }
+        }
+        disconnect(stale);
+    }
+
+}
@@ -21,9 +21,12 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Vector;
 
 import org.apache.commons.vfs2.FileNotFoundException;
+import org.apache.commons.vfs2.FileName;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileType;
@@ -32,6 +35,7 @@ import org.apache.commons.vfs2.RandomAccessContent;
 import org.apache.commons.vfs2.VFS;
 import org.apache.commons.vfs2.provider.AbstractFileName;
 import org.apache.commons.vfs2.provider.AbstractFileObject;
+import org.apache.commons.vfs2.provider.DirectoryListingCache;
 import org.apache.commons.vfs2.provider.UriParser;
 import org.apache.commons.vfs2.util.FileObjectUtils;
 import org.apache.commons.vfs2.util.MonitorInputStream;
@@ -114,6 +118,7 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
             channel.mkdir(relPath);
         } finally {
             putChannel(channel);
+            invalidateListing(getName());
         }
     }
 
@@ -131,6 +136,7 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
             }
         } finally {
             putChannel(channel);
+            invalidateListing(getName());
         }
     }
 
@@ -158,7 +164,7 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
     @Override
     protected InputStream doGetInputStream(final int bufferSize) throws Exception {
         // VFS-113: avoid NPE.
-        synchronized (getAbstractFileSystem()) {
+        synchronized (getStateLock()) {
             final ChannelSftp channel = getAbstractFileSystem().getChannel();
             // return channel.get(getName().getPath());
             // hmmm - using the in memory method is soooo much faster ...
@@ -231,7 +237,7 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
      */
     @Override
     protected synchronized FileType doGetType() throws Exception {
-        if (attrs == null) {
+        if (attrs == null && !statFromListing()) {
             statSelf();
         }
 
@@ -281,68 +287,29 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
         if (this.isFile()) {
             return null;
         }
-        // List the contents of the folder
-        Vector<?> vector = null;
-        final ChannelSftp channel = getAbstractFileSystem().getChannel();
-
-        try {
-            // try the direct way to list the directory on the server to avoid too many round trips
-            vector = channel.ls(relPath);
-        } catch (final SftpException e) {
-            String workingDirectory = null;
-            try {
-                if (relPath != null) {
-                    workingDirectory = channel.pwd();
-                    channel.cd(relPath);
-                }
-            } catch (final SftpException ex) {
-                // VFS-210: seems not to be a directory
+        final DirectoryListingCache<SftpATTRS> listingCache = getAbstractFileSystem().getDirectoryListingCache();
+        Map<String, SftpATTRS> listing = listingCache.get(getName());
+        if (listing == null) {
+            listing = listChildren();
+            if (listing == null) {
                 return null;
             }
-
-            SftpException lsEx = null;
-            try {
-                vector = channel.ls(".");
-            } catch (final SftpException ex) {
-                lsEx = ex;
-            } finally {
-                try {
-                    if (relPath != null) {
-                        channel.cd(workingDirectory);
-                    }
-                } catch (final SftpException xe) {
-                    throw new FileSystemException("vfs.provider.sftp/change-work-directory-back.error",
-                            workingDirectory, lsEx);
-                }
-            }
-
-            if (lsEx != null) {
-                throw lsEx;
-            }
-        } finally {
-            putChannel(channel);
+            listingCache.put(getName(), listing);
         }
-        FileSystemException.requireNonNull(vector, "vfs.provider.sftp/list-children.error");
 
         // Extract the child names
         final ArrayList<FileObject> children = new ArrayList<>();
-        for (@SuppressWarnings("unchecked") // OK because ChannelSftp.ls() is documented to return Vector<LsEntry>
-        final Iterator<LsEntry> iterator = (Iterator<LsEntry>) vector.iterator(); iterator.hasNext();) {
-            final LsEntry stat = iterator.next();
-
-            String name = stat.getFilename();
-            if (VFS.isUriStyle() && stat.getAttrs().isDir() && name.charAt(name.length() - 1) != '/') {
+        for (final Map.Entry<String, SftpATTRS> entry : listing.entrySet()) {
+            String name = entry.getKey();
+            final SftpATTRS childAttrs = entry.getValue();
+            if (VFS.isUriStyle() && childAttrs.isDir() && name.charAt(name.length() - 1) != '/') {
                 name = name + "/";
             }
 
-            if (name.equals(".") || name.equals("..") || name.equals("./") || name.equals("../")) {
-                continue;
-            }
-
             final FileObject fo = getFileSystem().resolveFile(getFileSystem().getFileSystemManager()
                     .resolveName(getName(), UriParser.encode(name), NameScope.CHILD));
 
-            ((SftpFileObject) FileObjectUtils.getAbstractFileObject(fo)).setStat(stat.getAttrs());
+            ((SftpFileObject) FileObjectUtils.getAbstractFileObject(fo)).setStat(childAttrs);
 
             children.add(fo);
         }
@@ -361,6 +328,8 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
             channel.rename(relPath, newSftpFileObject.relPath);
         } finally {
             putChannel(channel);
+            invalidateListing(getName());
+            invalidateListing(newFile.getName());
         }
     }
 
@@ -427,6 +396,7 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
             channel.setStat(relPath, attrs);
         } finally {
             putChannel(channel);
+            invalidateListing(getName());
         }
     }
 
@@ -476,11 +446,78 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
         return new PosixPermissions(attrs.getPermissions(), isOwner, isInGroup);
     }
 
+    private void invalidateListing(final FileName name) {
+        getAbstractFileSystem().getDirectoryListingCache().invalidate(name);
+    }
+
+    /**
+     * Lists the children of this folder on the server.
+     *
+     * @return the attributes of the children keyed by file name, or null if this file is not a folder.
+     * @throws Exception if the folder cannot be listed.
+     */
+    private Map<String, SftpATTRS> listChildren() throws Exception {
+        // List the contents of the folder
+        Vector<?> vector = null;
+        final ChannelSftp channel = getAbstractFileSystem().getChannel();
+
+        try {
+            // try the direct way to list the directory on the server to avoid too many round trips
+            vector = channel.ls(relPath);
+        } catch (final SftpException e) {
+            String workingDirectory = null;
+            try {
+                if (relPath != null) {
+                    workingDirectory = channel.pwd();
+                    channel.cd(relPath);
+                }
+            } catch (final SftpException ex) {
+                // VFS-210: seems not to be a directory
+                return null;
+            }
+
+            SftpException lsEx = null;
+            try {
+                vector = channel.ls(".");
+            } catch (final SftpException ex) {
+                lsEx = ex;
+            } finally {
+                try {
+                    if (relPath != null) {
+                        channel.cd(workingDirectory);
+                    }
+                } catch (final SftpException xe) {
+                    throw new FileSystemException("vfs.provider.sftp/change-work-directory-back.error",
+                            workingDirectory, lsEx);
+                }
+            }
+
+            if (lsEx != null) {
+                throw lsEx;
+            }
+        } finally {
+            putChannel(channel);
+        }
+        FileSystemException.requireNonNull(vector, "vfs.provider.sftp/list-children.error");
+
+        final Map<String, SftpATTRS> listing = new LinkedHashMap<>();
+        for (@SuppressWarnings("unchecked") // OK because ChannelSftp.ls() is documented to return Vector<LsEntry>
+        final Iterator<LsEntry> iterator = (Iterator<LsEntry>) vector.iterator(); iterator.hasNext();) {
+            final LsEntry stat = iterator.next();
+            final String name = stat.getFilename();
+            if (!name.equals(".") && !name.equals("..")) {
+                listing.put(name, stat.getAttrs());
+            }
+        }
+        return listing;
+    }
+
     /**
      * Called when the type or content of this file changes.
      */
     @Override
     protected void onChange() throws Exception {
+        invalidateListing(getName());
         statSelf();
     }
 
@@ -496,6 +533,26 @@ public class SftpFileObject extends AbstractFileObject<SftpFileSystem> {
         this.attrs = attrs;
     }
 
+    /**
+     * Sets attrs from the cached listing of the parent folder, if there is one.
+     *
+     * @return whether the cached listing determined the attributes, including that this file does not exist.
+     * @throws FileSystemException if the file name cannot be decoded.
+     */
+    private synchronized boolean statFromListing() throws FileSystemException {
+        final Map<String, SftpATTRS> listing = getAbstractFileSystem().getDirectoryListingCache().get(getName().getParent());
+        if (listing == null) {
+            return false;
+        }
+        final SftpATTRS listedAttrs = listing.get(UriParser.decode(getName().getBaseName()));
+        if (listedAttrs != null && listedAttrs.isLink()) {
+            // the listing describes the link itself, statSelf() follows it
+            return false;
+        }
+        setStat(listedAttrs);
+        return true;
+    }
+
     /**
      * Fetches file attributes from server.
      *
@@ -23,6 +23,8 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.commons.lang3.time.DurationUtils;
 import org.apache.commons.logging.Log;
@@ -33,12 +35,14 @@ import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileSystemOptions;
 import org.apache.commons.vfs2.provider.AbstractFileName;
 import org.apache.commons.vfs2.provider.AbstractFileSystem;
+import org.apache.commons.vfs2.provider.DirectoryListingCache;
 import org.apache.commons.vfs2.provider.GenericFileName;
 
 import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpATTRS;
 import com.jcraft.jsch.SftpException;
 
 /**
@@ -57,17 +61,23 @@ public class SftpFileSystem extends AbstractFileSystem {
     private static final long LAST_MOD_TIME_ACCURACY = 1000L;
 
     /**
-     * Session; never null.
-     * <p>
-     * DCL pattern requires that the ivar be volatile.
-     * </p>
+     * Sessions; the first one is never null, the others are created on demand.
+     */
+    private final AtomicReferenceArray<Session> sessions;
+
+    /**
+     * The index of the session to open the next channel on.
      */
-    private volatile Session session;
+    private final AtomicInteger nextSession = new AtomicInteger();
 
-    private volatile ChannelSftp idleChannel;
+    private final SftpChannelPool channelPool;
+
+    private final boolean validateChannelOnBorrow;
 
     private final Duration connectTimeout;
 
+    private final DirectoryListingCache<SftpATTRS> directoryListingCache;
+
     /**
      * Cache for the user ID (-1 when not set)
      * <p>
@@ -92,8 +102,14 @@ public class SftpFileSystem extends AbstractFileSystem {
     protected SftpFileSystem(final GenericFileName rootName, final Session session,
         final FileSystemOptions fileSystemOptions) {
         super(rootName, null, fileSystemOptions);
-        this.session = Objects.requireNonNull(session, "session");
-        this.connectTimeout = SftpFileSystemConfigBuilder.getInstance().getConnectTimeout(fileSystemOptions);
+        final SftpFileSystemConfigBuilder builder = SftpFileSystemConfigBuilder.getInstance();
+        this.sessions = new AtomicReferenceArray<>(Math.max(1, builder.getSessionCount(fileSystemOptions)));
+        this.sessions.set(0, Objects.requireNonNull(session, "session"));
+        this.channelPool = new SftpChannelPool(builder.getMaxIdleChannels(fileSystemOptions),
+            builder.getChannelIdleTimeout(fileSystemOptions));
+        this.validateChannelOnBorrow = builder.isValidateChannelOnBorrow(fileSystemOptions);
+        this.connectTimeout = builder.getConnectTimeout(fileSystemOptions);
+        this.directoryListingCache = new DirectoryListingCache<>(builder.getDirectoryListingCacheTtl(fileSystemOptions));
 
         if (SftpFileSystemConfigBuilder.getInstance().isDisableDetectExecChannel(fileSystemOptions)) {
             this.execDisabled = true;
@@ -110,6 +126,25 @@ public class SftpFileSystem extends AbstractFileSystem {
         caps.addAll(SftpFileProvider.capabilities);
     }
 
+    /**
+     * Takes a channel from the pool, checking it with a round trip to the server when so configured.
+     *
+     * @return a pooled channel, or null if there is none.
+     */
+    private ChannelSftp borrowChannel() {
+        ChannelSftp channel;
+        while ((channel = channelPool.borrow()) != null && validateChannelOnBorrow) {
+            try {
+                channel.realpath(".");
+                break;
+            } catch (final SftpException e) {
+                LOG.debug("Discarding an SFTP channel that failed validation", e);
+                channel.disconnect();
+            }
+        }
+        return channel;
+    }
+
     /**
      * Creates a file object. This method is called only if the requested file is not cached.
      */
@@ -134,18 +169,14 @@ public class SftpFileSystem extends AbstractFileSystem {
 
     @Override
     protected void doCloseCommunicationLink() {
-        if (idleChannel != null) {
-            synchronized (this) {
-                if (idleChannel != null) {
-                    idleChannel.disconnect();
-                    idleChannel = null;
-                }
+        directoryListingCache.clear();
+        channelPool.clear();
+        for (int i = 0; i < sessions.length(); i++) {
+            final Session session = sessions.get(i);
+            if (session != null) {
+                session.disconnect();
             }
         }
-
-        if (session != null) {
-            session.disconnect();
-        }
     }
 
     /**
@@ -199,19 +230,11 @@ public class SftpFileSystem extends AbstractFileSystem {
      */
     protected ChannelSftp getChannel() throws IOException {
         try {
-            // Use the pooled channel, or create a new one
-            ChannelSftp channel = null;
-            if (idleChannel != null) {
-                synchronized (this) {
-                    if (idleChannel != null) {
-                        channel = idleChannel;
-                        idleChannel = null;
-                    }
-                }
-            }
-
+            // Use a pooled channel, or create a new one
+            ChannelSftp channel = borrowChannel();
             if (channel == null) {
-                channel = (ChannelSftp) getSession().openChannel("sftp");
+                final int index = Math.floorMod(nextSession.getAndIncrement(), sessions.length());
+                channel = (ChannelSftp) getSession(index).openChannel("sftp");
                 channel.connect(DurationUtils.toMillisInt(connectTimeout));
                 final Boolean userDirIsRoot = SftpFileSystemConfigBuilder.getInstance()
                     .getUserDirIsRoot(getFileSystemOptions());
@@ -242,6 +265,26 @@ public class SftpFileSystem extends AbstractFileSystem {
         }
     }
 
+    /**
+     * Gets the channel pool.
+     *
+     * @return the channel pool.
+     */
+    SftpChannelPool getChannelPool() {
+        return channelPool;
+    }
+
+    /**
+     * Gets the cache of folder listings, which also counts its hits and misses.
+     *
+     * @return the cache of folder listings.
+     * @see SftpFileSystemConfigBuilder#setDirectoryListingCacheTtl(FileSystemOptions, Duration)
+     * @since 2.10.0
+     */
+    public DirectoryListingCache<SftpATTRS> getDirectoryListingCache() {
+        return directoryListingCache;
+    }
+
     /**
      * Gets the (numeric) group IDs.
      *
@@ -278,21 +321,35 @@ public class SftpFileSystem extends AbstractFileSystem {
     }
 
     /**
-     * Ensures that the session link is established.
+     * Ensures that the first session link is established.
      *
      * @throws FileSystemException if a session cannot be created.
      */
     private Session getSession() throws FileSystemException {
-        if (!this.session.isConnected()) {
+        return getSession(0);
+    }
+
+    /**
+     * Ensures that a session link is established.
+     *
+     * @param index The index of the session.
+     * @throws FileSystemException if a session cannot be created.
+     */
+    private Session getSession(final int index) throws FileSystemException {
+        Session session = sessions.get(index);
+        if (session == null || !session.isConnected()) {
             synchronized (this) {
-                if (!this.session.isConnected()) {
-                    doCloseCommunicationLink();
-                    this.session = SftpFileProvider.createSession((GenericFileName) getRootName(),
-                        getFileSystemOptions());
+                session = sessions.get(index);
+                if (session == null || !session.isConnected()) {
+                    if (session != null) {
+                        session.disconnect();
+                    }
+                    session = SftpFileProvider.createSession((GenericFileName) getRootName(), getFileSystemOptions());
+                    sessions.set(index, session);
                 }
             }
         }
-        return this.session;
+        return session;
     }
 
     /**
@@ -352,20 +409,7 @@ public class SftpFileSystem extends AbstractFileSystem {
      * @param channelSftp the SFTP channel.
      */
     protected void putChannel(final ChannelSftp channelSftp) {
-        if (idleChannel == null) {
-            synchronized (this) {
-                if (idleChannel == null) {
-                    // put back the channel only if it is still connected
-                    if (channelSftp.isConnected() && !channelSftp.isClosed()) {
-                        idleChannel = channelSftp;
-                    }
-                } else {
-                    channelSftp.disconnect();
-                }
-            }
-        } else {
-            channelSftp.disconnect();
-        }
+        channelPool.release(channelSftp);
     }
 
 }
@@ -97,14 +97,22 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
      */
     public static final ProxyType PROXY_STREAM = new ProxyType("stream");
 
+    private static final Duration DEFAULT_CHANNEL_IDLE_TIMEOUT = Duration.ZERO;
+
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ZERO;
 
+    private static final int DEFAULT_MAX_IDLE_CHANNELS = 1;
+
+    private static final int DEFAULT_SESSION_COUNT = 1;
+
     private static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ZERO;
 
     private static final String PREFIX = SftpFileSystemConfigBuilder.class.getName();
     private static final SftpFileSystemConfigBuilder BUILDER = new SftpFileSystemConfigBuilder();
+    private static final String CHANNEL_IDLE_TIMEOUT = PREFIX + ".CHANNEL_IDLE_TIMEOUT";
     private static final String COMPRESSION = PREFIX + "COMPRESSION";
     private static final String CONNECT_TIMEOUT = PREFIX + ".CONNECT_TIMEOUT";
+    private static final String DIRECTORY_LISTING_CACHE_TTL = PREFIX + ".DIRECTORY_LISTING_CACHE_TTL";
     private static final String ENCODING = PREFIX + ".ENCODING";
     private static final String HOST_KEY_CHECK_ASK = "ask";
     private static final String HOST_KEY_CHECK_NO = "no";
@@ -114,6 +122,7 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
     private static final String CONFIG_REPOSITORY = PREFIX + "CONFIG_REPOSITORY";
     private static final String KEY_EXCHANGE_ALGORITHM = PREFIX + ".KEY_EXCHANGE_ALGORITHM";
     private static final String LOAD_OPENSSH_CONFIG = PREFIX + "LOAD_OPENSSH_CONFIG";
+    private static final String MAX_IDLE_CHANNELS = PREFIX + ".MAX_IDLE_CHANNELS";
     private static final String KNOWN_HOSTS = PREFIX + ".KNOWN_HOSTS";
     private static final String PREFERRED_AUTHENTICATIONS = PREFIX + ".PREFERRED_AUTHENTICATIONS";
     private static final String PROXY_COMMAND = PREFIX + ".PROXY_COMMAND";
@@ -125,9 +134,11 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
 
     private static final String PROXY_TYPE = PREFIX + ".PROXY_TYPE";
     private static final String PROXY_USER = PREFIX + ".PROXY_USER";
+    private static final String SESSION_COUNT = PREFIX + ".SESSION_COUNT";
     private static final String SESSION_TIMEOUT = PREFIX + ".TIMEOUT";
     private static final String STRICT_HOST_KEY_CHECKING = PREFIX + ".STRICT_HOST_KEY_CHECKING";
     private static final String USER_DIR_IS_ROOT = PREFIX + ".USER_DIR_IS_ROOT";
+    private static final String VALIDATE_CHANNEL_ON_BORROW = PREFIX + ".VALIDATE_CHANNEL_ON_BORROW";
 
     private SftpFileSystemConfigBuilder() {
         super("sftp.");
@@ -142,6 +153,18 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return BUILDER;
     }
 
+    /**
+     * Gets how long a channel may stay idle in the pool before it is closed.
+     *
+     * @param options The FileSystem options.
+     * @return The channel idle timeout, {@link Duration#ZERO} for no timeout.
+     * @see #setChannelIdleTimeout(FileSystemOptions, Duration)
+     * @since 2.10.0
+     */
+    public Duration getChannelIdleTimeout(final FileSystemOptions options) {
+        return this.getDuration(options, CHANNEL_IDLE_TIMEOUT, DEFAULT_CHANNEL_IDLE_TIMEOUT);
+    }
+
     /**
      * @param options The FileSystem options.
      * @return The names of the compression algorithms, comma-separated.
@@ -192,6 +215,18 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return this.getDurationInteger(options, CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT);
     }
 
+    /**
+     * Gets how long a folder listing answers for the type, size and last modified time of the children of the folder.
+     *
+     * @param options The FileSystem options.
+     * @return The time to live of folder listings, {@link Duration#ZERO} if listings are not cached, the default.
+     * @see #setDirectoryListingCacheTtl(FileSystemOptions, Duration)
+     * @since 2.10.0
+     */
+    public Duration getDirectoryListingCacheTtl(final FileSystemOptions options) {
+        return this.getDuration(options, DIRECTORY_LISTING_CACHE_TTL, Duration.ZERO);
+    }
+
     /**
      * Gets the file name encoding.
      *
@@ -279,6 +314,18 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return getParam(options, KNOWN_HOSTS);
     }
 
+    /**
+     * Gets the maximum number of idle channels a file system keeps for reuse.
+     *
+     * @param options The FileSystem options.
+     * @return The maximum number of idle channels, defaults to 1.
+     * @see #setMaxIdleChannels(FileSystemOptions, int)
+     * @since 2.10.0
+     */
+    public int getMaxIdleChannels(final FileSystemOptions options) {
+        return this.getInteger(options, MAX_IDLE_CHANNELS, DEFAULT_MAX_IDLE_CHANNELS);
+    }
+
     /**
      * Gets authentication order.
      *
@@ -398,6 +445,18 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return this.getDurationInteger(options, SESSION_TIMEOUT, DEFAULT_SESSION_TIMEOUT);
     }
 
+    /**
+     * Gets the number of SSH sessions the channels of a file system are spread across.
+     *
+     * @param options The FileSystem options.
+     * @return The number of sessions, defaults to 1.
+     * @see #setSessionCount(FileSystemOptions, int)
+     * @since 2.10.0
+     */
+    public int getSessionCount(final FileSystemOptions options) {
+        return this.getInteger(options, SESSION_COUNT, DEFAULT_SESSION_COUNT);
+    }
+
     /**
      * @param options The FileSystem options.
      * @return the option value The host key checking.
@@ -467,6 +526,19 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return this.getBoolean(options, LOAD_OPENSSH_CONFIG, Boolean.FALSE);
     }
 
+    /**
+     * Returns {@code true} if an idle channel is validated with a request to the server before it is reused. Defaults
+     * to {@code false}.
+     *
+     * @param options The FileSystemOptions.
+     * @return {@code true} if idle channels are validated before they are reused.
+     * @see #setValidateChannelOnBorrow(FileSystemOptions, boolean)
+     * @since 2.10.0
+     */
+    public boolean isValidateChannelOnBorrow(final FileSystemOptions options) {
+        return this.getBoolean(options, VALIDATE_CHANNEL_ON_BORROW, Boolean.FALSE);
+    }
+
     /**
      * Configures the compression algorithms to use.
      * <p>
@@ -497,6 +569,17 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         this.setParam(options, CONFIG_REPOSITORY, configRepository);
     }
 
+    /**
+     * Sets how long a channel may stay idle in the pool before it is closed.
+     *
+     * @param options The FileSystem options.
+     * @param timeout The channel idle timeout, {@link Duration#ZERO} for no timeout.
+     * @since 2.10.0
+     */
+    public void setChannelIdleTimeout(final FileSystemOptions options, final Duration timeout) {
+        this.setParam(options, CHANNEL_IDLE_TIMEOUT, timeout);
+    }
+
     /**
      * Sets the timeout value to create a Jsch connection.
      *
@@ -533,6 +616,23 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         this.setParam(options, DISABLE_DETECT_EXEC_CHANNEL, toBooleanObject(disableDetectExecChannel));
     }
 
+    /**
+     * Sets how long a folder listing answers for the type, size and last modified time of the children of the folder.
+     * <p>
+     * While a listing is cached, {@link org.apache.commons.vfs2.FileObject#refresh()} does not fetch these attributes
+     * again; changes made through this file system invalidate the listings they affect, but changes made by others show
+     * after the listing expires. The hit and miss counts are available from the file system's
+     * {@code getDirectoryListingCache()}.
+     * </p>
+     *
+     * @param options The FileSystem options.
+     * @param ttl The time to live of folder listings, {@link Duration#ZERO} to not cache listings.
+     * @since 2.10.0
+     */
+    public void setDirectoryListingCacheTtl(final FileSystemOptions options, final Duration ttl) {
+        this.setParam(options, DIRECTORY_LISTING_CACHE_TTL, ttl);
+    }
+
     /**
      * Sets the file name encoding.
      *
@@ -635,6 +735,21 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         this.setParam(options, LOAD_OPENSSH_CONFIG, toBooleanObject(loadOpenSSHConfig));
     }
 
+    /**
+     * Sets the maximum number of idle channels a file system keeps for reuse.
+     * <p>
+     * Operations borrow a channel from the pool, or open a new one when none is idle, so the number of channels in use
+     * is not bounded. A channel returned when the pool is full is closed.
+     * </p>
+     *
+     * @param options The FileSystem options.
+     * @param maxIdleChannels The maximum number of idle channels.
+     * @since 2.10.0
+     */
+    public void setMaxIdleChannels(final FileSystemOptions options, final int maxIdleChannels) {
+        this.setParam(options, MAX_IDLE_CHANNELS, Integer.valueOf(maxIdleChannels));
+    }
+
     /**
      * Configures authentication order.
      *
@@ -739,6 +854,21 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         this.setParam(options, PROXY_USER, proxyUser);
     }
 
+    /**
+     * Sets the number of SSH sessions the channels of a file system are spread across.
+     * <p>
+     * Servers limit the number of channels of a session, OpenSSH to 10 by default, and a session multiplexes its
+     * channels over one connection. New channels are opened on the sessions in turn.
+     * </p>
+     *
+     * @param options The FileSystem options.
+     * @param sessionCount The number of sessions.
+     * @since 2.10.0
+     */
+    public void setSessionCount(final FileSystemOptions options, final int sessionCount) {
+        this.setParam(options, SESSION_COUNT, Integer.valueOf(sessionCount));
+    }
+
     /**
      * Sets the timeout value on Jsch session.
      *
@@ -818,4 +948,16 @@ public final class SftpFileSystemConfigBuilder extends FileSystemConfigBuilder {
         this.setParam(options, UserInfo.class.getName(), info);
     }
 
+    /**
+     * Sets whether an idle channel is validated with a request to the server before it is reused. A channel that
+     * fails validation is closed and the next one is tried.
+     *
+     * @param options The FileSystem options.
+     * @param validateChannelOnBorrow true to validate idle channels before they are reused.
+     * @since 2.10.0
+     */
+    public void setValidateChannelOnBorrow(final FileSystemOptions options, final boolean validateChannelOnBorrow) {
+        this.setParam(options, VALIDATE_CHANNEL_ON_BORROW, toBooleanObject(validateChannelOnBorrow));
+    }
+
 }
@@ -19,16 +19,25 @@ package org.apache.commons.vfs2.provider.tar;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.GZIPInputStream;
 
-import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.EntryStreamOffsets;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.function.Uncheck;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.io.input.ClosedInputStream;
+import org.apache.commons.io.input.ProxyInputStream;
+import org.apache.commons.lang3.function.FailableFunction;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.commons.vfs2.Capability;
@@ -48,6 +57,27 @@ import org.apache.commons.vfs2.provider.bzip2.Bzip2FileObject;
  * A read-only file system for Tar files.
  */
 public class TarFileSystem extends AbstractFileSystem {
+
+    /**
+     * Reads an entry from the shared {@link #tarFile} stream, which stays open when this stream is closed.
+     */
+    private final class SharedEntryInputStream extends ProxyInputStream {
+
+        SharedEntryInputStream(final InputStream proxy) {
+            super(proxy);
+        }
+
+        @Override
+        public void close() {
+            synchronized (TarFileSystem.this) {
+                in = ClosedInputStream.INSTANCE;
+                if (sharedEntryStream == this) {
+                    sharedEntryStream = null;
+                }
+            }
+        }
+    }
+
     private static final Log LOG = LogFactory.getLog(TarFileSystem.class);
 
     private static final char[] ENC = {'!'};
@@ -57,13 +87,29 @@ public class TarFileSystem extends AbstractFileSystem {
     private TarArchiveInputStream tarFile;
 
     /**
-     * Cache doesn't need to be synchronized since it is read-only.
+     * The data offset of the entry {@link #tarFile} is positioned at, -1 before the first entry.
+     */
+    private long tarFileOffset = -1;
+
+    /**
+     * The open stream reading the entry {@link #tarFile} is positioned at, null when there is none.
+     */
+    private SharedEntryInputStream sharedEntryStream;
+
+    /**
+     * Whether entries can be read at their data offset, that is, whether the archive is not compressed.
+     */
+    private final boolean seekable;
+
+    /**
+     * Cache is filled by {@link #init()} and may then receive imaginary files resolved concurrently.
      */
-    private final Map<FileName, FileObject> cache = new HashMap<>();
+    private final Map<FileName, FileObject> cache = new ConcurrentHashMap<>();
 
     protected TarFileSystem(final AbstractFileName rootName, final FileObject parentLayer,
         final FileSystemOptions fileSystemOptions) throws FileSystemException {
         super(rootName, parentLayer, fileSystemOptions);
+        seekable = "tar".equalsIgnoreCase(rootName.getScheme());
 
         // Make a local copy of the file
         file = parentLayer.getFileSystem().replicateFile(parentLayer, Selectors.SELECT_SELF);
@@ -85,6 +131,16 @@ public class TarFileSystem extends AbstractFileSystem {
         caps.addAll(TarFileProvider.capabilities);
     }
 
+    @Override
+    protected FileObject computeFileIfAbsent(final FileName name,
+        final FailableFunction<FileName, FileObject, FileSystemException> creator) throws FileSystemException {
+        try {
+            return cache.computeIfAbsent(name, k -> Uncheck.apply(creator::apply, k));
+        } catch (final UncheckedIOException e) {
+            throw (FileSystemException) e.getCause();
+        }
+    }
+
     /**
      * Creates a file object.
      */
@@ -120,6 +176,7 @@ public class TarFileSystem extends AbstractFileSystem {
             if (tarFile != null) {
                 tarFile.close();
                 tarFile = null;
+                sharedEntryStream = null;
             }
         } catch (final IOException e) {
             // getLogger().warn("vfs.provider.tar/close-tar-file.error :" + file, e);
@@ -137,6 +194,12 @@ public class TarFileSystem extends AbstractFileSystem {
 
     /**
      * Returns the input stream for the given entry.
+     * <p>
+     * The entries of an uncompressed archive are read at the data offset recorded by {@link #init()}. The entries of a
+     * compressed archive are read from a single stream, which only starts over when an entry is requested before the
+     * current one, so that reading entries in archive order takes one pass. While a stream returned for that shared
+     * stream is still open, other entries are read from a stream of their own.
+     * </p>
      *
      * @param entry The entry to seek.
      * @return the input stream for the given entry.
@@ -144,20 +207,74 @@ public class TarFileSystem extends AbstractFileSystem {
      */
     public InputStream getInputStream(final TarArchiveEntry entry) throws FileSystemException {
         Objects.requireNonNull(entry, "entry");
-        resetTarFile();
+        final long offset = entry.getDataOffset();
+        if (seekable && offset != EntryStreamOffsets.OFFSET_UNKNOWN && !entry.isSparse()) {
+            return getSeekInputStream(offset, entry.getSize());
+        }
+        return getSequentialInputStream(entry, offset);
+    }
+
+    private InputStream getSeekInputStream(final long offset, final long size) throws FileSystemException {
         try {
-            ArchiveEntry next;
-            while ((next = tarFile.getNextEntry()) != null) {
-                if (next.equals(entry)) {
-                    return tarFile;
-                }
+            final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            try {
+                channel.position(offset);
+            } catch (final IOException e) {
+                channel.close();
+                throw e;
             }
-            throw new FileNotFoundException(entry.toString());
+            return new BoundedInputStream(Channels.newInputStream(channel), size);
+        } catch (final IOException e) {
+            throw new FileSystemException("vfs.provider.tar/open-tar-file.error", file, e);
+        }
+    }
+
+    private synchronized InputStream getSequentialInputStream(final TarArchiveEntry entry, final long offset)
+        throws FileSystemException {
+        if (sharedEntryStream != null) {
+            // Advancing the shared stream would move the open entry stream on to another entry
+            return getPrivateInputStream(entry, offset);
+        }
+        try {
+            if (tarFile == null || offset == EntryStreamOffsets.OFFSET_UNKNOWN || offset <= tarFileOffset) {
+                resetTarFile();
+            }
+            final TarArchiveInputStream tarStream = getTarFile();
+            final boolean found;
+            try {
+                found = skipToEntry(tarStream, entry, offset);
+            } finally {
+                tarFileOffset = tarStream.getBytesRead();
+            }
+            if (!found) {
+                throw new FileNotFoundException(entry.toString());
+            }
+            sharedEntryStream = new SharedEntryInputStream(tarStream);
+            return sharedEntryStream;
         } catch (final IOException e) {
             throw new FileSystemException(e);
         }
     }
 
+    private InputStream getPrivateInputStream(final TarArchiveEntry entry, final long offset)
+        throws FileSystemException {
+        final TarArchiveInputStream tarStream = createTarFile(file);
+        try {
+            if (skipToEntry(tarStream, entry, offset)) {
+                return tarStream;
+            }
+            tarStream.close();
+            throw new FileNotFoundException(entry.toString());
+        } catch (final IOException e) {
+            try {
+                tarStream.close();
+            } catch (final IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e instanceof FileSystemException ? (FileSystemException) e : new FileSystemException(e);
+        }
+    }
+
     protected TarArchiveInputStream getTarFile() throws FileSystemException {
         if (tarFile == null && this.file.exists()) {
             recreateTarFile();
@@ -171,8 +288,11 @@ public class TarFileSystem extends AbstractFileSystem {
 
         // Build the index
         try {
+            final TarArchiveInputStream tarStream = getTarFile();
             TarArchiveEntry entry;
-            while ((entry = getTarFile().getNextTarEntry()) != null) {
+            while ((entry = tarStream.getNextTarEntry()) != null) {
+                // Record where the entry data starts in the uncompressed archive
+                entry.setDataOffset(tarStream.getBytesRead());
                 final AbstractFileName name = (AbstractFileName) getFileSystemManager().resolveName(getRootName(),
                     UriParser.encode(entry.getName(), ENC));
 
@@ -234,6 +354,31 @@ public class TarFileSystem extends AbstractFileSystem {
             tarFile = null;
         }
         this.tarFile = createTarFile(this.file);
+        this.tarFileOffset = -1;
+    }
+
+    /**
+     * Positions the given stream at the data of the given entry.
+     *
+     * @param tarStream The archive stream, positioned before the entry.
+     * @param entry The entry to seek.
+     * @param offset The data offset of the entry, or {@link EntryStreamOffsets#OFFSET_UNKNOWN}.
+     * @return whether the entry was found.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static boolean skipToEntry(final TarArchiveInputStream tarStream, final TarArchiveEntry entry,
+        final long offset) throws IOException {
+        TarArchiveEntry next;
+        while ((next = tarStream.getNextTarEntry()) != null) {
+            final long bytesRead = tarStream.getBytesRead();
+            if (offset == EntryStreamOffsets.OFFSET_UNKNOWN ? next.equals(entry) : bytesRead == offset) {
+                return true;
+            }
+            if (offset != EntryStreamOffsets.OFFSET_UNKNOWN && bytesRead > offset) {
+                return false;
+            }
+        }
+        return false;
     }
 
     /**
@@ -245,9 +390,7 @@ public class TarFileSystem extends AbstractFileSystem {
     }
 
     protected void resetTarFile() throws FileSystemException {
-        // Reading specific entries requires skipping through the tar file from the beginning
-        // Not especially elegant, but we don't have the ability to seek to specific positions
-        // with an input stream.
+        // Reading entries of a compressed tar file requires skipping through it from the beginning
         if (this.file.exists()) {
             recreateTarFile();
         }
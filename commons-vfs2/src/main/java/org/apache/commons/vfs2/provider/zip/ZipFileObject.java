@@ -96,7 +96,7 @@ public class ZipFileObject extends AbstractFileObject<ZipFileSystem> {
             throw new FileSystemException("vfs.provider/read-not-file.error", getName());
         }
 
-        return getAbstractFileSystem().getZipFile().getInputStream(entry);
+        return getAbstractFileSystem().getInputStream(entry);
     }
 
     /**
@@ -123,7 +123,8 @@ public class ZipFileObject extends AbstractFileObject<ZipFileSystem> {
         if (!Uncheck.get(this::getType).hasChildren()) {
             return null;
         }
-        return children.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+        final String[] indexed = Uncheck.apply(getAbstractFileSystem()::listIndexedChildren, getName());
+        return indexed != null ? indexed : children.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
     }
 
     /**
@@ -60,7 +60,7 @@ public class ZipFileProvider extends AbstractLayeredFileProvider {
             final FileSystemOptions fileSystemOptions) throws FileSystemException {
         final AbstractFileName rootName = new LayeredFileName(scheme, file.getName(), FileName.ROOT_PATH,
                 FileType.FOLDER);
-        return new ZipFileSystem(rootName, file, fileSystemOptions);
+        return new ZipFileSystem(rootName, file, fileSystemOptions, true);
     }
 
     @Override
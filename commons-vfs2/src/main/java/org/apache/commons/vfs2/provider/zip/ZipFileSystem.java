@@ -18,14 +18,21 @@ package org.apache.commons.vfs2.provider.zip;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.function.Uncheck;
+import org.apache.commons.lang3.function.FailableFunction;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.commons.vfs2.Capability;
@@ -33,11 +40,16 @@ import org.apache.commons.vfs2.FileName;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.RandomAccessContent;
 import org.apache.commons.vfs2.Selectors;
 import org.apache.commons.vfs2.VfsLog;
 import org.apache.commons.vfs2.provider.AbstractFileName;
 import org.apache.commons.vfs2.provider.AbstractFileSystem;
 import org.apache.commons.vfs2.provider.UriParser;
+import org.apache.commons.vfs2.provider.local.LocalFile;
+import org.apache.commons.vfs2.util.FileObjectUtils;
+import org.apache.commons.vfs2.util.RandomAccessContentChannel;
+import org.apache.commons.vfs2.util.RandomAccessMode;
 
 /**
  * A read-only file system for ZIP and JAR files.
@@ -47,14 +59,36 @@ public class ZipFileSystem extends AbstractFileSystem {
 
     private static final Log LOG = LogFactory.getLog(ZipFileSystem.class);
 
+    /**
+     * Returns whether the given parent layer can be read in place: it supports random access, and is not a local file,
+     * which is not replicated anyway.
+     */
+    private static boolean isRandomAccess(final FileObject parentLayer) throws FileSystemException {
+        return parentLayer.getFileSystem().hasCapability(Capability.RANDOM_ACCESS_READ)
+            && !FileObjectUtils.isInstanceOf(parentLayer, LocalFile.class);
+    }
+
+    /**
+     * The local copy of the Zip file, null if the Zip file is read through the parent layer.
+     */
     private final File file;
     private final Charset charset;
     private ZipFile zipFile;
 
     /**
-     * Cache doesn't need to be synchronized since it is read-only.
+     * The Zip file read through the random access content of the parent layer.
+     */
+    private org.apache.commons.compress.archivers.zip.ZipFile parentLayerZipFile;
+
+    /**
+     * Index of the entry names, null unless entries are indexed lazily.
      */
-    private final Map<FileName, FileObject> cache = new HashMap<>();
+    private ZipIndex index;
+
+    /**
+     * Cache is filled by {@link #init()} and may then receive imaginary files resolved concurrently.
+     */
+    private final Map<FileName, FileObject> cache = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new instance.
@@ -66,11 +100,37 @@ public class ZipFileSystem extends AbstractFileSystem {
      */
     public ZipFileSystem(final AbstractFileName rootFileName, final FileObject parentLayer, final FileSystemOptions fileSystemOptions)
         throws FileSystemException {
+        this(rootFileName, parentLayer, fileSystemOptions, false);
+    }
+
+    /**
+     * Constructs a new instance.
+     * <p>
+     * When {@code readParentLayer} is true and the parent layer supports random access, the Zip file is read in place
+     * through the random access content of the parent layer, which only reads the central directory and the entries
+     * read, rather than being replicated to a local file first. {@link #getZipFile()} then returns null, so subclasses
+     * that use it must pass false.
+     * </p>
+     *
+     * @param rootFileName The root file name of this file system.
+     * @param parentLayer The parent layer of this file system.
+     * @param fileSystemOptions Options to build this file system.
+     * @param readParentLayer Whether to read a parent layer that supports random access in place.
+     * @throws FileSystemException If the parent layer does not exist, or on error replicating the file.
+     * @since 2.10.0
+     */
+    public ZipFileSystem(final AbstractFileName rootFileName, final FileObject parentLayer, final FileSystemOptions fileSystemOptions,
+        final boolean readParentLayer) throws FileSystemException {
         super(rootFileName, parentLayer, fileSystemOptions);
+        this.charset = ZipFileSystemConfigBuilder.getInstance().getCharset(fileSystemOptions);
+
+        if (readParentLayer && isRandomAccess(parentLayer)) {
+            file = null;
+            return;
+        }
 
         // Make a local copy of the file
         file = parentLayer.getFileSystem().replicateFile(parentLayer, Selectors.SELECT_SELF);
-        this.charset = ZipFileSystemConfigBuilder.getInstance().getCharset(fileSystemOptions);
 
         // Open the Zip file
         if (!file.exists()) {
@@ -87,15 +147,48 @@ public class ZipFileSystem extends AbstractFileSystem {
         caps.addAll(ZipFileProvider.capabilities);
     }
 
+    @Override
+    protected FileObject computeFileIfAbsent(final FileName name,
+        final FailableFunction<FileName, FileObject, FileSystemException> creator) throws FileSystemException {
+        try {
+            return cache.computeIfAbsent(name, k -> Uncheck.apply(creator::apply, k));
+        } catch (final UncheckedIOException e) {
+            throw (FileSystemException) e.getCause();
+        }
+    }
+
     /**
      * Creates a file object.
      */
     @Override
     protected FileObject createFile(final AbstractFileName name) throws FileSystemException {
+        if (index != null) {
+            final FileObject file = createIndexedFile(name);
+            if (file != null) {
+                return file;
+            }
+        }
         // This is only called for files which do not exist in the Zip file
         return new ZipFileObject(name, null, this, false);
     }
 
+    /**
+     * Creates a file object from the lazy index.
+     *
+     * @return the file object, or null if the file does not exist in the Zip file.
+     */
+    private FileObject createIndexedFile(final AbstractFileName name) throws FileSystemException {
+        final String path = name.getPathDecoded().substring(1);
+        final String entryName = index.getEntryName(path);
+        if (entryName != null) {
+            final ZipEntry entry = getEntry(entryName);
+            if (entry != null) {
+                return createZipFileObject(name, entry);
+            }
+        }
+        return index.isFolder(path) ? createZipFileObject(name, null) : null;
+    }
+
     protected ZipFile createZipFile(final File file) throws FileSystemException {
         try {
             return charset == null ? new ZipFile(file) : new ZipFile(file, charset);
@@ -117,6 +210,10 @@ public class ZipFileSystem extends AbstractFileSystem {
                 zipFile.close();
                 zipFile = null;
             }
+            if (parentLayerZipFile != null) {
+                parentLayerZipFile.close();
+                parentLayerZipFile = null;
+            }
         } catch (final IOException e) {
             // getLogger().warn("vfs.provider.zip/close-zip-file.error :" + file, e);
             VfsLog.warn(getLogger(), LOG, "vfs.provider.zip/close-zip-file.error :" + file, e);
@@ -127,6 +224,14 @@ public class ZipFileSystem extends AbstractFileSystem {
         return charset;
     }
 
+    private Enumeration<? extends ZipEntry> getEntries() throws FileSystemException {
+        return file == null ? getParentLayerZipFile().getEntries() : getZipFile().entries();
+    }
+
+    private ZipEntry getEntry(final String name) throws FileSystemException {
+        return file == null ? getParentLayerZipFile().getEntry(name) : getZipFile().getEntry(name);
+    }
+
     /**
      * Returns a cached file.
      */
@@ -135,8 +240,49 @@ public class ZipFileSystem extends AbstractFileSystem {
         return cache.get(name);
     }
 
+    /**
+     * Returns the input stream for the given entry.
+     *
+     * @param entry The entry.
+     * @return the input stream for the given entry.
+     * @throws IOException If an I/O error occurs.
+     */
+    InputStream getInputStream(final ZipEntry entry) throws IOException {
+        if (file == null) {
+            return getParentLayerZipFile().getInputStream((ZipArchiveEntry) entry);
+        }
+        return getZipFile().getInputStream(entry);
+    }
+
+    private synchronized org.apache.commons.compress.archivers.zip.ZipFile getParentLayerZipFile()
+        throws FileSystemException {
+        if (parentLayerZipFile == null) {
+            final FileObject parentLayer = getParentLayer();
+            RandomAccessContentChannel channel = null;
+            try {
+                // Bypass the content of the parent layer, which tracks random access per thread
+                final RandomAccessContent content = FileObjectUtils.getAbstractFileObject(parentLayer)
+                    .getRandomAccessContent(RandomAccessMode.READ);
+                channel = new RandomAccessContentChannel(content, RandomAccessMode.READ);
+                // Read the central directory only, the local header of an entry is read when the entry is opened
+                parentLayerZipFile = new org.apache.commons.compress.archivers.zip.ZipFile(channel,
+                    parentLayer.getName().getURI(), (charset == null ? StandardCharsets.UTF_8 : charset).name(), false, true);
+            } catch (final IOException e) {
+                IOUtils.closeQuietly(channel);
+                throw new FileSystemException("vfs.provider.zip/open-zip-file.error", parentLayer, e);
+            }
+        }
+        return parentLayerZipFile;
+    }
+
+    /**
+     * Gets the Zip file.
+     *
+     * @return the Zip file, null if it does not exist or if it is read through the parent layer.
+     * @throws FileSystemException if the Zip file cannot be opened.
+     */
     protected ZipFile getZipFile() throws FileSystemException {
-        if (zipFile == null && this.file.exists()) {
+        if (zipFile == null && file != null && file.exists()) {
             this.zipFile = createZipFile(this.file);
         }
 
@@ -148,8 +294,14 @@ public class ZipFileSystem extends AbstractFileSystem {
         super.init();
 
         try {
+            if (ZipFileSystemConfigBuilder.getInstance().isLazyIndex(getFileSystemOptions())) {
+                index = ZipIndex.build(getEntries());
+                if (index != null) {
+                    return;
+                }
+            }
             // Build the index
-            final Enumeration<? extends ZipEntry> entries = getZipFile().entries();
+            final Enumeration<? extends ZipEntry> entries = getEntries();
             while (entries.hasMoreElements()) {
                 final ZipEntry entry = entries.nextElement();
                 final AbstractFileName name = (AbstractFileName) getFileSystemManager().resolveName(getRootName(),
@@ -184,8 +336,29 @@ public class ZipFileSystem extends AbstractFileSystem {
                 }
             }
         } finally {
-            closeCommunicationLink();
+            // Reopening a Zip file read through the parent layer would read its central directory again
+            if (file != null) {
+                closeCommunicationLink();
+            }
+        }
+    }
+
+    /**
+     * Lists the children of a folder from the lazy index.
+     *
+     * @param name The name of the folder.
+     * @return the encoded base names of the children, or null if entries are not indexed lazily.
+     * @throws FileSystemException if the name cannot be decoded.
+     */
+    String[] listIndexedChildren(final FileName name) throws FileSystemException {
+        if (index == null) {
+            return null;
+        }
+        final String[] children = index.listChildren(name.getPathDecoded().substring(1));
+        for (int i = 0; i < children.length; i++) {
+            children[i] = UriParser.encode(children[i], ENC);
         }
+        return children;
     }
 
     /**
@@ -206,7 +379,7 @@ public class ZipFileSystem extends AbstractFileSystem {
 
     @Override
     public String toString() {
-        return super.toString() + " for " + file;
+        return super.toString() + " for " + (file != null ? file : Uncheck.get(this::getParentLayer));
     }
 
     /*
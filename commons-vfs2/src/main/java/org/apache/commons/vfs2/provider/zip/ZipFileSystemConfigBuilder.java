@@ -28,6 +28,7 @@ public class ZipFileSystemConfigBuilder extends FileSystemConfigBuilder {
     private static final String PREFIX = ZipFileSystemConfigBuilder.class.getName();
     private static final ZipFileSystemConfigBuilder INSTANCE = new ZipFileSystemConfigBuilder();
     private static final String KEY_CHARSET = PREFIX + ".charset";
+    private static final String KEY_LAZY_INDEX = PREFIX + ".lazyIndex";
 
     /**
      * Constructs a new instance.
@@ -60,6 +61,18 @@ public class ZipFileSystemConfigBuilder extends FileSystemConfigBuilder {
         return ZipFileSystem.class;
     }
 
+    /**
+     * Tests whether the file system indexes entries lazily, defaults to false.
+     *
+     * @param fileSystemOptions The source FileSystemOptions.
+     * @return whether the file system indexes entries lazily.
+     * @see #setLazyIndex(FileSystemOptions, boolean)
+     * @since 2.10.0
+     */
+    public boolean isLazyIndex(final FileSystemOptions fileSystemOptions) {
+        return getBoolean(fileSystemOptions, KEY_LAZY_INDEX, false);
+    }
+
     /**
      * Sets the Charset in the FileSystemOptions.
      *
@@ -70,4 +83,21 @@ public class ZipFileSystemConfigBuilder extends FileSystemConfigBuilder {
         setParam(fileSystemOptions, KEY_CHARSET, charset);
     }
 
+    /**
+     * Sets whether the file system indexes entries lazily.
+     * <p>
+     * By default, opening the file system creates a file object for every entry and folder of the archive. A lazy
+     * index only keeps the sorted entry names in a compact form, and creates file objects when they are resolved or
+     * listed, which makes large archives faster to open and smaller in memory. Archives with entry names that need to
+     * be normalized, such as {@code /a} or {@code a/../b}, are indexed eagerly.
+     * </p>
+     *
+     * @param fileSystemOptions The target FileSystemOptions.
+     * @param lazyIndex whether to index entries lazily.
+     * @since 2.10.0
+     */
+    public void setLazyIndex(final FileSystemOptions fileSystemOptions, final boolean lazyIndex) {
+        setParam(fileSystemOptions, KEY_LAZY_INDEX, Boolean.valueOf(lazyIndex));
+    }
+
 }
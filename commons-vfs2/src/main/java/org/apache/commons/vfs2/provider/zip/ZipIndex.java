@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.zip;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * A compact index of the entry names of a ZIP file.
+ * <p>
+ * The names are sorted by their UTF-8 bytes and packed in a single array, so that an entry is found with a binary
+ * search and the entries under a folder form a contiguous range. Folders without an entry of their own are implied by
+ * the names of the entries under them.
+ * </p>
+ */
+final class ZipIndex {
+
+    private static final byte SEPARATOR = '/';
+
+    /**
+     * Builds the index of the given ZIP file entries.
+     *
+     * @param entries The ZIP file entries.
+     * @return the index, or null if an entry name is not in normal form, for example {@code /a}, {@code a//b} or
+     *         {@code a/../b}, and needs to be resolved.
+     */
+    static ZipIndex build(final Enumeration<? extends ZipEntry> entries) {
+        final List<byte[]> names = new ArrayList<>();
+        int length = 0;
+        while (entries.hasMoreElements()) {
+            final String name = entries.nextElement().getName();
+            if (!isNormalized(name)) {
+                return null;
+            }
+            final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            names.add(bytes);
+            length += bytes.length;
+        }
+        names.sort((a, b) -> compare(a, 0, a.length, b, 0, b.length));
+        final byte[] packed = new byte[length];
+        final int[] offsets = new int[names.size() + 1];
+        int offset = 0;
+        for (int i = 0; i < names.size(); i++) {
+            final byte[] bytes = names.get(i);
+            System.arraycopy(bytes, 0, packed, offset, bytes.length);
+            offsets[i] = offset;
+            offset += bytes.length;
+        }
+        offsets[names.size()] = offset;
+        return new ZipIndex(packed, offsets);
+    }
+
+    /**
+     * Compares two slices of arrays as unsigned bytes.
+     */
+    private static int compare(final byte[] bytes, final int offset, final int length, final byte[] other,
+        final int otherOffset, final int otherLength) {
+        final int common = Math.min(length, otherLength);
+        for (int i = 0; i < common; i++) {
+            final int result = (bytes[offset + i] & 0xff) - (other[otherOffset + i] & 0xff);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return length - otherLength;
+    }
+
+    private static boolean isNormalized(final String name) {
+        if (name.isEmpty() || name.charAt(0) == '/' || name.indexOf('\\') >= 0) {
+            return false;
+        }
+        int start = 0;
+        while (start < name.length()) {
+            int end = name.indexOf('/', start);
+            if (end < 0) {
+                end = name.length();
+            }
+            final int length = end - start;
+            if (length == 0 && end < name.length() || length == 1 && name.charAt(start) == '.'
+                || length == 2 && name.startsWith("..", start)) {
+                return false;
+            }
+            start = end + 1;
+        }
+        return true;
+    }
+
+    private static byte[] toFolderPrefix(final String path) {
+        return path.isEmpty() ? ArrayUtils.EMPTY_BYTE_ARRAY : (path + '/').getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The sorted names, packed.
+     */
+    private final byte[] names;
+
+    /**
+     * The offset of each name in {@link #names}, followed by the length of {@link #names}.
+     */
+    private final int[] offsets;
+
+    private ZipIndex(final byte[] names, final int[] offsets) {
+        this.names = names;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Finds a name.
+     *
+     * @return the index of the name, or {@code -(insertion point) - 1} if not found.
+     */
+    private int find(final byte[] key) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            final int mid = low + high >>> 1;
+            final int result = compare(names, offsets[mid], offsets[mid + 1] - offsets[mid], key, 0, key.length);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Gets the name of the entry at the given path, which is the path itself for a file, or the path followed by a
+     * {@code /} for a folder.
+     *
+     * @param path The path, relative to the root of the ZIP file.
+     * @return the entry name, or null if there is no entry at the given path.
+     */
+    String getEntryName(final String path) {
+        if (path.isEmpty()) {
+            return null;
+        }
+        if (find(path.getBytes(StandardCharsets.UTF_8)) >= 0) {
+            return path;
+        }
+        final String folder = path + '/';
+        return find(folder.getBytes(StandardCharsets.UTF_8)) >= 0 ? folder : null;
+    }
+
+    /**
+     * Tests whether the given path is a folder, with an entry of its own or implied by the entries under it.
+     *
+     * @param path The path, relative to the root of the ZIP file, empty for the root.
+     * @return whether the path is a folder.
+     */
+    boolean isFolder(final String path) {
+        final byte[] prefix = toFolderPrefix(path);
+        final int index = lowerBound(prefix);
+        return index < size() && startsWith(index, prefix);
+    }
+
+    /**
+     * Lists the names of the children of a folder.
+     *
+     * @param path The path of the folder, relative to the root of the ZIP file, empty for the root.
+     * @return the names of the children.
+     */
+    String[] listChildren(final String path) {
+        final byte[] prefix = toFolderPrefix(path);
+        final Set<String> children = new LinkedHashSet<>();
+        int lastStart = 0;
+        int lastLength = -1;
+        for (int i = lowerBound(prefix); i < size() && startsWith(i, prefix); i++) {
+            final int start = offsets[i] + prefix.length;
+            final int end = offsets[i + 1];
+            int childEnd = start;
+            while (childEnd < end && names[childEnd] != SEPARATOR) {
+                childEnd++;
+            }
+            final int length = childEnd - start;
+            if (length == 0) {
+                // The entry of the folder itself
+                continue;
+            }
+            // Entries under the same child are mostly adjacent
+            if (length != lastLength || compare(names, start, length, names, lastStart, lastLength) != 0) {
+                children.add(new String(names, start, length, StandardCharsets.UTF_8));
+                lastStart = start;
+                lastLength = length;
+            }
+        }
+        return children.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+    }
+
+    private int lowerBound(final byte[] key) {
+        final int index = find(key);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    int size() {
+        return offsets.length - 1;
+    }
+
+    private boolean startsWith(final int index, final byte[] prefix) {
+        final int offset = offsets[index];
+        if (offsets[index + 1] - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (names[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
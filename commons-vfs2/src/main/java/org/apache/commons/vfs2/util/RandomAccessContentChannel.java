@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.util;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+import org.apache.commons.vfs2.RandomAccessContent;
+
+/**
+ * A {@link SeekableByteChannel} on a {@link RandomAccessContent}.
+ *
+ * @since 2.10.0
+ */
+public final class RandomAccessContentChannel implements SeekableByteChannel {
+
+    private byte[] buffer;
+
+    private final RandomAccessContent content;
+
+    private final RandomAccessMode mode;
+
+    private boolean open = true;
+
+    private long position;
+
+    /**
+     * The size of read-only content, read once, or -1.
+     */
+    private long size = -1;
+
+    /**
+     * Constructs a new instance, which closes the given content when closed.
+     *
+     * @param content The content to read and write.
+     * @param mode The mode the content was opened with, the channel is read-only unless it requests write access.
+     */
+    public RandomAccessContentChannel(final RandomAccessContent content, final RandomAccessMode mode) {
+        this.content = content;
+        this.mode = mode;
+    }
+
+    private void checkOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private void checkWritable() {
+        if (!mode.requestWrite()) {
+            throw new NonWritableChannelException();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (open) {
+            open = false;
+            content.close();
+        }
+    }
+
+    private byte[] getBuffer(final int length) {
+        if (buffer == null || buffer.length < length) {
+            buffer = new byte[length];
+        }
+        return buffer;
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        checkOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(final long newPosition) throws IOException {
+        checkOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("newPosition < 0: " + newPosition);
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized int read(final ByteBuffer dst) throws IOException {
+        checkOpen();
+        final long currentSize = size();
+        if (position >= currentSize) {
+            return -1;
+        }
+        final int length = (int) Math.min(dst.remaining(), currentSize - position);
+        if (length == 0) {
+            return 0;
+        }
+        seek();
+        if (dst.hasArray()) {
+            content.readFully(dst.array(), dst.arrayOffset() + dst.position(), length);
+            ((Buffer) dst).position(dst.position() + length);
+        } else {
+            final byte[] bytes = getBuffer(length);
+            content.readFully(bytes, 0, length);
+            dst.put(bytes, 0, length);
+        }
+        position += length;
+        return length;
+    }
+
+    private void seek() throws IOException {
+        if (content.getFilePointer() != position) {
+            content.seek(position);
+        }
+    }
+
+    @Override
+    public synchronized long size() throws IOException {
+        checkOpen();
+        if (mode.requestWrite()) {
+            return content.length();
+        }
+        if (size < 0) {
+            size = content.length();
+        }
+        return size;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel truncate(final long newSize) throws IOException {
+        checkOpen();
+        checkWritable();
+        if (newSize < 0) {
+            throw new IllegalArgumentException("newSize < 0: " + newSize);
+        }
+        if (newSize < content.length()) {
+            content.setLength(newSize);
+        }
+        position = Math.min(position, newSize);
+        return this;
+    }
+
+    @Override
+    public synchronized int write(final ByteBuffer src) throws IOException {
+        checkOpen();
+        checkWritable();
+        final int length = src.remaining();
+        seek();
+        if (src.hasArray()) {
+            content.write(src.array(), src.arrayOffset() + src.position(), length);
+            ((Buffer) src).position(src.position() + length);
+        } else {
+            final byte[] bytes = getBuffer(length);
+            src.get(bytes, 0, length);
+            content.write(bytes, 0, length);
+        }
+        position += length;
+        return length;
+    }
+
+}
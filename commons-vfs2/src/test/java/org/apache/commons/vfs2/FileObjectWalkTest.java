@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FileObject#walk(FileSelector, boolean, int)}.
+ */
+public class FileObjectWalkTest {
+
+    private static FileObject BaseFolder;
+
+    /**
+     * Creates a RAM FS with a few levels of folders.
+     *
+     * @throws Exception
+     */
+    @BeforeAll
+    public static void setUpClass() throws Exception {
+        BaseFolder = VFS.getManager().resolveFile("ram://" + FileObjectWalkTest.class.getName());
+        BaseFolder.deleteAll();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                for (int k = 0; k < 4; k++) {
+                    BaseFolder.resolveFile("dir" + i + "/sub" + j + "/file" + k + ".txt").createFile();
+                }
+            }
+            BaseFolder.resolveFile("dir" + i + "/file.txt").createFile();
+        }
+        BaseFolder.resolveFile("empty").createFolder();
+    }
+
+    /**
+     * Deletes RAM FS files.
+     *
+     * @throws Exception
+     */
+    @AfterAll
+    public static void tearDownClass() throws Exception {
+        if (BaseFolder != null) {
+            BaseFolder.deleteAll();
+        }
+    }
+
+    private void assertSameOrder(final FileSelector selector, final boolean depthwise) throws FileSystemException {
+        final List<FileObject> expected = new ArrayList<>();
+        BaseFolder.findFiles(selector, depthwise, expected);
+        assertEquals(expected, BaseFolder.walk(selector, depthwise).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testEarlyTermination() throws FileSystemException {
+        final AtomicInteger calls = new AtomicInteger();
+        final FileSelector selector = new FileSelector() {
+            @Override
+            public boolean includeFile(final FileSelectInfo fileInfo) {
+                calls.incrementAndGet();
+                return fileInfo.getFile().getName().getBaseName().equals("file0.txt");
+            }
+
+            @Override
+            public boolean traverseDescendents(final FileSelectInfo fileInfo) {
+                return true;
+            }
+        };
+        final FileObject first = BaseFolder.walk(selector, false).findFirst().get();
+        assertEquals("dir0/sub0/file0.txt", BaseFolder.getName().getRelativeName(first.getName()));
+        // base folder, dir0, sub0 and file0.txt
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testException() {
+        final FileSelector selector = new FileSelector() {
+            @Override
+            public boolean includeFile(final FileSelectInfo fileInfo) {
+                if (fileInfo.getDepth() == 2) {
+                    throw new IllegalStateException("failed");
+                }
+                return true;
+            }
+
+            @Override
+            public boolean traverseDescendents(final FileSelectInfo fileInfo) {
+                return true;
+            }
+        };
+        final UncheckedIOException e = assertThrows(UncheckedIOException.class,
+                () -> BaseFolder.walk(selector, true).count());
+        assertSame(FileSystemException.class, e.getCause().getClass());
+        assertSame(IllegalStateException.class, e.getCause().getCause().getClass());
+    }
+
+    @Test
+    public void testMaxDepth() throws FileSystemException {
+        final List<FileObject> expected = new ArrayList<>();
+        BaseFolder.findFiles(new FileDepthSelector(0, 1), true, expected);
+        assertEquals(expected, BaseFolder.walk(Selectors.SELECT_ALL, true, 1).collect(Collectors.toList()));
+        assertEquals(1, BaseFolder.walk(Selectors.SELECT_ALL, false, 0).count());
+    }
+
+    @Test
+    public void testMissingFile() throws FileSystemException {
+        final FileObject missing = BaseFolder.resolveFile("missing");
+        assertFalse(missing.exists());
+        assertEquals(0, missing.walk(Selectors.SELECT_ALL, true).count());
+    }
+
+    @Test
+    public void testOrder() throws FileSystemException {
+        assertSameOrder(Selectors.SELECT_ALL, true);
+        assertSameOrder(Selectors.SELECT_ALL, false);
+        assertSameOrder(Selectors.SELECT_FILES, true);
+        assertSameOrder(Selectors.EXCLUDE_SELF, false);
+        assertSameOrder(new FileDepthSelector(1, 2), false);
+    }
+
+    @Test
+    public void testPruning() throws FileSystemException {
+        final FileSelector selector = new FileSelector() {
+            @Override
+            public boolean includeFile(final FileSelectInfo fileInfo) {
+                return true;
+            }
+
+            @Override
+            public boolean traverseDescendents(final FileSelectInfo fileInfo) {
+                return !fileInfo.getFile().getName().getBaseName().startsWith("sub");
+            }
+        };
+        assertSameOrder(selector, true);
+        assertSameOrder(selector, false);
+        assertTrue(BaseFolder.walk(selector, true).noneMatch(f -> f.getName().getBaseName().startsWith("file0")));
+    }
+}
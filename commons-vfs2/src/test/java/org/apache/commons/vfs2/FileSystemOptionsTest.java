@@ -17,8 +17,12 @@
 package org.apache.commons.vfs2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 
@@ -131,6 +135,32 @@ public class FileSystemOptionsTest {
         );
     }
 
+    @Test
+    public void testFreeze() {
+        final JUnitConfigBuilder builder = JUnitConfigBuilder.getInstance();
+        final FileSystemOptions options = new FileSystemOptions();
+        builder.setId(options, "Test");
+        builder.setNames(options, new String[] {"A", "B", "C"});
+        assertFalse(options.isFrozen());
+
+        final FileSystemOptions frozen = options.freeze();
+        assertTrue(frozen.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertEquals(options, frozen);
+        assertEquals(frozen, options);
+        assertEquals(options.hashCode(), frozen.hashCode());
+        assertThrows(UnsupportedOperationException.class, () -> builder.setId(frozen, "Other"));
+
+        builder.setId(options, "Other");
+        assertNotEquals(options, frozen);
+        assertEquals("Test", frozen.getOption(JUnitConfigBuilder.JUnitFS.class, "id"));
+
+        final FileSystemOptions clone = (FileSystemOptions) frozen.clone();
+        assertFalse(clone.isFrozen());
+        builder.setId(clone, "Other");
+        assertEquals(options, clone);
+    }
+
     private static void assertSftpOptionsEquals(final File privKey, final File pubKey, final byte[] passphrase) {
         final SftpFileSystemConfigBuilder builder = SftpFileSystemConfigBuilder.getInstance();
 
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FileObject#findFiles(FileSelector, boolean, List, java.util.concurrent.Executor, boolean)}.
+ */
+public class ParallelFindFilesTest {
+
+    private static FileObject BaseFolder;
+
+    private static ExecutorService Executor;
+
+    /**
+     * Creates a RAM FS with a few levels of folders.
+     *
+     * @throws Exception
+     */
+    @BeforeAll
+    public static void setUpClass() throws Exception {
+        BaseFolder = VFS.getManager().resolveFile("ram://" + ParallelFindFilesTest.class.getName());
+        BaseFolder.deleteAll();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 3; j++) {
+                for (int k = 0; k < 5; k++) {
+                    BaseFolder.resolveFile("dir" + i + "/sub" + j + "/file" + k + ".txt").createFile();
+                }
+            }
+            BaseFolder.resolveFile("dir" + i + "/file.txt").createFile();
+        }
+        BaseFolder.resolveFile("empty").createFolder();
+        Executor = Executors.newFixedThreadPool(4);
+    }
+
+    /**
+     * Deletes RAM FS files.
+     *
+     * @throws Exception
+     */
+    @AfterAll
+    public static void tearDownClass() throws Exception {
+        if (BaseFolder != null) {
+            BaseFolder.deleteAll();
+        }
+        if (Executor != null) {
+            Executor.shutdown();
+        }
+    }
+
+    private void assertSameOrder(final FileSelector selector, final boolean depthwise) throws FileSystemException {
+        final List<FileObject> expected = new ArrayList<>();
+        BaseFolder.findFiles(selector, depthwise, expected);
+        final List<FileObject> actual = new ArrayList<>();
+        BaseFolder.findFiles(selector, depthwise, actual, Executor, true);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testDepth() throws FileSystemException {
+        assertSameOrder(new FileDepthSelector(1, 2), true);
+        assertSameOrder(new FileDepthSelector(1, 2), false);
+    }
+
+    @Test
+    public void testException() {
+        final FileSelector selector = new FileSelector() {
+            @Override
+            public boolean includeFile(final FileSelectInfo fileInfo) throws Exception {
+                if (fileInfo.getDepth() == 3) {
+                    throw new IllegalStateException("failed");
+                }
+                return true;
+            }
+
+            @Override
+            public boolean traverseDescendents(final FileSelectInfo fileInfo) {
+                return true;
+            }
+        };
+        final FileSystemException e = assertThrows(FileSystemException.class,
+                () -> BaseFolder.findFiles(selector, true, new ArrayList<>(), Executor, true));
+        assertSame(IllegalStateException.class, e.getCause().getClass());
+    }
+
+    @Test
+    public void testOrdered() throws FileSystemException {
+        assertSameOrder(Selectors.SELECT_ALL, true);
+        assertSameOrder(Selectors.SELECT_ALL, false);
+        assertSameOrder(Selectors.SELECT_FILES, true);
+        assertSameOrder(Selectors.EXCLUDE_SELF, false);
+    }
+
+    @Test
+    public void testParallelism() throws FileSystemException {
+        final List<FileObject> expected = new ArrayList<>();
+        BaseFolder.findFiles(Selectors.SELECT_ALL, true, expected);
+        final List<FileObject> actual = new ArrayList<>();
+        BaseFolder.findFiles(Selectors.SELECT_ALL, true, actual, 2, true);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testPruning() throws FileSystemException {
+        final FileSelector selector = new FileSelector() {
+            @Override
+            public boolean includeFile(final FileSelectInfo fileInfo) {
+                return true;
+            }
+
+            @Override
+            public boolean traverseDescendents(final FileSelectInfo fileInfo) {
+                return !fileInfo.getFile().getName().getBaseName().equals("sub1");
+            }
+        };
+        assertSameOrder(selector, true);
+        final List<FileObject> actual = new ArrayList<>();
+        BaseFolder.findFiles(selector, true, actual, Executor, true);
+        // 1 base + 1 empty + 4 * (dir + file + 3 subs + 2 * 5 files)
+        assertEquals(2 + 4 * 15, actual.size());
+    }
+
+    @Test
+    public void testUnordered() throws FileSystemException {
+        final List<FileObject> expected = new ArrayList<>();
+        BaseFolder.findFiles(Selectors.SELECT_ALL, true, expected);
+        final List<FileObject> actual = new ArrayList<>();
+        BaseFolder.findFiles(Selectors.SELECT_ALL, true, actual, Executor, false);
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+    }
+}
@@ -16,6 +16,15 @@
  */
 package org.apache.commons.vfs2.cache;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.apache.commons.vfs2.AbstractProviderTestCase;
 import org.apache.commons.vfs2.CacheTestSuite;
 import org.apache.commons.vfs2.FileName;
@@ -23,6 +32,7 @@ import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystem;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FilesCache;
+import org.apache.commons.vfs2.impl.DecoratedFileObject;
 import org.junit.Test;
 
 /**
@@ -88,4 +98,84 @@ public abstract class AbstractFilesCacheTestsBase extends AbstractProviderTestCa
         assertNotSame("Objects after cache clear should be different", fo1, fo2);
     }
 
+    /**
+     * Races several threads computing the same missing file, they must all get the file that was cached.
+     */
+    @Test
+    public void testComputeFileIfAbsent() throws Exception {
+        final FilesCache cache = getManager().getFilesCache();
+        final FileObject fo = getWriteFolder().resolveFile("dir1");
+        final FileName fn = fo.getName();
+        final FileSystem fs = fo.getFileSystem();
+        cache.clear(fs);
+
+        final int threads = 8;
+        final AtomicInteger creations = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<FileObject> files = new ArrayList<>();
+        try {
+            final List<Future<FileObject>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.computeFileIfAbsent(fs, fn, name -> {
+                        creations.incrementAndGet();
+                        // A distinct file object with the same name
+                        return new DecoratedFileObject(fo);
+                    });
+                }));
+            }
+            start.countDown();
+            for (final Future<FileObject> future : futures) {
+                files.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(creations.get() >= 1);
+        final FileObject cached = cache.getFile(fs, fn);
+        assertNotNull(cached);
+        for (final FileObject file : files) {
+            assertSame(cached, file);
+        }
+    }
+
+    /**
+     * Creating a missing file must not hold a lock that other names need.
+     */
+    @Test
+    public void testComputeFileIfAbsentDoesNotBlockOtherNames() throws Exception {
+        final FilesCache cache = getManager().getFilesCache();
+        final FileObject slowFile = getWriteFolder().resolveFile("dir1");
+        final FileObject file = getWriteFolder().resolveFile("file1.txt");
+        final FileSystem fs = file.getFileSystem();
+        cache.clear(fs);
+
+        final CountDownLatch creating = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<FileObject> slow = executor.submit(() -> cache.computeFileIfAbsent(fs, slowFile.getName(),
+                name -> {
+                    creating.countDown();
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        throw new FileSystemException(e);
+                    }
+                    return slowFile;
+                }));
+            assertTrue(creating.await(10, TimeUnit.SECONDS));
+            final Future<FileObject> other = executor.submit(() -> cache.computeFileIfAbsent(fs, file.getName(),
+                name -> file));
+            assertSame(file, other.get(10, TimeUnit.SECONDS));
+            release.countDown();
+            assertSame(slowFile, slow.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
 }
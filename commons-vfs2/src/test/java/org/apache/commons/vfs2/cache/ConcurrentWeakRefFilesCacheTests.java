@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.cache;
+
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystem;
+import org.apache.commons.vfs2.FilesCache;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConcurrentWeakRefFilesCache} used by {@link ConcurrentWeakRefFilesCacheTestCase}.
+ */
+public class ConcurrentWeakRefFilesCacheTests extends AbstractFilesCacheTestsBase {
+
+    @Test
+    public void testClass() {
+        assertTrue(getManager().getFilesCache() instanceof ConcurrentWeakRefFilesCache);
+    }
+
+    @Test
+    public void testFilesCache() throws Exception {
+        final FileObject scratchFolder = getWriteFolder();
+
+        final FileObject dir1 = scratchFolder.resolveFile("dir1");
+        final FileObject dir1_2 = scratchFolder.resolveFile("dir1");
+
+        // since both are still referenced they are not purged
+        assertSame(dir1, dir1_2);
+    }
+
+    @Test
+    public void testReleasedFile() throws Exception {
+        final FilesCache cache = getManager().getFilesCache();
+        final FileSystem fileSystem = getWriteFolder().getFileSystem();
+        final FileName fileName = getWriteFolder().resolveFile("released").getName();
+        for (int i = 0; i < 100 && cache.getFile(fileSystem, fileName) != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(cache.getFile(fileSystem, fileName));
+        final FileObject released = getWriteFolder().resolveFile("released");
+        assertSame(released, cache.getFile(fileSystem, fileName));
+    }
+
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.vfs2.cache;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.apache.commons.vfs2.FileName;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystem;
@@ -60,6 +62,28 @@ public class NullFilesCacheTests extends AbstractFilesCacheTestsBase {
         assertTrue(manager.getFilesCache() instanceof NullFilesCache);
     }
 
+    @Override
+    @Test
+    public void testComputeFileIfAbsent() throws Exception {
+        final FilesCache cache = getManager().getFilesCache();
+        final FileObject fo = getWriteFolder().resolveFile("dir1");
+        final FileName fn = fo.getName();
+        final FileSystem fs = fo.getFileSystem();
+        final AtomicInteger creations = new AtomicInteger();
+
+        // a null cache creates the file on each call and never keeps it
+        assertSame(fo, cache.computeFileIfAbsent(fs, fn, name -> {
+            creations.incrementAndGet();
+            return fo;
+        }));
+        assertSame(fo, cache.computeFileIfAbsent(fs, fn, name -> {
+            creations.incrementAndGet();
+            return fo;
+        }));
+        assertEquals(2, creations.get());
+        assertNull(cache.getFile(fs, fn));
+    }
+
     @Test
     public void testFilesCache() throws Exception {
         final FileObject scratchFolder = getWriteFolder();
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystem;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.DefaultFileSystemManager;
+import org.apache.commons.vfs2.provider.ram.RamFileProvider;
+import org.apache.commons.vfs2.provider.ram.RamFileSystemConfigBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the eviction policy, expiry and statistics of {@link TinyLfuFilesCache}.
+ */
+public class TinyLfuFilesCacheTest {
+
+    private DefaultFileSystemManager manager;
+
+    private FileObject file(final int i) throws FileSystemException {
+        return manager.resolveFile("ram:///file" + i);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        manager = new DefaultFileSystemManager();
+        manager.addProvider("ram", new RamFileProvider());
+        // Every resolve creates a new file object, the tests feed them to the cache under test
+        manager.setFilesCache(new NullFilesCache());
+        manager.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    public void testComputeFileIfAbsentStatistics() throws Exception {
+        final TinyLfuFilesCache cache = new TinyLfuFilesCache(10);
+        final FileObject file = file(0);
+        final FileSystem fileSystem = file.getFileSystem();
+        assertNull(cache.getFile(fileSystem, file.getName()));
+        assertSame(file, cache.computeFileIfAbsent(fileSystem, file.getName(), name -> file));
+        assertSame(file, cache.computeFileIfAbsent(fileSystem, file.getName(), name -> file(1)));
+        assertSame(file, cache.getFile(fileSystem, file.getName()));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate());
+        assertEquals(1, cache.getLoadCount());
+        assertNotNull(cache.getLoadTime());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testComputeFileIfAbsentDoesNotBlockOtherNames() throws Exception {
+        final TinyLfuFilesCache cache = new TinyLfuFilesCache(10);
+        final FileObject slowFile = file(0);
+        final FileObject file = file(1);
+        final FileSystem fileSystem = file.getFileSystem();
+        final CountDownLatch creating = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<FileObject> slow = executor.submit(() -> cache.computeFileIfAbsent(fileSystem,
+                    slowFile.getName(), name -> {
+                        creating.countDown();
+                        try {
+                            release.await();
+                        } catch (final InterruptedException e) {
+                            throw new FileSystemException(e);
+                        }
+                        return slowFile;
+                    }));
+            creating.await();
+            // The slow creator must not hold a lock the other names need
+            assertSame(file, assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> cache.computeFileIfAbsent(fileSystem, file.getName(), name -> file)));
+            release.countDown();
+            assertSame(slowFile, slow.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testComputeFileIfAbsentFailure() throws Exception {
+        final TinyLfuFilesCache cache = new TinyLfuFilesCache(10);
+        final FileObject file = file(0);
+        final FileSystem fileSystem = file.getFileSystem();
+        assertThrows(FileSystemException.class, () -> cache.computeFileIfAbsent(fileSystem, file.getName(), name -> {
+            throw new FileSystemException("test");
+        }));
+        assertNull(cache.getFile(fileSystem, file.getName()));
+        assertSame(file, cache.computeFileIfAbsent(fileSystem, file.getName(), name -> file));
+        assertEquals(2, cache.getLoadCount());
+    }
+
+    @Test
+    public void testExpireAfterAccess() throws Exception {
+        final TinyLfuFilesCache cache = new TinyLfuFilesCache(fileSystem -> 10, file -> 1, Duration.ofMillis(50));
+        final FileObject file = file(0);
+        cache.putFile(file);
+        assertSame(file, cache.getFile(file.getFileSystem(), file.getName()));
+        Thread.sleep(100);
+        assertNull(cache.getFile(file.getFileSystem(), file.getName()));
+        assertEquals(1, cache.getEvictionCount());
+        assertTrue(cache.putFileIfAbsent(file));
+    }
+
+    @Test
+    public void testFrequentFilesSurviveScan() throws Exception {
+        final TinyLfuFilesCache cache = new TinyLfuFilesCache(20);
+        final FileObject[] hot = new FileObject[5];
+        for (int i = 0; i < hot.length; i++) {
+            hot[i] = file(i);
+            cache.putFile(hot[i]);
+        }
+        for (int n = 0; n < 20; n++) {
+            for (final FileObject file : hot) {
+                assertSame(file, cache.getFile(file.getFileSystem(), file.getName()));
+            }
+        }
+        for (int i = 100; i < 300; i++) {
+            cache.putFile(file(i));
+        }
+        for (final FileObject file : hot) {
+            assertSame(file, cache.getFile(file.getFileSystem(), file.getName()));
+        }
+        assertEquals(20, cache.getSize());
+    }
+
+    @Test
+    public void testMaximumSize() throws Exception {
+        final TinyLfuFilesCache cache = new TinyLfuFilesCache(10);
+        for (int i = 0; i < 100; i++) {
+            cache.putFile(file(i));
+        }
+        assertEquals(10, cache.getSize());
+        assertEquals(90, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testPerFileSystemMaximum() throws Exception {
+        final FileSystemOptions options = new FileSystemOptions();
+        RamFileSystemConfigBuilder.getInstance().setMaxSize(options, 1024L * 1024);
+        final FileObject other = manager.resolveFile("ram:///file0", options);
+        final FileSystem small = other.getFileSystem();
+        final TinyLfuFilesCache cache = new TinyLfuFilesCache(fileSystem -> fileSystem == small ? 2 : 10, file -> 1,
+            Duration.ZERO);
+        for (int i = 0; i < 20; i++) {
+            cache.putFile(file(i));
+            cache.putFile(manager.resolveFile("ram:///file" + i, options));
+        }
+        assertEquals(12, cache.getSize());
+        cache.clear(small);
+        assertEquals(10, cache.getSize());
+    }
+
+    @Test
+    public void testWeigher() throws Exception {
+        final TinyLfuFilesCache cache = new TinyLfuFilesCache(fileSystem -> 20, file -> 5, Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            cache.putFile(file(i));
+        }
+        assertEquals(4, cache.getSize());
+    }
+}
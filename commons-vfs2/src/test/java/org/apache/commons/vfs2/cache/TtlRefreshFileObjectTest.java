@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.apache.commons.vfs2.CacheStrategy;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.VFS;
+import org.apache.commons.vfs2.impl.DefaultFileSystemConfigBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link TtlRefreshFileObject} and the {@link CacheStrategy#TTL} cache strategy.
+ */
+public class TtlRefreshFileObjectTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static FileSystemOptions ttlOptions(final Duration timeToLive) {
+        final FileSystemOptions options = new FileSystemOptions();
+        DefaultFileSystemConfigBuilder.getInstance().setCacheStrategy(options, CacheStrategy.TTL);
+        DefaultFileSystemConfigBuilder.getInstance().setCacheTimeToLive(options, timeToLive);
+        return options;
+    }
+
+    @Test
+    public void testConfigBuilderDefaults() {
+        final FileSystemOptions options = new FileSystemOptions();
+        final DefaultFileSystemConfigBuilder builder = DefaultFileSystemConfigBuilder.getInstance();
+        assertNull(builder.getCacheStrategy(options));
+        assertEquals(Duration.ofSeconds(5), builder.getCacheTimeToLive(options));
+        builder.setCacheStrategy(options, CacheStrategy.TTL);
+        builder.setCacheTimeToLive(options, Duration.ofMinutes(1));
+        assertEquals(CacheStrategy.TTL, builder.getCacheStrategy(options));
+        assertEquals(Duration.ofMinutes(1), builder.getCacheTimeToLive(options));
+    }
+
+    @Test
+    public void testDataKeptUntilRefresh() throws Exception {
+        final Path path = tempDir.resolve("file.txt");
+        try (FileObject file = VFS.getManager().resolveFile(path.toUri().toString(), ttlOptions(Duration.ofHours(1)))) {
+            assertInstanceOf(TtlRefreshFileObject.class, file);
+            assertFalse(file.exists());
+            Files.write(path, new byte[] {1, 2, 3});
+            // Stale until the time to live expires
+            assertFalse(file.exists());
+            file.refresh();
+            assertTrue(file.exists());
+            assertEquals(3, file.getContent().getSize());
+        }
+    }
+
+    @Test
+    public void testDataRefreshedAfterExpiry() throws Exception {
+        final Path path = tempDir.resolve("file.txt");
+        try (FileObject file = VFS.getManager().resolveFile(path.toUri().toString(), ttlOptions(Duration.ZERO))) {
+            assertFalse(file.exists());
+            Files.write(path, new byte[] {1, 2, 3});
+            assertTrue(file.exists());
+            assertTrue(file.isFile());
+            Files.delete(path);
+            assertFalse(file.exists());
+        }
+    }
+
+    @Test
+    public void testManagerStrategyWithoutOption() throws Exception {
+        try (FileObject file = VFS.getManager().resolveFile(tempDir.toUri().toString())) {
+            assertFalse(file instanceof TtlRefreshFileObject);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.vfs2.FileChangeEvent;
+import org.apache.commons.vfs2.FileListener;
+import org.apache.commons.vfs2.FileMonitor;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemManager;
+import org.apache.commons.vfs2.VFS;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the events every {@link FileMonitor} implementation reports for local files.
+ *
+ * @param <M> The monitor type.
+ */
+public abstract class AbstractFileMonitorTest<M extends FileMonitor> {
+
+    /**
+     * Records the events it receives as "kind baseName".
+     */
+    protected class RecordingListener implements FileListener {
+
+        @Override
+        public void fileChanged(final FileChangeEvent event) {
+            events.add("changed " + event.getFileObject().getName().getBaseName());
+        }
+
+        @Override
+        public void fileCreated(final FileChangeEvent event) {
+            events.add("created " + event.getFileObject().getName().getBaseName());
+        }
+
+        @Override
+        public void fileDeleted(final FileChangeEvent event) {
+            events.add("deleted " + event.getFileObject().getName().getBaseName());
+        }
+    }
+
+    protected static final long TIMEOUT_MILLIS = 10_000;
+
+    protected final List<String> events = new CopyOnWriteArrayList<>();
+
+    protected FileSystemManager fileSystemManager;
+
+    @TempDir
+    public Path tempDir;
+
+    /**
+     * Closes a monitor.
+     *
+     * @param monitor The monitor.
+     */
+    protected abstract void close(M monitor);
+
+    /**
+     * Tests whether a file is monitored.
+     *
+     * @param monitor The monitor.
+     * @param file The file.
+     * @return whether the monitor checks the file.
+     */
+    protected abstract boolean isMonitored(M monitor, FileObject file);
+
+    /**
+     * Creates a monitor reporting to a {@link RecordingListener}.
+     *
+     * @return a new monitor.
+     */
+    protected abstract M newMonitor();
+
+    protected FileObject resolve(final Path path) throws IOException {
+        return fileSystemManager.resolveFile(path.toUri());
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        fileSystemManager = VFS.getManager();
+    }
+
+    /**
+     * Starts a monitor.
+     *
+     * @param monitor The monitor.
+     */
+    protected abstract void start(M monitor);
+
+    /**
+     * Stops a monitor.
+     *
+     * @param monitor The monitor.
+     */
+    protected abstract void stop(M monitor);
+
+    @Test
+    public void testFileCreated() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        final M monitor = newMonitor();
+        try (FileObject fileObject = resolve(file)) {
+            monitor.addFile(fileObject);
+            start(monitor);
+            assertTrue(isMonitored(monitor, fileObject));
+            writeToFile(file);
+            waitFor("created file.txt");
+        } finally {
+            close(monitor);
+        }
+    }
+
+    @Test
+    public void testFileDeleted() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        writeToFile(file);
+        final M monitor = newMonitor();
+        try (FileObject fileObject = resolve(file)) {
+            monitor.addFile(fileObject);
+            start(monitor);
+            Files.delete(file);
+            waitFor("deleted file.txt");
+        } finally {
+            close(monitor);
+        }
+    }
+
+    @Test
+    public void testFileModified() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        writeToFile(file);
+        final M monitor = newMonitor();
+        try (FileObject fileObject = resolve(file)) {
+            monitor.addFile(fileObject);
+            start(monitor);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+            waitFor("changed file.txt");
+        } finally {
+            close(monitor);
+        }
+    }
+
+    @Test
+    public void testRemoveFile() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        final M monitor = newMonitor();
+        try (FileObject fileObject = resolve(file)) {
+            monitor.addFile(fileObject);
+            start(monitor);
+            monitor.removeFile(fileObject);
+            assertFalse(isMonitored(monitor, fileObject));
+            writeToFile(file);
+            // A file that is still monitored reports the change that follows.
+            final Path other = tempDir.resolve("other.txt");
+            try (FileObject otherObject = resolve(other)) {
+                monitor.addFile(otherObject);
+                writeToFile(other);
+                waitFor("created other.txt");
+            }
+            assertFalse(events.contains("created file.txt"), events.toString());
+        } finally {
+            close(monitor);
+        }
+    }
+
+    @Test
+    public void testRestart() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        final M monitor = newMonitor();
+        try (FileObject fileObject = resolve(file)) {
+            monitor.addFile(fileObject);
+            start(monitor);
+            writeToFile(file);
+            waitFor("created file.txt");
+            stop(monitor);
+            start(monitor);
+            Files.delete(file);
+            waitFor("deleted file.txt");
+            assertEquals(1, events.stream().filter("created file.txt"::equals).count(), events.toString());
+        } finally {
+            close(monitor);
+        }
+    }
+
+    protected void waitFor(final String expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!events.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(events.contains(expected), () -> "Missing " + expected + " in " + events);
+    }
+
+    protected void writeToFile(final Path file) throws IOException {
+        Files.write(file, "string=value1".getBytes(StandardCharsets.UTF_8));
+    }
+
+}
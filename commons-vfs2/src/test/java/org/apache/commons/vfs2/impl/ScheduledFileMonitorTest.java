@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ScheduledFileMonitor}.
+ */
+public class ScheduledFileMonitorTest extends AbstractFileMonitorTest<ScheduledFileMonitor> {
+
+    private static final Duration DELAY = Duration.ofMillis(50);
+
+    @Override
+    protected void close(final ScheduledFileMonitor monitor) {
+        monitor.close();
+    }
+
+    @Override
+    protected boolean isMonitored(final ScheduledFileMonitor monitor, final FileObject file) {
+        return monitor.getCurrentDelay(file) != null;
+    }
+
+    @Override
+    protected ScheduledFileMonitor newMonitor() {
+        final ScheduledFileMonitor monitor = new ScheduledFileMonitor(new RecordingListener());
+        monitor.setDelay(DELAY);
+        monitor.setMaxDelay(DELAY);
+        return monitor;
+    }
+
+    @Override
+    protected void start(final ScheduledFileMonitor monitor) {
+        monitor.start();
+    }
+
+    @Override
+    protected void stop(final ScheduledFileMonitor monitor) {
+        monitor.stop();
+    }
+
+    @Test
+    public void testAddFileAgain() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        final AtomicInteger refreshes = new AtomicInteger();
+        try (FileObject fileObject = new DecoratedFileObject(resolve(file)) {
+            @Override
+            public void refresh() throws FileSystemException {
+                refreshes.incrementAndGet();
+                super.refresh();
+            }
+        };
+            ScheduledFileMonitor monitor = newMonitor()) {
+            monitor.addFile(fileObject);
+            final int count = refreshes.get();
+            assertTrue(count > 0);
+            // A monitored file is not checked again
+            monitor.addFile(fileObject);
+            assertEquals(count, refreshes.get());
+        }
+    }
+
+    @Test
+    public void testBackoff() throws Exception {
+        try (FileObject folder = resolve(tempDir);
+            ScheduledFileMonitor monitor = newMonitor()) {
+            monitor.setMaxDelay(DELAY.multipliedBy(8));
+            monitor.setJitter(0);
+            monitor.addFile(folder);
+            monitor.start();
+            final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (!DELAY.multipliedBy(8).equals(monitor.getCurrentDelay(folder)) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(DELAY.multipliedBy(8), monitor.getCurrentDelay(folder), "Unchanged folder backs off to the maximum delay");
+            writeToFile(tempDir.resolve("child.txt"));
+            waitFor("created child.txt");
+            assertTrue(monitor.getCurrentDelay(folder).compareTo(DELAY.multipliedBy(8)) < 0, "A change resets the delay");
+        }
+    }
+
+    @Test
+    public void testChildFileCreatedAndDeleted() throws Exception {
+        final Path child = tempDir.resolve("child.txt");
+        try (FileObject folder = resolve(tempDir);
+            ScheduledFileMonitor monitor = newMonitor()) {
+            monitor.addFile(folder);
+            monitor.start();
+            writeToFile(child);
+            waitFor("created child.txt");
+            // Deletions within a folder are found by comparing listings, even without recursive checking.
+            Files.delete(child);
+            waitFor("deleted child.txt");
+        }
+    }
+
+    @Test
+    public void testFileRecreated() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        try (FileObject fileObject = resolve(file);
+            ScheduledFileMonitor monitor = newMonitor()) {
+            monitor.addFile(fileObject);
+            monitor.start();
+            writeToFile(file);
+            waitFor("created file.txt");
+            Files.delete(file);
+            waitFor("deleted file.txt");
+            events.clear();
+            // No need to add the file again.
+            writeToFile(file);
+            waitFor("created file.txt");
+        }
+    }
+
+    @Test
+    public void testRecursive() throws Exception {
+        final Path subfolder = Files.createDirectory(tempDir.resolve("subfolder"));
+        final Path file = subfolder.resolve("nested.txt");
+        writeToFile(file);
+        try (FileObject folder = resolve(tempDir);
+            ScheduledFileMonitor monitor = newMonitor()) {
+            monitor.setRecursive(true);
+            monitor.addFile(folder);
+            monitor.start();
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+            waitFor("changed nested.txt");
+            final Path newFolder = Files.createDirectory(tempDir.resolve("newfolder"));
+            writeToFile(newFolder.resolve("new.txt"));
+            waitFor("created newfolder");
+            waitFor("created new.txt");
+            Files.delete(file);
+            waitFor("deleted nested.txt");
+            assertEquals(1, events.stream().filter("deleted nested.txt"::equals).count(), events.toString());
+        }
+    }
+
+    @Test
+    public void testWaitingChecksDoNotSpin() throws Exception {
+        final int fileCount = 20;
+        final AtomicInteger checks = new AtomicInteger();
+        final AtomicInteger runningChecks = new AtomicInteger();
+        final AtomicInteger maxRunningChecks = new AtomicInteger();
+        final AtomicInteger scheduledRuns = new AtomicInteger();
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(4) {
+            @Override
+            public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+                // Also counts execute(), which schedules without delay.
+                scheduledRuns.incrementAndGet();
+                return super.schedule(command, delay, unit);
+            }
+        };
+        try (ScheduledFileMonitor monitor = new ScheduledFileMonitor(new RecordingListener(), executor)) {
+            monitor.setDelay(DELAY);
+            monitor.setMaxDelay(DELAY);
+            monitor.setMaxConcurrentChecks(1);
+            for (int i = 0; i < fileCount; i++) {
+                // All files are on the local file system, whose single permit they share.
+                monitor.addFile(new DecoratedFileObject(resolve(tempDir.resolve("file" + i + ".txt"))) {
+                    @Override
+                    public boolean exists() throws FileSystemException {
+                        checks.incrementAndGet();
+                        maxRunningChecks.accumulateAndGet(runningChecks.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(10);
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            runningChecks.decrementAndGet();
+                        }
+                        return super.exists();
+                    }
+                });
+            }
+            checks.set(0);
+            maxRunningChecks.set(0);
+            monitor.start();
+            Thread.sleep(1000);
+            monitor.stop();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, maxRunningChecks.get());
+        assertTrue(checks.get() >= fileCount, () -> "Only " + checks + " checks");
+        // Each check schedules the next one, and may hand its permit to a waiting agent; retrying would run far more.
+        assertTrue(scheduledRuns.get() <= fileCount + 2 * checks.get(), () -> scheduledRuns + " runs for " + checks + " checks");
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.vfs2.FileChangeEvent;
+import org.apache.commons.vfs2.FileListener;
+import org.apache.commons.vfs2.FileObject;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link WatchServiceFileMonitor}.
+ */
+public class WatchServiceFileMonitorTest extends AbstractFileMonitorTest<WatchServiceFileMonitor> {
+
+    @Override
+    protected void close(final WatchServiceFileMonitor monitor) {
+        monitor.close();
+    }
+
+    @Override
+    protected boolean isMonitored(final WatchServiceFileMonitor monitor, final FileObject file) {
+        return monitor.isWatched(file);
+    }
+
+    @Override
+    protected WatchServiceFileMonitor newMonitor() {
+        return new WatchServiceFileMonitor(new RecordingListener());
+    }
+
+    @Override
+    protected void start(final WatchServiceFileMonitor monitor) {
+        monitor.start();
+    }
+
+    @Override
+    protected void stop(final WatchServiceFileMonitor monitor) {
+        monitor.stop();
+    }
+
+    @Test
+    public void testChildFileCreated() throws Exception {
+        try (FileObject folder = resolve(tempDir);
+            WatchServiceFileMonitor monitor = newMonitor()) {
+            monitor.addFile(folder);
+            monitor.start();
+            assertTrue(monitor.isWatched(folder));
+            writeToFile(tempDir.resolve("child.txt"));
+            waitFor("created child.txt");
+        }
+    }
+
+    @Test
+    public void testFolderDeleted() throws Exception {
+        final Path folder = Files.createDirectory(tempDir.resolve("folder"));
+        try (FileObject folderObject = resolve(folder);
+            WatchServiceFileMonitor monitor = newMonitor()) {
+            monitor.addFile(folderObject);
+            monitor.start();
+            Files.delete(folder);
+            waitFor("deleted folder");
+        }
+    }
+
+    @Test
+    public void testListenerUsesMonitorFromOtherThread() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AtomicReference<WatchServiceFileMonitor> monitorRef = new AtomicReference<>();
+        final FileListener listener = new RecordingListener() {
+            @Override
+            public void fileCreated(final FileChangeEvent event) {
+                // Blocks if the monitor calls listeners while holding its lock.
+                final Future<Boolean> watched = executor.submit(() -> monitorRef.get().isWatched(event.getFileObject()));
+                try {
+                    events.add("watched " + watched.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                } catch (final InterruptedException | ExecutionException | TimeoutException e) {
+                    events.add("failed " + e);
+                }
+            }
+        };
+        try (FileObject fileObject = resolve(file);
+            WatchServiceFileMonitor monitor = new WatchServiceFileMonitor(listener)) {
+            monitorRef.set(monitor);
+            monitor.addFile(fileObject);
+            monitor.start();
+            writeToFile(file);
+            waitFor("watched true");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNonLocalFileIsPolled() throws Exception {
+        try (FileObject fileObject = fileSystemManager.resolveFile("ram:///WatchServiceFileMonitorTest/file.txt");
+            WatchServiceFileMonitor monitor = newMonitor()) {
+            monitor.setDelay(Duration.ofMillis(100));
+            monitor.addFile(fileObject);
+            monitor.start();
+            assertFalse(monitor.isWatched(fileObject));
+            fileObject.createFile();
+            waitFor("created file.txt");
+            fileObject.delete();
+        }
+    }
+
+    @Test
+    public void testOverflowFallsBackToPolling() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        try (FileObject fileObject = resolve(file);
+            WatchServiceFileMonitor monitor = newMonitor()) {
+            monitor.setDelay(Duration.ofMillis(100));
+            monitor.addFile(fileObject);
+            monitor.start();
+            assertTrue(monitor.isWatched(fileObject));
+            monitor.handleOverflow(tempDir.toAbsolutePath().normalize());
+            assertFalse(monitor.isWatched(fileObject));
+            assertEquals(0, monitor.getWatchedFolderCount());
+            writeToFile(file);
+            waitFor("created file.txt");
+        }
+    }
+
+    @Test
+    public void testRecursiveNewFolder() throws Exception {
+        try (FileObject folder = resolve(tempDir);
+            WatchServiceFileMonitor monitor = newMonitor()) {
+            monitor.setRecursive(true);
+            monitor.addFile(folder);
+            monitor.start();
+            final Path subfolder = Files.createDirectory(tempDir.resolve("subfolder"));
+            waitFor("created subfolder");
+            final Path file = subfolder.resolve("nested.txt");
+            writeToFile(file);
+            waitFor("created nested.txt");
+            Files.delete(file);
+            waitFor("deleted nested.txt");
+        }
+    }
+
+    @Test
+    public void testRegistrationFailureFallsBackToPolling() throws Exception {
+        final Path file = tempDir.resolve("file.txt");
+        try (FileObject fileObject = resolve(file);
+            WatchServiceFileMonitor monitor = new WatchServiceFileMonitor(new RecordingListener()) {
+                @Override
+                WatchKey newWatchKey(final Path folder) throws IOException {
+                    throw new IOException("Simulated registration failure for " + folder);
+                }
+            }) {
+            monitor.setDelay(Duration.ofMillis(100));
+            monitor.addFile(fileObject);
+            monitor.start();
+            assertFalse(monitor.isWatched(fileObject));
+            writeToFile(file);
+            waitFor("created file.txt");
+        }
+    }
+
+    @Test
+    public void testRegistrationFailureOfNewFolderFallsBackToPolling() throws Exception {
+        try (FileObject folder = resolve(tempDir);
+            WatchServiceFileMonitor monitor = new WatchServiceFileMonitor(new RecordingListener()) {
+                @Override
+                WatchKey newWatchKey(final Path folder) throws IOException {
+                    if (folder.endsWith("subfolder")) {
+                        throw new IOException("Simulated registration failure for " + folder);
+                    }
+                    return super.newWatchKey(folder);
+                }
+            }) {
+            monitor.setDelay(Duration.ofMillis(100));
+            monitor.setRecursive(true);
+            monitor.addFile(folder);
+            monitor.start();
+            assertTrue(monitor.isWatched(folder));
+            final Path subfolder = Files.createDirectory(tempDir.resolve("subfolder"));
+            waitFor("created subfolder");
+            assertFalse(monitor.isWatched(folder));
+            writeToFile(subfolder.resolve("nested.txt"));
+            waitFor("created nested.txt");
+        }
+    }
+
+    @Test
+    public void testRemoveFileReleasesWatchedFolders() throws Exception {
+        final Path folder = Files.createDirectories(tempDir.resolve("folder/subfolder")).getParent();
+        try (FileObject first = resolve(tempDir.resolve("first.txt"));
+            FileObject second = resolve(tempDir.resolve("second.txt"));
+            FileObject folderObject = resolve(folder);
+            WatchServiceFileMonitor monitor = newMonitor()) {
+            monitor.addFile(first);
+            monitor.addFile(second);
+            // Both files are watched through their parent folder.
+            assertEquals(1, monitor.getWatchedFolderCount());
+            monitor.setRecursive(true);
+            monitor.addFile(folderObject);
+            assertEquals(3, monitor.getWatchedFolderCount());
+            monitor.removeFile(first);
+            assertEquals(3, monitor.getWatchedFolderCount());
+            monitor.removeFile(folderObject);
+            assertEquals(1, monitor.getWatchedFolderCount());
+            monitor.removeFile(second);
+            assertEquals(0, monitor.getWatchedFolderCount());
+        }
+    }
+
+}
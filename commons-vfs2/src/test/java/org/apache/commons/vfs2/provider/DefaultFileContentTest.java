@@ -21,14 +21,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -208,4 +212,58 @@ public class DefaultFileContentTest {
         }
     }
 
+    private void testWriteLocal(final FailableFunction<Path, Long, IOException> write, final byte[] data)
+            throws Exception {
+        assertEquals(data.length, write.apply(Files.write(Files.createTempFile("temp-file-name", ".tmp"), data)));
+    }
+
+    @Test
+    public void testWriteLocalToChannel() throws Exception {
+        final byte[] data = new byte[100_000];
+        new Random(1).nextBytes(data);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (WritableByteChannel channel = Channels.newChannel(output)) {
+            testWriteLocal(path -> {
+                try (FileObject file = VFS.getManager().toFileObject(path.toFile())) {
+                    return file.getContent().write(channel);
+                }
+            }, data);
+        }
+        assertArrayEquals(data, output.toByteArray());
+    }
+
+    @Test
+    public void testWriteLocalToLocal() throws Exception {
+        final byte[] data = new byte[1_000_000];
+        new Random(1).nextBytes(data);
+        final Path dest = Files.createTempFile("temp-file-name", ".tmp");
+        final FileSystemManager fileSystemManager = VFS.getManager();
+        testWriteLocal(path -> {
+            try (FileObject file = fileSystemManager.toFileObject(path.toFile());
+                    FileObject destFile = fileSystemManager.toFileObject(dest.toFile())) {
+                return file.getContent().write(destFile);
+            }
+        }, data);
+        assertArrayEquals(data, Files.readAllBytes(dest));
+    }
+
+    @Test
+    public void testWriteLocalToOpenStream() throws Exception {
+        final byte[] data = "content".getBytes(StandardCharsets.UTF_8);
+        final Path dest = Files.createTempFile("temp-file-name", ".tmp");
+        final FileSystemManager fileSystemManager = VFS.getManager();
+        testWriteLocal(path -> {
+            try (FileObject file = fileSystemManager.toFileObject(path.toFile());
+                    FileObject destFile = fileSystemManager.toFileObject(dest.toFile());
+                    OutputStream output = destFile.getContent().getOutputStream()) {
+                // Buffered bytes must be written before the transferred ones
+                output.write('>');
+                final long count = file.getContent().write(output);
+                output.write('<');
+                return count;
+            }
+        }, data);
+        assertEquals(">content<", new String(Files.readAllBytes(dest), StandardCharsets.UTF_8));
+    }
+
 }
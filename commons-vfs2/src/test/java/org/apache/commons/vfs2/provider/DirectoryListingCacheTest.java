@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DirectoryListingCache}.
+ */
+public class DirectoryListingCacheTest {
+
+    private static FileName folder(final String path) {
+        return new GenericFileName("ftp", "localhost", 21, 21, null, null, path, FileType.FOLDER);
+    }
+
+    @Test
+    public void testDisabled() {
+        final DirectoryListingCache<String> cache = new DirectoryListingCache<>(Duration.ZERO);
+        assertFalse(cache.isEnabled());
+        cache.put(folder("/a"), Collections.singletonMap("b", "B"));
+        assertNull(cache.get(folder("/a")));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        final DirectoryListingCache<String> cache = new DirectoryListingCache<>(Duration.ofMillis(1));
+        cache.put(folder("/a"), Collections.singletonMap("b", "B"));
+        Thread.sleep(10);
+        assertNull(cache.get(folder("/a")));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testGetPut() {
+        final DirectoryListingCache<String> cache = new DirectoryListingCache<>(Duration.ofMinutes(1));
+        assertTrue(cache.isEnabled());
+        assertNull(cache.get(folder("/a")));
+        cache.put(folder("/a"), Collections.singletonMap("b", "B"));
+        final Map<String, String> listing = cache.get(folder("/a"));
+        assertEquals(Collections.singletonMap("b", "B"), listing);
+        assertThrows(UnsupportedOperationException.class, () -> listing.put("c", "C"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        final DirectoryListingCache<String> cache = new DirectoryListingCache<>(Duration.ofMinutes(1));
+        cache.put(folder("/"), Collections.singletonMap("a", "A"));
+        cache.put(folder("/a"), Collections.singletonMap("b", "B"));
+        cache.put(folder("/a/b"), Collections.emptyMap());
+        cache.put(folder("/c"), Collections.emptyMap());
+        cache.invalidate(folder("/a/b"));
+        assertEquals(2, cache.size());
+        assertNull(cache.get(folder("/a")));
+        assertNull(cache.get(folder("/a/b")));
+        assertEquals(Collections.singletonMap("a", "A"), cache.get(folder("/")));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testMaxListings() {
+        final DirectoryListingCache<String> cache = new DirectoryListingCache<>(Duration.ofMinutes(1), 2);
+        cache.put(folder("/a"), Collections.emptyMap());
+        cache.put(folder("/b"), Collections.emptyMap());
+        cache.get(folder("/a"));
+        cache.put(folder("/c"), Collections.emptyMap());
+        assertEquals(2, cache.size());
+        assertNull(cache.get(folder("/b")));
+        assertEquals(Collections.emptyMap(), cache.get(folder("/a")));
+    }
+
+}
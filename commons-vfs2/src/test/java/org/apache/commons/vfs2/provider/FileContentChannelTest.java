@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.vfs2.FileContent;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemManager;
+import org.apache.commons.vfs2.VFS;
+import org.apache.commons.vfs2.util.RandomAccessContentChannel;
+import org.apache.commons.vfs2.util.RandomAccessMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link FileContent#getSeekableByteChannel(RandomAccessMode)} and {@link FileContent#getReadableByteChannel()}.
+ */
+public class FileContentChannelTest {
+
+    private static final String CONTENT = "This is a test file.";
+
+    @TempDir
+    Path tempDir;
+
+    private static String read(final SeekableByteChannel channel, final int length) throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            // keep reading
+        }
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    private static void write(final SeekableByteChannel channel, final String text) throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void assertReadWrite(final FileObject file) throws Exception {
+        try (FileContent content = file.getContent()) {
+            try (SeekableByteChannel channel = content.getSeekableByteChannel(RandomAccessMode.READWRITE)) {
+                assertTrue(content.isOpen());
+                write(channel, CONTENT);
+                assertEquals(CONTENT.length(), channel.position());
+                assertEquals(CONTENT.length(), channel.size());
+                channel.position(10);
+                write(channel, "TEST");
+                channel.position(0);
+                assertEquals("This is a TEST file.", read(channel, 100));
+                assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+                channel.truncate(7);
+                assertEquals(7, channel.size());
+                assertEquals(7, channel.position());
+            }
+            assertFalse(content.isOpen());
+            try (SeekableByteChannel channel = content.getSeekableByteChannel(RandomAccessMode.READ)) {
+                assertEquals(7, channel.size());
+                channel.position(5);
+                assertEquals("is", read(channel, 10));
+                assertThrows(NonWritableChannelException.class, () -> channel.write(ByteBuffer.allocate(1)));
+            }
+            assertEquals("This is", content.getString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testCloseContentClosesChannels() throws Exception {
+        final FileSystemManager manager = VFS.getManager();
+        final Path path = Files.write(tempDir.resolve("file.txt"), CONTENT.getBytes(StandardCharsets.UTF_8));
+        try (FileObject file = manager.resolveFile(path.toUri().toString())) {
+            final FileContent content = file.getContent();
+            final SeekableByteChannel channel = content.getSeekableByteChannel(RandomAccessMode.READ);
+            final ReadableByteChannel readable = content.getReadableByteChannel();
+            assertTrue(content.isOpen());
+            content.close();
+            assertFalse(channel.isOpen());
+            assertFalse(readable.isOpen());
+            assertFalse(content.isOpen());
+        }
+    }
+
+    @Test
+    public void testLocalReadWrite() throws Exception {
+        try (FileObject file = VFS.getManager().resolveFile(tempDir.resolve("file.txt").toUri().toString())) {
+            file.createFile();
+            assertReadWrite(file);
+        }
+    }
+
+    @Test
+    public void testRandomAccessContentChannel() throws Exception {
+        final Path path = Files.write(tempDir.resolve("file.txt"), CONTENT.getBytes(StandardCharsets.UTF_8));
+        try (FileObject file = VFS.getManager().resolveFile(path.toUri().toString());
+                FileContent content = file.getContent()) {
+            try (SeekableByteChannel channel = new RandomAccessContentChannel(
+                    content.getRandomAccessContent(RandomAccessMode.READWRITE), RandomAccessMode.READWRITE)) {
+                channel.position(10);
+                assertEquals("test", read(channel, 4));
+                channel.position(10);
+                write(channel, "TEST");
+                assertEquals(CONTENT.length(), channel.size());
+                channel.truncate(4);
+                assertEquals(4, channel.size());
+            }
+            try (SeekableByteChannel channel = new RandomAccessContentChannel(
+                    content.getRandomAccessContent(RandomAccessMode.READ), RandomAccessMode.READ)) {
+                assertEquals("This", read(channel, 100));
+                assertThrows(NonWritableChannelException.class, () -> channel.truncate(0));
+            }
+        }
+    }
+
+    @Test
+    public void testRamReadWrite() throws Exception {
+        try (FileObject file = VFS.getManager().resolveFile("ram:///channel-test/file.txt")) {
+            try {
+                file.createFile();
+                assertReadWrite(file);
+            } finally {
+                file.delete();
+            }
+        }
+    }
+
+    @Test
+    public void testReadableByteChannel() throws Exception {
+        final FileSystemManager manager = VFS.getManager();
+        final File zip = new File("src/test/resources/test-data/test.zip").getAbsoluteFile();
+        final Path path = Files.write(tempDir.resolve("file.txt"), CONTENT.getBytes(StandardCharsets.UTF_8));
+        try (FileObject local = manager.resolveFile(path.toUri().toString());
+                FileObject zipped = manager.resolveFile("zip:" + zip.toURI() + "!/read-tests/file1.txt")) {
+            for (final FileObject file : new FileObject[] {local, zipped}) {
+                try (FileContent content = file.getContent();
+                        ReadableByteChannel channel = content.getReadableByteChannel()) {
+                    final ByteBuffer buffer = ByteBuffer.allocate(100);
+                    while (channel.read(buffer) > 0) {
+                        // keep reading
+                    }
+                    assertEquals(CONTENT, new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+    }
+}
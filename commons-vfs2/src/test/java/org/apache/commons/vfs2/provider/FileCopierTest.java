@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemManager;
+import org.apache.commons.vfs2.Selectors;
+import org.apache.commons.vfs2.VFS;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link FileCopier}.
+ */
+public class FileCopierTest {
+
+    private static final int FILE_COUNT = 3 * 4;
+
+    private ExecutorService executor;
+
+    @TempDir
+    public File tempDir;
+
+    private static void assertSameTree(final FileObject expected, final FileObject actual) throws IOException {
+        final FileObject[] expectedFiles = expected.findFiles(Selectors.EXCLUDE_SELF);
+        final FileObject[] actualFiles = actual.findFiles(Selectors.EXCLUDE_SELF);
+        assertEquals(expectedFiles.length, actualFiles.length);
+        for (final FileObject file : expectedFiles) {
+            final FileObject copy = actual.resolveFile(expected.getName().getRelativeName(file.getName()));
+            assertEquals(file.getType(), copy.getType(), copy::toString);
+            if (file.getType().hasContent()) {
+                assertTrue(Arrays.equals(file.getContent().getByteArray(), copy.getContent().getByteArray()),
+                        copy::toString);
+            }
+        }
+    }
+
+    private static void createTree(final FileObject folder) throws IOException {
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 4; j++) {
+                final FileObject file = folder.resolveFile("dir" + i + "/file" + j + ".txt");
+                try (OutputStream out = file.getContent().getOutputStream()) {
+                    out.write(new byte[i * 1000 + j]);
+                }
+            }
+        }
+        folder.resolveFile("empty").createFolder();
+    }
+
+    private void assertCopy(final FileObject srcFolder, final FileObject destFolder) throws IOException {
+        createTree(srcFolder);
+        final FileCopier copier = new FileCopier(executor, 3);
+        copier.setMaxInFlightBytes(2000);
+        final AtomicLong listenerBytes = new AtomicLong();
+        copier.setListener((srcFile, destFile, bytes) -> listenerBytes.addAndGet(bytes));
+        copier.copy(srcFolder, destFolder, Selectors.SELECT_ALL);
+        assertSameTree(srcFolder, destFolder);
+        assertEquals(FILE_COUNT, copier.getFilesCopied());
+        // 4 * (0 + 1000 + 2000) + 3 * (0 + 1 + 2 + 3)
+        assertEquals(12018, copier.getBytesCopied());
+        assertEquals(12018, listenerBytes.get());
+        assertTrue(copier.getThroughput() > 0);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testCopyLocal() throws IOException {
+        final FileSystemManager manager = VFS.getManager();
+        assertCopy(manager.toFileObject(new File(tempDir, "src")), manager.toFileObject(new File(tempDir, "dest")));
+    }
+
+    @Test
+    public void testCopyRam() throws IOException {
+        final FileSystemManager manager = VFS.getManager();
+        final FileObject root = manager.resolveFile("ram://" + FileCopierTest.class.getName());
+        try {
+            assertCopy(root.resolveFile("src"), root.resolveFile("dest"));
+        } finally {
+            root.deleteAll();
+        }
+    }
+
+    @Test
+    public void testCopyToLocal() throws IOException {
+        final FileSystemManager manager = VFS.getManager();
+        final FileObject root = manager.resolveFile("ram://" + FileCopierTest.class.getName());
+        try {
+            assertCopy(root.resolveFile("src"), manager.toFileObject(new File(tempDir, "dest")));
+        } finally {
+            root.deleteAll();
+        }
+    }
+
+    @Test
+    public void testMissingFile() throws FileSystemException {
+        final FileObject missing = VFS.getManager().toFileObject(new File(tempDir, "missing"));
+        assertThrows(FileSystemException.class,
+                () -> new FileCopier(executor, 1).copy(missing, missing.resolveFile("../dest"), Selectors.SELECT_ALL));
+    }
+
+    @Test
+    public void testOverwrite() throws IOException {
+        final FileSystemManager manager = VFS.getManager();
+        final FileObject src = manager.toFileObject(new File(tempDir, "src"));
+        final FileObject dest = manager.toFileObject(new File(tempDir, "dest"));
+        createTree(src);
+        // a folder where a file is copied, and a longer file
+        dest.resolveFile("dir0/file0.txt").createFolder();
+        try (OutputStream out = dest.resolveFile("dir1/file0.txt").getContent().getOutputStream()) {
+            out.write("longer than the source".getBytes(StandardCharsets.UTF_8));
+        }
+        new FileCopier(executor, 2).copy(src, dest, Selectors.SELECT_ALL);
+        assertSameTree(src, dest);
+    }
+}
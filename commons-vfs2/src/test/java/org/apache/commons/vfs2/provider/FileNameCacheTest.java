@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FileNameCache}.
+ */
+public class FileNameCacheTest {
+
+    private static FileName name(final String password, final String path) {
+        return new GenericFileName("ftp", "localhost", 21, 21, "user", password, path, FileType.FILE);
+    }
+
+    @Test
+    public void testIntern() {
+        final FileNameCache cache = new FileNameCache();
+        final FileName name = cache.intern(name("pass", "/a/b/c.txt"));
+        assertSame(name, cache.intern(name("pass", "/a/b/c.txt")));
+        assertNull(cache.intern(null));
+        // c.txt, b, a and the root
+        assertEquals(4, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNotSame(name, cache.intern(name("pass", "/a/b/c.txt")));
+    }
+
+    @Test
+    public void testMaxNames() {
+        final FileNameCache cache = new FileNameCache(3);
+        final FileName root = cache.intern(name("pass", "/"));
+        cache.intern(name("pass", "/a"));
+        cache.intern(name("pass", "/b"));
+        assertSame(root, cache.intern(name("pass", "/")));
+        cache.intern(name("pass", "/c"));
+        assertEquals(3, cache.size());
+        assertSame(root, cache.intern(name("pass", "/")));
+    }
+
+    @Test
+    public void testParents() {
+        final FileNameCache cache = new FileNameCache();
+        final FileName folder = cache.intern(name("pass", "/a/b"));
+        final FileName file1 = cache.intern(name("pass", "/a/b/c1.txt"));
+        final FileName file2 = cache.intern(name("pass", "/a/b/c2.txt"));
+        assertSame(folder, file1.getParent());
+        assertSame(folder, file2.getParent());
+        assertSame(folder.getParent(), cache.intern(name("pass", "/a")));
+        assertSame(file1.getRoot(), folder.getRoot());
+        assertSame(file1.getBaseName(), cache.intern(name("pass", "/x/c1.txt")).getBaseName());
+    }
+
+    @Test
+    public void testRootUris() {
+        final FileNameCache cache = new FileNameCache();
+        final FileName name = cache.intern(name("pass", "/a"));
+        final FileName other = name("other", "/a");
+        assertNotEquals(name, other);
+        assertSame(other, cache.intern(other));
+        assertSame(name, cache.intern(name("pass", "/a")));
+    }
+
+}
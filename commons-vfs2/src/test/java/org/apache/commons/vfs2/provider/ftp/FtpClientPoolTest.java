@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.ftp;
+
+import static org.apache.commons.vfs2.VfsTestUtils.getTestDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.DefaultFileSystemManager;
+import org.apache.ftpserver.ftplet.FtpException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FtpClientPool}.
+ */
+public class FtpClientPoolTest {
+
+    private static final String FILE1_CONTENT = "This is a test file.";
+
+    @BeforeAll
+    public static void setUpClass() throws FtpException {
+        FtpProviderTestCase.setUpClass(getTestDirectory(), null, null);
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+        FtpProviderTestCase.tearDownClass();
+    }
+
+    private DefaultFileSystemManager manager;
+
+    private FtpClientPool getClientPool(final FileObject file) {
+        return ((FtpFileSystem) file.getFileSystem()).getClientPool();
+    }
+
+    private String read(final FileObject file) throws Exception {
+        try (InputStream in = file.getContent().getInputStream()) {
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        }
+    }
+
+    private FileObject resolveFile1(final FileSystemOptions options) throws FileSystemException {
+        final FtpFileSystemConfigBuilder builder = FtpFileSystemConfigBuilder.getInstance();
+        builder.setPassiveMode(options, true);
+        builder.setUserDirIsRoot(options, false);
+        return manager.resolveFile(FtpProviderTestCase.getConnectionUri() + "/read-tests/file1.txt", options);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        manager = new DefaultFileSystemManager();
+        manager.addProvider("ftp", new FtpFileProvider());
+        manager.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    public void testBorrowTimeout() throws Exception {
+        final FileSystemOptions options = new FileSystemOptions();
+        final FtpFileSystemConfigBuilder builder = FtpFileSystemConfigBuilder.getInstance();
+        builder.setMaxTotalClients(options, 2);
+        builder.setClientBorrowTimeout(options, Duration.ofMillis(200));
+        final FileObject file = resolveFile1(options);
+        final FtpFileSystem fileSystem = (FtpFileSystem) file.getFileSystem();
+        final FtpClient client1 = fileSystem.getClient();
+        final FtpClient client2 = fileSystem.getClient();
+        assertThrows(FileSystemException.class, fileSystem::getClient);
+        fileSystem.putClient(client2);
+        assertEquals(client2, fileSystem.getClient());
+        fileSystem.putClient(client2);
+        // Only one client stays idle by default
+        fileSystem.putClient(client1);
+        assertEquals(1, getClientPool(file).getTotalCount());
+        assertEquals(1, getClientPool(file).getIdleCount());
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        final FileSystemOptions options = new FileSystemOptions();
+        final FtpFileSystemConfigBuilder builder = FtpFileSystemConfigBuilder.getInstance();
+        builder.setMaxIdleClients(options, 3);
+        builder.setMaxTotalClients(options, 3);
+        builder.setValidateClientOnBorrow(options, true);
+        final FileObject file = resolveFile1(options);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> read(file)));
+            }
+            for (final Future<String> future : futures) {
+                assertEquals(FILE1_CONTENT, future.get());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        final int totalCount = getClientPool(file).getTotalCount();
+        assertTrue(totalCount >= 1 && totalCount <= 3, () -> "total clients: " + totalCount);
+        assertEquals(totalCount, getClientPool(file).getIdleCount());
+    }
+
+    @Test
+    public void testIdleTimeout() throws Exception {
+        final FileSystemOptions options = new FileSystemOptions();
+        final FtpFileSystemConfigBuilder builder = FtpFileSystemConfigBuilder.getInstance();
+        builder.setMinIdleClients(options, 1);
+        builder.setMaxIdleClients(options, 3);
+        builder.setClientIdleTimeout(options, Duration.ofMillis(50));
+        final FileObject file = resolveFile1(options);
+        final FtpFileSystem fileSystem = (FtpFileSystem) file.getFileSystem();
+        final List<FtpClient> clients = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            clients.add(fileSystem.getClient());
+        }
+        clients.forEach(fileSystem::putClient);
+        assertEquals(3, getClientPool(file).getIdleCount());
+        Thread.sleep(200);
+        // The minimum idle client survives the timeout
+        fileSystem.putClient(fileSystem.getClient());
+        assertEquals(1, getClientPool(file).getIdleCount());
+        assertEquals(1, getClientPool(file).getTotalCount());
+        assertEquals(FILE1_CONTENT, read(file));
+    }
+
+}
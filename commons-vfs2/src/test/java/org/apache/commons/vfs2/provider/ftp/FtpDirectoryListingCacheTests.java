@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.ftp;
+
+import org.apache.commons.net.ftp.FTPFile;
+import org.apache.commons.vfs2.AbstractProviderTestCase;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.provider.DirectoryListingCache;
+import org.junit.Test;
+
+/**
+ * Tests that FTP folders share their listings through the directory listing cache, and that changes made through the
+ * file system invalidate them.
+ */
+public class FtpDirectoryListingCacheTests extends AbstractProviderTestCase {
+
+    /**
+     * Sets up an empty scratch folder for the test to use.
+     */
+    private FileObject createScratchFolder() throws Exception {
+        final FileObject folder = getWriteFolder().resolveFile("listing");
+        folder.deleteAll();
+        folder.createFolder();
+        return folder;
+    }
+
+    private DirectoryListingCache<FTPFile> getDirectoryListingCache() throws Exception {
+        return ((FtpFileSystem) getReadFolder().getFileSystem()).getDirectoryListingCache();
+    }
+
+    /**
+     * Tests that deleting a file invalidates the listing of its folder.
+     */
+    @Test
+    public void testDeleteInvalidatesListing() throws Exception {
+        final FileObject folder = createScratchFolder();
+        try {
+            final FileObject file = folder.resolveFile("file.txt");
+            file.createFile();
+            folder.refresh();
+            assertEquals(1, folder.getChildren().length);
+
+            file.delete();
+            assertNull(getDirectoryListingCache().get(folder.getName()));
+            folder.refresh();
+            assertEquals(0, folder.getChildren().length);
+        } finally {
+            folder.deleteAll();
+        }
+    }
+
+    /**
+     * Tests that a refreshed folder gets its children from the cached listing.
+     */
+    @Test
+    public void testListingIsShared() throws Exception {
+        final DirectoryListingCache<FTPFile> cache = getDirectoryListingCache();
+        final FileObject folder = getReadFolder();
+        final int childCount = folder.getChildren().length;
+        final long hitCount = cache.getHitCount();
+
+        folder.refresh();
+        assertEquals(childCount, folder.getChildren().length);
+        assertTrue(cache.getHitCount() > hitCount);
+    }
+
+    /**
+     * Tests that renaming a file invalidates the listing of its folder.
+     */
+    @Test
+    public void testRenameInvalidatesListing() throws Exception {
+        final FileObject folder = createScratchFolder();
+        try {
+            final FileObject file = folder.resolveFile("file.txt");
+            file.createFile();
+            folder.refresh();
+            assertEquals(1, folder.getChildren().length);
+
+            final FileObject renamed = folder.resolveFile("renamed.txt");
+            file.moveTo(renamed);
+            assertNull(getDirectoryListingCache().get(folder.getName()));
+            folder.refresh();
+            final FileObject[] children = folder.getChildren();
+            assertEquals(1, children.length);
+            assertEquals("renamed.txt", children[0].getName().getBaseName());
+        } finally {
+            folder.deleteAll();
+        }
+    }
+
+}
@@ -17,6 +17,8 @@
 package org.apache.commons.vfs2.provider.ftp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 
@@ -29,6 +31,30 @@ import org.junit.jupiter.api.Test;
  */
 public class FtpFileSystemConfigBuilderTest {
 
+    @Test
+    public void testClientPool() {
+        final FtpFileSystemConfigBuilder instance = FtpFileSystemConfigBuilder.getInstance();
+        final FileSystemOptions options = new FileSystemOptions();
+        assertEquals(Duration.ZERO, instance.getClientBorrowTimeout(options));
+        assertEquals(Duration.ZERO, instance.getClientIdleTimeout(options));
+        assertEquals(1, instance.getMaxIdleClients(options));
+        assertEquals(0, instance.getMaxTotalClients(options));
+        assertEquals(0, instance.getMinIdleClients(options));
+        assertFalse(instance.isValidateClientOnBorrow(options));
+        instance.setClientBorrowTimeout(options, Duration.ofSeconds(10));
+        instance.setClientIdleTimeout(options, Duration.ofSeconds(20));
+        instance.setMaxIdleClients(options, 4);
+        instance.setMaxTotalClients(options, 8);
+        instance.setMinIdleClients(options, 2);
+        instance.setValidateClientOnBorrow(options, true);
+        assertEquals(Duration.ofSeconds(10), instance.getClientBorrowTimeout(options));
+        assertEquals(Duration.ofSeconds(20), instance.getClientIdleTimeout(options));
+        assertEquals(4, instance.getMaxIdleClients(options));
+        assertEquals(8, instance.getMaxTotalClients(options));
+        assertEquals(2, instance.getMinIdleClients(options));
+        assertTrue(instance.isValidateClientOnBorrow(options));
+    }
+
     @Test
     public void testControlKeepAliveReplyTimeout() {
         final FtpFileSystemConfigBuilder instance = FtpFileSystemConfigBuilder.getInstance();
@@ -45,6 +71,15 @@ public class FtpFileSystemConfigBuilderTest {
         assertEquals(Duration.ofSeconds(10), instance.getControlKeepAliveTimeout(options));
     }
 
+    @Test
+    public void testDirectoryListingCacheTtl() {
+        final FtpFileSystemConfigBuilder instance = FtpFileSystemConfigBuilder.getInstance();
+        final FileSystemOptions options = new FileSystemOptions();
+        assertEquals(Duration.ZERO, instance.getDirectoryListingCacheTtl(options));
+        instance.setDirectoryListingCacheTtl(options, Duration.ofSeconds(30));
+        assertEquals(Duration.ofSeconds(30), instance.getDirectoryListingCacheTtl(options));
+    }
+
     @Test
     public void testActivePortRange() {
         final FtpFileSystemConfigBuilder instance = FtpFileSystemConfigBuilder.getInstance();
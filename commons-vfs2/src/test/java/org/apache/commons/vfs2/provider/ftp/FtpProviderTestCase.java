@@ -137,6 +137,7 @@ public class FtpProviderTestCase extends AbstractProviderTestConfig {
     /**
      * Creates the test suite for subclasses of the FTP file system.
      */
+    @SafeVarargs
     protected static Test suite(final FtpProviderTestCase testCase,
         final Class<? extends AbstractProviderTestCase>... testClasses) throws Exception {
         return new ProviderTestSuite(testCase) {
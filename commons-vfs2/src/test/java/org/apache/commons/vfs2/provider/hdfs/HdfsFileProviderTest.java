@@ -27,6 +27,10 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
@@ -37,6 +41,7 @@ import org.apache.commons.vfs2.FileType;
 import org.apache.commons.vfs2.impl.DefaultFileSystemManager;
 import org.apache.commons.vfs2.util.RandomAccessMode;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hdfs.DFSConfigKeys;
@@ -328,4 +333,24 @@ public class HdfsFileProviderTest {
         file.getContent().getRandomAccessContent(RandomAccessMode.READ).close();
     }
 
+    @Test
+    public void testSeekableByteChannel() throws Exception {
+        hdfs.mkdirs(DIR1_PATH);
+        try (FSDataOutputStream out = hdfs.create(FILE1_PATH)) {
+            out.write("This is a test file.".getBytes(StandardCharsets.UTF_8));
+        }
+        final FileObject file = manager.resolveFile(TEST_FILE1);
+        try (SeekableByteChannel channel = file.getContent().getSeekableByteChannel(RandomAccessMode.READ)) {
+            assertEquals(20, channel.size());
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+            channel.position(10);
+            assertEquals(4, channel.read(buffer));
+            buffer.flip();
+            assertEquals('t', buffer.get());
+            assertEquals(14, channel.position());
+            assertThrows(NonWritableChannelException.class, () -> channel.write(ByteBuffer.allocate(1)));
+        }
+        assertThrows(FileSystemException.class, () -> file.getContent().getSeekableByteChannel(RandomAccessMode.READWRITE).close());
+    }
+
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.local;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemManager;
+import org.apache.commons.vfs2.Selectors;
+import org.apache.commons.vfs2.VFS;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link LocalFile#doCopyFrom(FileObject)} through {@link FileObject#copyFrom}.
+ */
+public class LocalFileCopyFromTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private void copy(final Path source, final Path destination) throws FileSystemException {
+        final FileSystemManager manager = VFS.getManager();
+        try (FileObject sourceFile = manager.resolveFile(source.toUri());
+                FileObject destinationFile = manager.resolveFile(destination.toUri())) {
+            destinationFile.copyFrom(sourceFile, Selectors.SELECT_SELF);
+        }
+    }
+
+    private Path write(final String name, final String content) throws IOException {
+        return Files.write(tempDir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(final Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCopyToNewFile() throws IOException {
+        final Path source = write("source.txt", "new content");
+        final Path destination = tempDir.resolve("folder/destination.txt");
+
+        copy(source, destination);
+
+        assertEquals("new content", read(destination));
+    }
+
+    @Test
+    public void testCopyToReadOnlyFile() throws IOException {
+        final Path source = write("source.txt", "new content");
+        final Path destination = write("destination.txt", "old content");
+        assumeTrue(destination.toFile().setWritable(false));
+        // The super user can write to any file.
+        assumeFalse(Files.isWritable(destination));
+
+        assertThrows(FileSystemException.class, () -> copy(source, destination));
+
+        assertEquals("old content", read(destination));
+    }
+
+    @Test
+    public void testCopyToSymbolicLink() throws IOException {
+        final Path source = write("source.txt", "new content");
+        final Path target = write("target.txt", "old content");
+        final Path link = tempDir.resolve("link.txt");
+        try {
+            Files.createSymbolicLink(link, target);
+        } catch (final UnsupportedOperationException | IOException e) {
+            assumeTrue(false, "Cannot create symbolic links: " + e);
+        }
+
+        copy(source, link);
+
+        assertTrue(Files.isSymbolicLink(link));
+        assertEquals("new content", read(target));
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.ram;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.vfs2.FileName;
+import org.apache.commons.vfs2.FileType;
+import org.apache.commons.vfs2.provider.local.GenericFileNameParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RamFileData} content chunks.
+ */
+public class RamFileDataTest {
+
+    private static final int CHUNK_SIZE = RamFileData.CHUNK_SIZE;
+
+    private static byte[] bytes(final int length, final int seed) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + seed);
+        }
+        return bytes;
+    }
+
+    /**
+     * Serializes and deserializes the given data, file names are not serializable so the name is swapped for a token.
+     */
+    private static RamFileData roundTrip(final RamFileData data) throws Exception {
+        final FileName name = data.getName();
+        final String nameToken = "name:" + name;
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes) {
+            {
+                enableReplaceObject(true);
+            }
+
+            @Override
+            protected Object replaceObject(final Object obj) {
+                return obj == name ? nameToken : obj;
+            }
+        }) {
+            out.writeObject(data);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())) {
+            {
+                enableResolveObject(true);
+            }
+
+            @Override
+            protected Object resolveObject(final Object obj) {
+                return nameToken.equals(obj) ? name : obj;
+            }
+        }) {
+            return (RamFileData) in.readObject();
+        }
+    }
+
+    private RamFileData data;
+
+    private byte[] read(final long position, final int length) throws IOException {
+        final byte[] b = new byte[length];
+        assertEquals(length, data.read(position, b, 0, length));
+        return b;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        data = new RamFileData(new GenericFileNameParser().parseUri(null, null, "/file"));
+        data.setType(FileType.FILE);
+    }
+
+    @Test
+    public void testAppendAcrossChunks() throws IOException {
+        final byte[] expected = bytes(3 * CHUNK_SIZE + 123, 7);
+        // odd sized appends straddle the chunk boundaries
+        for (int off = 0; off < expected.length; off += 1000) {
+            data.write(data.size(), expected, off, Math.min(1000, expected.length - off));
+        }
+        assertEquals(expected.length, data.size());
+        assertArrayEquals(expected, read(0, expected.length));
+        try (InputStream in = data.getInputStream()) {
+            assertArrayEquals(expected, IOUtils.toByteArray(in));
+        }
+    }
+
+    @Test
+    public void testCopyContent() throws IOException {
+        final byte[] expected = bytes(CHUNK_SIZE + 10, 3);
+        data.write(0, expected, 0, expected.length);
+        final RamFileData copy = new RamFileData(data.getName());
+        copy.copyContent(data);
+        data.write(0, new byte[10], 0, 10);
+        final byte[] actual = new byte[expected.length];
+        assertEquals(expected.length, copy.read(0, actual, 0, actual.length));
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testCopyContentBothWays() throws Exception {
+        final byte[] content = bytes(2 * CHUNK_SIZE, 5);
+        data.write(0, content, 0, content.length);
+        final RamFileData other = new RamFileData(data.getName());
+        other.write(0, content, 0, content.length);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                final Future<?> toOther = executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        other.copyContent(data);
+                    }
+                    return null;
+                });
+                final Future<?> toData = executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        data.copyContent(other);
+                    }
+                    return null;
+                });
+                toOther.get();
+                toData.get();
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        assertArrayEquals(content, read(0, content.length));
+    }
+
+    @Test
+    public void testReadPastEnd() throws IOException {
+        data.write(0, bytes(10, 0), 0, 10);
+        final byte[] b = new byte[20];
+        assertEquals(10, data.read(0, b, 0, 20));
+        assertEquals(5, data.read(5, b, 0, 20));
+        assertEquals(-1, data.read(10, b, 0, 20));
+    }
+
+    @Test
+    public void testResizeTruncatesAndZeroFills() throws IOException {
+        final byte[] content = bytes(2 * CHUNK_SIZE, 1);
+        data.write(0, content, 0, content.length);
+        data.resize(CHUNK_SIZE + 5);
+        assertEquals(CHUNK_SIZE + 5, data.size());
+        data.resize(2 * CHUNK_SIZE + 5);
+        final byte[] actual = read(0, 2 * CHUNK_SIZE + 5);
+        for (int i = 0; i < actual.length; i++) {
+            assertEquals(i < CHUNK_SIZE + 5 ? content[i] : 0, actual[i], "index " + i);
+        }
+        data.resize(0);
+        assertEquals(0, data.size());
+        assertEquals(-1, data.read(0, new byte[1], 0, 1));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        final byte[] content = bytes(2 * CHUNK_SIZE + 5, 4);
+        data.write(0, content, 0, content.length);
+        data.setLastModified(1_000_000L);
+        final RamFileData copy = roundTrip(data);
+        assertEquals(content.length, copy.size());
+        final byte[] actual = new byte[content.length];
+        assertEquals(content.length, copy.read(0, actual, 0, actual.length));
+        assertArrayEquals(content, actual);
+        assertEquals(1_000_000L, copy.getLastModified());
+    }
+
+    @Test
+    public void testWriteAtPosition() throws IOException {
+        data.write(CHUNK_SIZE - 2, bytes(4, 9), 0, 4);
+        assertEquals(CHUNK_SIZE + 2, data.size());
+        assertArrayEquals(new byte[4], read(0, 4));
+        assertArrayEquals(bytes(4, 9), read(CHUNK_SIZE - 2, 4));
+    }
+
+}
@@ -24,6 +24,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 
 import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.RandomAccessContent;
 import org.apache.commons.vfs2.VFS;
 import org.apache.commons.vfs2.util.RandomAccessMode;
 import org.junit.jupiter.api.Test;
@@ -59,4 +60,29 @@ public class RamFileRandomAccessContentTest {
         }
     }
 
+    @Test
+    public void testSeekAcrossChunks() throws IOException {
+        final FileObject file = VFS.getManager().resolveFile("ram://chunks");
+        file.createFile();
+        final long length = 3L * RamFileData.CHUNK_SIZE + 17;
+        try (RandomAccessContent rac = new RamFileRandomAccessContent((RamFileObject) file, RandomAccessMode.READWRITE)) {
+            rac.setLength(length);
+            assertEquals(length, rac.length());
+            rac.seek(RamFileData.CHUNK_SIZE - 3);
+            rac.writeLong(0x0102030405060708L);
+            rac.seek(length - 1);
+            rac.writeByte(0x7F);
+            assertEquals(length, rac.length());
+
+            rac.seek(RamFileData.CHUNK_SIZE - 3);
+            assertEquals(0x0102030405060708L, rac.readLong());
+            assertEquals(RamFileData.CHUNK_SIZE + 5, rac.getFilePointer());
+            rac.seek(length - 2);
+            assertEquals(0, rac.readByte());
+            assertEquals(0x7F, rac.readByte());
+        } finally {
+            file.delete();
+        }
+    }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.ram;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.DefaultFileSystemConfigBuilder;
+import org.apache.commons.vfs2.impl.DefaultFileSystemManager;
+import org.apache.commons.vfs2.provider.AbstractFileSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DefaultFileSystemConfigBuilder#setFineGrainedLocking(FileSystemOptions, boolean)} with many threads.
+ */
+public class RamFileSystemFineGrainedLockingTest {
+
+    private static final int FILES = 50;
+
+    private static final int FOLDERS = 8;
+
+    private static final int THREADS = 16;
+
+    private DefaultFileSystemManager manager;
+
+    private FileObject root;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        manager = new DefaultFileSystemManager();
+        manager.addProvider("ram", new RamFileProvider());
+        manager.init();
+        final FileSystemOptions options = new FileSystemOptions();
+        DefaultFileSystemConfigBuilder.getInstance().setFineGrainedLocking(options, true);
+        root = manager.resolveFile("ram:///", options);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    public void testConcurrentCreateAndList() throws Exception {
+        assertTrue(((AbstractFileSystem) root.getFileSystem()).isFineGrainedLocking());
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < FILES; i++) {
+                        // Threads share folders, and create distinct files in them
+                        final FileObject folder = root.resolveFile("folder" + (i + thread) % FOLDERS);
+                        folder.resolveFile("file-" + thread + "-" + i).createFile();
+                        folder.getChildren();
+                        folder.getParent().getChildren();
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int count = 0;
+        for (final FileObject folder : root.getChildren()) {
+            assertTrue(folder.isFolder());
+            count += folder.getChildren().length;
+        }
+        assertEquals(FOLDERS, root.getChildren().length);
+        assertEquals(THREADS * FILES, count);
+    }
+
+    @Test
+    public void testDefaultLocking() throws Exception {
+        final FileObject defaultRoot = manager.resolveFile("ram:///");
+        assertNotSame(root.getFileSystem(), defaultRoot.getFileSystem());
+        assertFalse(((AbstractFileSystem) defaultRoot.getFileSystem()).isFineGrainedLocking());
+    }
+
+}
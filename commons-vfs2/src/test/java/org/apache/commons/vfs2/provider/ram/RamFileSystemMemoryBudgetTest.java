@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.ram;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.DefaultFileReplicator;
+import org.apache.commons.vfs2.impl.DefaultFileSystemManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RamFileSystemConfigBuilder#setMemoryBudget(FileSystemOptions, long)}.
+ */
+public class RamFileSystemMemoryBudgetTest {
+
+    private static final int BUDGET = 4 * RamFileData.CHUNK_SIZE;
+
+    private static final int FILES = 8;
+
+    private static final int FILE_SIZE = 3 * RamFileData.CHUNK_SIZE / 2;
+
+    private static byte[] content(final int seed) {
+        final byte[] bytes = new byte[FILE_SIZE];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + seed);
+        }
+        return bytes;
+    }
+
+    private DefaultFileSystemManager manager;
+
+    private FileObject root;
+
+    private File tempDir;
+
+    private RamMemoryBudget budget() {
+        return ((RamFileSystem) root.getFileSystem()).getMemoryBudget();
+    }
+
+    private RamFileData data(final FileObject file) {
+        return ((RamFileObject) file).getData();
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        tempDir = Files.createTempDirectory("vfs-ram-budget").toFile();
+        manager = new DefaultFileSystemManager();
+        manager.addProvider("ram", new RamFileProvider());
+        manager.setTemporaryFileStore(new DefaultFileReplicator(tempDir));
+        manager.init();
+        final FileSystemOptions options = new FileSystemOptions();
+        RamFileSystemConfigBuilder.getInstance().setMemoryBudget(options, BUDGET);
+        root = manager.resolveFile("ram:///", options);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        manager.close();
+        FileUtils.deleteDirectory(tempDir);
+    }
+
+    @Test
+    public void testDefaultHasNoBudget() throws Exception {
+        assertEquals(Long.MAX_VALUE, RamFileSystemConfigBuilder.getInstance().getMemoryBudget(null));
+        assertNull(((RamFileSystem) manager.resolveFile("ram:///").getFileSystem()).getMemoryBudget());
+    }
+
+    @Test
+    public void testDeleteReleasesMemory() throws Exception {
+        final FileObject file = root.resolveFile("file.bin");
+        try (OutputStream out = file.getContent().getOutputStream()) {
+            out.write(content(0));
+        }
+        assertTrue(budget().getUsed() > 0);
+        file.delete();
+        assertEquals(0, budget().getUsed());
+    }
+
+    @Test
+    public void testSpillAndPageIn() throws Exception {
+        final FileObject[] files = new FileObject[FILES];
+        for (int i = 0; i < FILES; i++) {
+            files[i] = root.resolveFile("file" + i + ".bin");
+            try (OutputStream out = files[i].getContent().getOutputStream()) {
+                out.write(content(i));
+            }
+            assertTrue(budget().getUsed() <= BUDGET + FILE_SIZE, () -> "used " + budget().getUsed());
+        }
+        // The oldest files were spilled, the newest one stays resident
+        assertTrue(data(files[0]).isSpilled());
+        assertFalse(data(files[FILES - 1]).isSpilled());
+        assertTrue(budget().getUsed() <= BUDGET + FILE_SIZE);
+        for (int i = 0; i < FILES; i++) {
+            assertEquals(FILE_SIZE, files[i].getContent().getSize());
+            assertArrayEquals(content(i), files[i].getContent().getByteArray());
+            assertFalse(data(files[i]).isSpilled());
+        }
+        // Rename a spilled file
+        assertTrue(data(files[1]).isSpilled());
+        final FileObject renamed = root.resolveFile("renamed.bin");
+        files[1].moveTo(renamed);
+        assertArrayEquals(content(1), renamed.getContent().getByteArray());
+    }
+
+}
@@ -571,6 +571,16 @@ abstract class AbstractSftpProviderTestCase extends AbstractProviderTestConfig {
         }
     }
 
+    /**
+     * Lets subclasses set more options on the test file system.
+     *
+     * @param builder The SFTP config builder.
+     * @param fileSystemOptions The options to configure.
+     */
+    protected void configureFileSystemOptions(final SftpFileSystemConfigBuilder builder, final FileSystemOptions fileSystemOptions) {
+        // noop
+    }
+
     /**
      * Returns the base folder for tests.
      */
@@ -588,6 +598,7 @@ abstract class AbstractSftpProviderTestCase extends AbstractProviderTestConfig {
         builder.setIdentityRepositoryFactory(fileSystemOptions, new TestIdentityRepositoryFactory());
         builder.setConnectTimeout(fileSystemOptions, Duration.ofSeconds(60));
         builder.setSessionTimeout(fileSystemOptions, Duration.ofSeconds(60));
+        configureFileSystemOptions(builder, fileSystemOptions);
 
         final FileObject fileObject = manager.resolveFile(uri, fileSystemOptions);
         this.fileSystem = (SftpFileSystem) fileObject.getFileSystem();
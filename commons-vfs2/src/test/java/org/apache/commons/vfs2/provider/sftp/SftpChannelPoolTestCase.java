@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.sftp;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.vfs2.Capability;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Tests the SFTP channel pool.
+ */
+public class SftpChannelPoolTestCase extends AbstractSftpProviderTestCase {
+
+    private static final int MAX_IDLE_CHANNELS = 4;
+
+    private static final int SESSION_COUNT = 2;
+
+    /**
+     * Creates the test suite for the sftp file system.
+     */
+    public static junit.framework.Test suite() throws Exception {
+        return new SftpProviderTestSuite(new SftpChannelPoolTestCase()) {
+            @Override
+            protected void addBaseTests() throws Exception {
+                addTests(SftpChannelPoolTestCase.class);
+            }
+        };
+    }
+
+    @Override
+    protected void configureFileSystemOptions(final SftpFileSystemConfigBuilder builder, final FileSystemOptions fileSystemOptions) {
+        builder.setMaxIdleChannels(fileSystemOptions, MAX_IDLE_CHANNELS);
+        builder.setSessionCount(fileSystemOptions, SESSION_COUNT);
+        builder.setValidateChannelOnBorrow(fileSystemOptions, true);
+    }
+
+    private SftpChannelPool getChannelPool() throws Exception {
+        return ((SftpFileSystem) getReadFolder().getFileSystem()).getChannelPool();
+    }
+
+    /**
+     * Gets the capabilities required by the tests of this test case.
+     */
+    @Override
+    protected Capability[] getRequiredCapabilities() {
+        return new Capability[] { Capability.GET_TYPE, Capability.READ_CONTENT };
+    }
+
+    @Override
+    protected boolean isExecChannelClosed() {
+        return false;
+    }
+
+    /**
+     * Tests that concurrent reads share the pooled channels.
+     */
+    @Test
+    public void testConcurrentReads() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> {
+                    try (InputStream in = getReadFolder().resolveFile("file1.txt").getContent().getInputStream()) {
+                        return IOUtils.toString(in, StandardCharsets.UTF_8);
+                    }
+                }));
+            }
+            for (final Future<String> future : futures) {
+                Assertions.assertEquals(FILE1_CONTENT, future.get());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        final int idleCount = getChannelPool().getIdleCount();
+        Assertions.assertTrue(idleCount >= 1 && idleCount <= MAX_IDLE_CHANNELS, () -> "idle channels: " + idleCount);
+    }
+
+    /**
+     * Tests that at most {@link #MAX_IDLE_CHANNELS} channels stay idle.
+     */
+    @Test
+    public void testMaxIdleChannels() throws Exception {
+        final FileObject readFolder = getReadFolder();
+        final List<InputStream> inputStreams = new ArrayList<>();
+        try {
+            for (int i = 0; i < MAX_IDLE_CHANNELS * 2; i++) {
+                final FileObject file = getManager().resolveFile(readFolder, "file1.txt");
+                inputStreams.add(file.getContent().getInputStream());
+            }
+        } finally {
+            for (final InputStream inputStream : inputStreams) {
+                inputStream.close();
+            }
+        }
+        Assertions.assertEquals(MAX_IDLE_CHANNELS, getChannelPool().getIdleCount());
+        Assertions.assertTrue(Server.getActiveSessions().size() >= SESSION_COUNT);
+    }
+
+}
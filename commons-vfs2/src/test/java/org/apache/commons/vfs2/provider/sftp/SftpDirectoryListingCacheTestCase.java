@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.sftp;
+
+import java.time.Duration;
+
+import org.apache.commons.vfs2.Capability;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.FileType;
+import org.apache.commons.vfs2.provider.DirectoryListingCache;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import com.jcraft.jsch.SftpATTRS;
+
+/**
+ * Tests the SFTP directory listing cache.
+ */
+public class SftpDirectoryListingCacheTestCase extends AbstractSftpProviderTestCase {
+
+    /**
+     * Creates the test suite for the sftp file system.
+     */
+    public static junit.framework.Test suite() throws Exception {
+        return new SftpProviderTestSuite(new SftpDirectoryListingCacheTestCase()) {
+            @Override
+            protected void addBaseTests() throws Exception {
+                addTests(SftpDirectoryListingCacheTestCase.class);
+            }
+        };
+    }
+
+    @Override
+    protected void configureFileSystemOptions(final SftpFileSystemConfigBuilder builder, final FileSystemOptions fileSystemOptions) {
+        builder.setDirectoryListingCacheTtl(fileSystemOptions, Duration.ofMinutes(1));
+    }
+
+    private DirectoryListingCache<SftpATTRS> getDirectoryListingCache() throws Exception {
+        return ((SftpFileSystem) getReadFolder().getFileSystem()).getDirectoryListingCache();
+    }
+
+    /**
+     * Gets the capabilities required by the tests of this test case.
+     */
+    @Override
+    protected Capability[] getRequiredCapabilities() {
+        return new Capability[] { Capability.CREATE, Capability.DELETE, Capability.GET_TYPE, Capability.LIST_CHILDREN };
+    }
+
+    @Override
+    protected boolean isExecChannelClosed() {
+        return false;
+    }
+
+    /**
+     * Tests that creating a file invalidates the listing of its folder.
+     */
+    @Test
+    public void testCreateInvalidatesListing() throws Exception {
+        final FileObject folder = getWriteFolder().resolveFile("listing");
+        folder.deleteAll();
+        folder.createFolder();
+        try {
+            Assertions.assertEquals(0, folder.getChildren().length);
+            final FileObject file = folder.resolveFile("file.txt");
+            file.createFile();
+            folder.refresh();
+            Assertions.assertEquals(1, folder.getChildren().length);
+            file.delete();
+            folder.refresh();
+            Assertions.assertEquals(0, folder.getChildren().length);
+        } finally {
+            folder.deleteAll();
+        }
+    }
+
+    /**
+     * Tests that refreshed files get their type from the cached listing.
+     */
+    @Test
+    public void testListingIsShared() throws Exception {
+        final DirectoryListingCache<SftpATTRS> cache = getDirectoryListingCache();
+        final FileObject folder = getReadFolder();
+        final int childCount = folder.getChildren().length;
+        final long hitCount = cache.getHitCount();
+
+        folder.refresh();
+        Assertions.assertEquals(childCount, folder.getChildren().length);
+        Assertions.assertEquals(hitCount + 1, cache.getHitCount());
+
+        final FileObject file = folder.resolveFile("file1.txt");
+        Assertions.assertEquals(FileType.FILE, file.getType());
+        file.refresh();
+        Assertions.assertEquals(FileType.FILE, file.getType());
+        final FileObject missing = folder.resolveFile("missing.txt");
+        Assertions.assertEquals(FileType.IMAGINARY, missing.getType());
+        Assertions.assertEquals(hitCount + 3, cache.getHitCount());
+    }
+
+}
@@ -17,6 +17,8 @@
 package org.apache.commons.vfs2.provider.sftp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 
@@ -30,6 +32,25 @@ public class SftpFileSystemConfigBuilderTest {
 
     private static final Duration ONE_MINUTE = Duration.ofMinutes(1);
 
+    @Test
+    public void testChannelPool() {
+        final FileSystemOptions options = new FileSystemOptions();
+        final SftpFileSystemConfigBuilder builder = SftpFileSystemConfigBuilder.getInstance();
+        assertEquals(Duration.ZERO, builder.getChannelIdleTimeout(options));
+        assertEquals(1, builder.getMaxIdleChannels(options));
+        assertEquals(1, builder.getSessionCount(options));
+        assertFalse(builder.isValidateChannelOnBorrow(options));
+        //
+        builder.setChannelIdleTimeout(options, ONE_MINUTE);
+        builder.setMaxIdleChannels(options, 8);
+        builder.setSessionCount(options, 2);
+        builder.setValidateChannelOnBorrow(options, true);
+        assertEquals(ONE_MINUTE, builder.getChannelIdleTimeout(options));
+        assertEquals(8, builder.getMaxIdleChannels(options));
+        assertEquals(2, builder.getSessionCount(options));
+        assertTrue(builder.isValidateChannelOnBorrow(options));
+    }
+
     @Test
     public void testConnectTimeout() {
         final FileSystemOptions options = new FileSystemOptions();
@@ -43,6 +64,15 @@ public class SftpFileSystemConfigBuilderTest {
         assertEquals(ONE_MINUTE.toMillis(), (long) builder.getConnectTimeoutMillis(options));
     }
 
+    @Test
+    public void testDirectoryListingCacheTtl() {
+        final FileSystemOptions options = new FileSystemOptions();
+        final SftpFileSystemConfigBuilder builder = SftpFileSystemConfigBuilder.getInstance();
+        assertEquals(Duration.ZERO, builder.getDirectoryListingCacheTtl(options));
+        builder.setDirectoryListingCacheTtl(options, ONE_MINUTE);
+        assertEquals(ONE_MINUTE, builder.getDirectoryListingCacheTtl(options));
+    }
+
     @Test
     public void testSessionTimeout() {
         final FileSystemOptions options = new FileSystemOptions();
@@ -16,19 +16,158 @@
  */
 package org.apache.commons.vfs2.provider.tar;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
-
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.function.IOFunction;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileSystemManager;
 import org.apache.commons.vfs2.FilesCache;
+import org.apache.commons.vfs2.Selectors;
+import org.apache.commons.vfs2.VFS;
 import org.apache.commons.vfs2.cache.WeakRefFilesCache;
 import org.apache.commons.vfs2.impl.StandardFileSystemManager;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class TarFileSystemTest {
 
+    private static final File READ_TESTS = new File("src/test/resources/test-data/read-tests");
+
+    @TempDir
+    private Path tempDir;
+
+    private static void assertContent(final FileObject file) throws Exception {
+        final String path = file.getName().getPathDecoded().substring("/read-tests/".length());
+        assertArrayEquals(Files.readAllBytes(new File(READ_TESTS, path).toPath()), file.getContent().getByteArray(),
+            path);
+    }
+
+    private static byte[] newContent(final char c) {
+        // Larger than the buffers of the content streams
+        final byte[] content = new byte[64 * 1024];
+        Arrays.fill(content, (byte) c);
+        return content;
+    }
+
+    private static void testReadEntriesInterleaved(final FileObject first, final byte[] firstContent,
+        final FileObject second, final byte[] secondContent) throws Exception {
+        try (InputStream firstIn = first.getContent().getInputStream()) {
+            assertEquals(firstContent[0], firstIn.read());
+            try (InputStream secondIn = second.getContent().getInputStream()) {
+                assertArrayEquals(secondContent, IOUtils.toByteArray(secondIn));
+            }
+            assertArrayEquals(Arrays.copyOfRange(firstContent, 1, firstContent.length), IOUtils.toByteArray(firstIn));
+        }
+        // Both entries can be read again once their streams are closed
+        assertArrayEquals(firstContent, first.getContent().getByteArray());
+        assertArrayEquals(secondContent, second.getContent().getByteArray());
+    }
+
+    private static void writeTar(final Path path, final IOFunction<OutputStream, OutputStream> compressor,
+        final byte[] aContent, final byte[] bContent) throws IOException {
+        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
+            compressor.apply(Files.newOutputStream(path)))) {
+            writeTarEntry(out, "a.txt", aContent);
+            writeTarEntry(out, "b.txt", bContent);
+        }
+    }
+
+    private static void writeTarEntry(final TarArchiveOutputStream out, final String name, final byte[] content)
+        throws IOException {
+        final TarArchiveEntry entry = new TarArchiveEntry(name);
+        entry.setSize(content.length);
+        out.putArchiveEntry(entry);
+        out.write(content);
+        out.closeArchiveEntry();
+    }
+
+    private static void testReadEntries(final String scheme, final String filePath) throws Exception {
+        final FileSystemManager manager = VFS.getManager();
+        try (FileObject archive = manager
+            .resolveFile(scheme + ":file:" + new File(filePath).getAbsolutePath() + "!/read-tests")) {
+            final List<FileObject> files = new ArrayList<>(Arrays.asList(archive.findFiles(Selectors.SELECT_FILES)));
+            assertEquals(19, files.size());
+            for (final FileObject file : files) {
+                assertContent(file);
+            }
+            Collections.reverse(files);
+            for (final FileObject file : files) {
+                assertContent(file);
+            }
+            // Read an entry partially, then again from the start
+            final FileObject file = archive.resolveFile("file1.txt");
+            try (InputStream in = file.getContent().getInputStream()) {
+                assertEquals('T', in.read());
+            }
+            assertContent(file);
+        }
+    }
+
+    @Test
+    public void testReadTarEntries() throws Exception {
+        testReadEntries("tar", "src/test/resources/test-data/test.tar");
+    }
+
+    @Test
+    public void testReadTbz2Entries() throws Exception {
+        testReadEntries("tbz2", "src/test/resources/test-data/test.tbz2");
+    }
+
+    @Test
+    public void testReadTgzEntries() throws Exception {
+        testReadEntries("tgz", "src/test/resources/test-data/test.tgz");
+    }
+
+    @Test
+    public void testReadTarEntriesInterleaved() throws Exception {
+        testReadEntriesInterleaved("tar", out -> out);
+    }
+
+    @Test
+    public void testReadTbz2EntriesInterleaved() throws Exception {
+        testReadEntriesInterleaved("tbz2", BZip2CompressorOutputStream::new);
+    }
+
+    @Test
+    public void testReadTgzEntriesInterleaved() throws Exception {
+        testReadEntriesInterleaved("tgz", GZIPOutputStream::new);
+    }
+
+    private void testReadEntriesInterleaved(final String scheme,
+        final IOFunction<OutputStream, OutputStream> compressor) throws Exception {
+        final byte[] aContent = newContent('a');
+        final byte[] bContent = newContent('b');
+        final Path path = tempDir.resolve("test." + scheme);
+        writeTar(path, compressor, aContent, bContent);
+        final FileSystemManager manager = VFS.getManager();
+        try (FileObject archive = manager.resolveFile(scheme + ":" + path.toUri() + "!/")) {
+            final FileObject a = archive.resolveFile("a.txt");
+            final FileObject b = archive.resolveFile("b.txt");
+            // The second entry comes after the first in the archive, then before it
+            testReadEntriesInterleaved(a, aContent, b, bContent);
+            testReadEntriesInterleaved(b, bContent, a, aContent);
+        }
+    }
+
     @Test
     public void testTarFileUseDefaultFilesCache() throws FileSystemException {
         testUseWeakRefFilesCache("tar", "src/test/resources/test-data/test.tar", null);
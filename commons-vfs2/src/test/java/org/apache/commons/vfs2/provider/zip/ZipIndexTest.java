@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.vfs2.provider.zip;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ZipIndex}.
+ */
+public class ZipIndexTest {
+
+    private static ZipIndex build(final String... names) throws IOException {
+        final File file = Files.createTempFile("vfs-zip-index", ".zip").toFile();
+        try {
+            try (OutputStream out = Files.newOutputStream(file.toPath()); ZipOutputStream zip = new ZipOutputStream(out)) {
+                for (final String name : names) {
+                    zip.putNextEntry(new ZipEntry(name));
+                    zip.closeEntry();
+                }
+            }
+            try (ZipFile zipFile = new ZipFile(file)) {
+                return ZipIndex.build(zipFile.entries());
+            }
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    public void testEntryNames() throws IOException {
+        final ZipIndex index = build("b/", "b/c.txt", "a.txt", "d/e/f.txt", "été.txt");
+        assertEquals(5, index.size());
+        assertEquals("a.txt", index.getEntryName("a.txt"));
+        assertEquals("b/", index.getEntryName("b"));
+        assertEquals("été.txt", index.getEntryName("été.txt"));
+        assertNull(index.getEntryName("d"));
+        assertNull(index.getEntryName("c.txt"));
+        assertNull(index.getEntryName(""));
+    }
+
+    @Test
+    public void testFolders() throws IOException {
+        final ZipIndex index = build("b/", "b/c.txt", "a.txt", "d/e/f.txt");
+        assertTrue(index.isFolder(""));
+        assertTrue(index.isFolder("b"));
+        assertTrue(index.isFolder("d"));
+        assertTrue(index.isFolder("d/e"));
+        assertFalse(index.isFolder("a.txt"));
+        assertFalse(index.isFolder("d/e/f.txt"));
+        assertFalse(index.isFolder("x"));
+    }
+
+    @Test
+    public void testListChildren() throws IOException {
+        // Children are not adjacent: "a/b.txt" sorts before "a/b/c.txt" since '.' sorts before '/'
+        final ZipIndex index = build("a/b/c.txt", "a/b.txt", "a/b/d.txt", "a/b0/e.txt", "f.txt");
+        assertArrayEquals(new String[] {"a", "f.txt"}, index.listChildren(""));
+        assertArrayEquals(new String[] {"b.txt", "b", "b0"}, index.listChildren("a"));
+        assertArrayEquals(new String[] {"c.txt", "d.txt"}, index.listChildren("a/b"));
+        assertArrayEquals(new String[0], index.listChildren("f.txt"));
+    }
+
+    @Test
+    public void testNotNormalized() throws IOException {
+        assertNull(build("a.txt", "/b.txt"));
+        assertNull(build("a//b.txt"));
+        assertNull(build("a/./b.txt"));
+        assertNull(build("a/../b.txt"));
+        assertNull(build("a\\b.txt"));
+    }
+
+}